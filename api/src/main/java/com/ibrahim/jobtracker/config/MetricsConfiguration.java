@@ -0,0 +1,37 @@
+package com.ibrahim.jobtracker.config;
+
+import com.ibrahim.jobtracker.security.UserDetailsCache;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@code @Timed} on Spring beans (JWT, user lookup, mapping). Repository calls, Hikari and Hibernate are
+ * instrumented by Spring Boot itself; see {@code management.*} in {@code application.yml}.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder userDetailsCacheMetrics(UserDetailsCache userDetailsCache) {
+        return registry -> {
+            FunctionCounter.builder("jobtracker.users.cache.gets", userDetailsCache, cache -> cache.stats().hitCount())
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("jobtracker.users.cache.gets", userDetailsCache, cache -> cache.stats().missCount())
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("jobtracker.users.cache.size", userDetailsCache, UserDetailsCache::size)
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.ibrahim.jobtracker.config;
+
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Spring Boot quietly keeps platform threads when {@code spring.threads.virtual.enabled} is set on an older runtime,
+ * so the {@code virtual-threads} profile refuses to start there instead of silently doing nothing.
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfiguration {
+
+    public VirtualThreadsConfiguration() {
+        if (!JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            throw new IllegalStateException("The virtual-threads profile requires Java 21 or newer, running on "
+                    + System.getProperty("java.version"));
+        }
+    }
+}
@@ -0,0 +1,430 @@
+package com.ibrahim.jobtracker.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import com.ibrahim.jobtracker.dto.BatchItemResult;
+import com.ibrahim.jobtracker.dto.BatchResponse;
+import com.ibrahim.jobtracker.dto.CursorPageResponse;
+import com.ibrahim.jobtracker.dto.ExportFormat;
+import com.ibrahim.jobtracker.dto.JobApplicationBatchUpdateRequest;
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
+import com.ibrahim.jobtracker.dto.JobApplicationResponse;
+import com.ibrahim.jobtracker.dto.JobApplicationStatsResponse;
+import com.ibrahim.jobtracker.dto.JobChangesResponse;
+import com.ibrahim.jobtracker.dto.JobFilter;
+import com.ibrahim.jobtracker.dto.JobFunnelResponse;
+import com.ibrahim.jobtracker.dto.JobImportResponse;
+import com.ibrahim.jobtracker.dto.JobListFields;
+import com.ibrahim.jobtracker.dto.JobTimeseriesResponse;
+import com.ibrahim.jobtracker.dto.PageResponse;
+import com.ibrahim.jobtracker.dto.TimeBucket;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.security.CurrentUserResolver;
+import com.ibrahim.jobtracker.service.JobApplicationService;
+import com.ibrahim.jobtracker.service.JobBulkLoadService;
+import com.ibrahim.jobtracker.service.JobEventService;
+import com.ibrahim.jobtracker.service.JobExportService;
+import com.ibrahim.jobtracker.service.JobFunnelService;
+import com.ibrahim.jobtracker.service.JobImportService;
+import com.ibrahim.jobtracker.service.JobSyncService;
+import com.ibrahim.jobtracker.service.JobTimeseriesService;
+import com.ibrahim.jobtracker.util.JobApplicationCursor;
+import com.ibrahim.jobtracker.util.JobApplicationETags;
+import com.ibrahim.jobtracker.util.JobSearchCursor;
+import com.ibrahim.jobtracker.util.JobSyncToken;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@Slf4j
+@Validated
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('USER','ADMIN')")
+@RequestMapping("/api/jobs")
+public class JobApplicationController {
+
+    private static final int MAX_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final int MAX_COMPANY_PREFIX_LENGTH = 100;
+    private static final Set<String> TOTAL_MODES = Set.of("true", "false", "approximate");
+    // Clients may keep responses but must revalidate them with If-None-Match before reuse.
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final JobApplicationService service;
+    private final JobExportService exportService;
+    private final JobImportService importService;
+    private final JobBulkLoadService bulkLoadService;
+    private final JobEventService eventService;
+    private final JobSyncService syncService;
+    private final JobTimeseriesService timeseriesService;
+    private final JobFunnelService funnelService;
+    private final CurrentUserResolver currentUserResolver;
+
+    @GetMapping
+    public ResponseEntity<PageResponse<JobApplicationResponse>> getJobs(
+            @RequestParam(name = "status", required = false) Set<ApplicationStatus> statuses,
+            @RequestParam(name = "appliedFrom", required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate appliedFrom,
+            @RequestParam(name = "appliedTo", required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate appliedTo,
+            @RequestParam(name = "company", required = false) @Size(max = MAX_COMPANY_PREFIX_LENGTH) String company,
+            @RequestParam(name = "updatedSince", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) Instant updatedSince,
+            @RequestParam(name = "page", defaultValue = "0") @Min(0) int page,
+            @RequestParam(name = "size", defaultValue = "10") @Min(1) @Max(MAX_SIZE) int size,
+            @RequestParam(name = "sort", defaultValue = "desc") String sort,
+            @RequestParam(name = "withTotal", defaultValue = "true") String withTotal,
+            @RequestParam(name = "fields", defaultValue = "all") String fields,
+            Authentication authentication,
+            WebRequest webRequest
+    ) {
+        Sort.Direction direction = "asc".equalsIgnoreCase(sort) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(direction, "appliedDate"));
+        boolean isAdmin = hasRole(authentication, "ROLE_ADMIN");
+        log.debug("GET /api/jobs by user={} admin={} page={} size={} status={} sort={} withTotal={}",
+                authentication.getName(), isAdmin, page, size, statuses, sort, withTotal);
+
+        String totalMode = withTotal.toLowerCase();
+        if (!TOTAL_MODES.contains(totalMode)) {
+            throw new IllegalArgumentException("withTotal must be one of: true, false, approximate");
+        }
+        JobListFields listFields = JobListFields.from(fields);
+        JobFilter filter = jobFilter(statuses, appliedFrom, appliedTo, company, updatedSince);
+
+        Long userId = currentUserId(authentication, isAdmin);
+        // The version is read before the page, so a concurrent write can leave the tag older than the body but never
+        // newer; If-None-Match short-circuits before any listing or count query runs.
+        if (webRequest.checkNotModified(JobApplicationETags.jobs(userId, service.getJobsVersion(userId, isAdmin)))) {
+            return null;
+        }
+        if ("false".equals(totalMode)) {
+            return revalidated(PageResponse.from(service.getJobSlice(filter, pageRequest, listFields, userId, isAdmin)));
+        }
+        // Planner estimates only exist per status, so other filters always get an exact count.
+        if ("approximate".equals(totalMode) && isAdmin && filter.isStatusOnly()) {
+            OptionalLong estimate = service.estimateJobCount(filter.singleStatus());
+            if (estimate.isPresent()) {
+                Slice<JobApplicationResponse> slice = service.getJobSlice(filter, pageRequest, listFields, userId, true);
+                return revalidated(PageResponse.approximate(slice, estimate.getAsLong()));
+            }
+        }
+
+        Page<JobApplicationResponse> jobPage = service.getJobs(filter, pageRequest, listFields, userId, isAdmin);
+        return revalidated(PageResponse.from(jobPage));
+    }
+
+    @GetMapping(params = "pagination=cursor")
+    public ResponseEntity<CursorPageResponse<JobApplicationResponse>> getJobsByCursor(
+            @RequestParam(name = "status", required = false) Set<ApplicationStatus> statuses,
+            @RequestParam(name = "appliedFrom", required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate appliedFrom,
+            @RequestParam(name = "appliedTo", required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate appliedTo,
+            @RequestParam(name = "company", required = false) @Size(max = MAX_COMPANY_PREFIX_LENGTH) String company,
+            @RequestParam(name = "updatedSince", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) Instant updatedSince,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "size", defaultValue = "10") @Min(1) @Max(MAX_SIZE) int size,
+            @RequestParam(name = "sort", defaultValue = "desc") String sort,
+            @RequestParam(name = "fields", defaultValue = "all") String fields,
+            Authentication authentication,
+            WebRequest webRequest
+    ) {
+        Sort.Direction direction = "asc".equalsIgnoreCase(sort) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        boolean isAdmin = hasRole(authentication, "ROLE_ADMIN");
+        log.debug("GET /api/jobs (cursor) by user={} admin={} size={} status={} sort={}",
+                authentication.getName(), isAdmin, size, statuses, sort);
+
+        KeysetScrollPosition position = JobApplicationCursor.decode(after);
+        JobListFields listFields = JobListFields.from(fields);
+        JobFilter filter = jobFilter(statuses, appliedFrom, appliedTo, company, updatedSince);
+        Long userId = currentUserId(authentication, isAdmin);
+        if (webRequest.checkNotModified(JobApplicationETags.jobs(userId, service.getJobsVersion(userId, isAdmin)))) {
+            return null;
+        }
+
+        Window<JobApplicationResponse> window = service.getJobWindow(
+                filter,
+                position,
+                size,
+                direction,
+                listFields,
+                userId,
+                isAdmin
+        );
+        String nextCursor = window.hasNext() ? JobApplicationCursor.encode(window.positionAt(window.size() - 1)) : null;
+        return revalidated(CursorPageResponse.of(window.getContent(), size, nextCursor));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponse<JobApplicationResponse>> search(
+            @RequestParam(name = "q") @NotBlank @Size(max = MAX_QUERY_LENGTH) String query,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "size", defaultValue = "10") @Min(1) @Max(MAX_SIZE) int size,
+            @RequestParam(name = "fields", defaultValue = "all") String fields,
+            Authentication authentication,
+            WebRequest webRequest
+    ) {
+        log.debug("GET /api/jobs/search by user={} size={}", authentication.getName(), size);
+
+        KeysetScrollPosition position = JobSearchCursor.decode(after);
+        JobListFields listFields = JobListFields.from(fields);
+        Long userId = currentUserResolver.resolveUserId(authentication);
+        if (webRequest.checkNotModified(JobApplicationETags.jobs(userId, service.getJobsVersion(userId, false)))) {
+            return null;
+        }
+
+        Window<JobApplicationResponse> window = service.searchJobs(query, position, size, listFields, userId);
+        String nextCursor = window.hasNext() ? JobSearchCursor.encode(window.positionAt(window.size() - 1)) : null;
+        return revalidated(CursorPageResponse.of(window.getContent(), size, nextCursor));
+    }
+
+    @GetMapping("/search/companies")
+    public List<String> suggestCompanies(
+            @RequestParam(name = "q") @NotBlank @Size(max = MAX_QUERY_LENGTH) String query,
+            @RequestParam(name = "limit", defaultValue = "10") @Min(1) @Max(MAX_SUGGESTIONS) int limit,
+            Authentication authentication
+    ) {
+        log.debug("GET /api/jobs/search/companies by user={} limit={}", authentication.getName(), limit);
+        return service.suggestCompanies(query, limit, currentUserResolver.resolveUserId(authentication));
+    }
+
+    @GetMapping("/changes")
+    public JobChangesResponse changes(
+            @RequestParam(name = "since", required = false) String since,
+            @RequestParam(name = "limit", defaultValue = "100") @Min(1) @Max(MAX_BATCH_SIZE) int limit,
+            Authentication authentication
+    ) {
+        log.debug("GET /api/jobs/changes by user={} limit={} full={}", authentication.getName(), limit, since == null);
+        JobSyncToken token = JobSyncToken.decode(since);
+        return syncService.changesSince(token, limit, currentUserResolver.resolveUserId(authentication));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(Authentication authentication) {
+        log.debug("GET /api/jobs/events by user={}", authentication.getName());
+        return eventService.subscribe(currentUserResolver.resolveUserId(authentication));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            Authentication authentication
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        Long userId = currentUserResolver.resolveUserId(authentication);
+        log.debug("GET /api/jobs/export by user={} format={}", authentication.getName(), exportFormat);
+
+        StreamingResponseBody body = out -> exportService.export(userId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("job-applications." + exportFormat.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<JobImportResponse> importJobs(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestParam(name = "mode", defaultValue = "rows") String mode,
+            InputStream body,
+            Authentication authentication
+    ) throws IOException {
+        ExportFormat format = ExportFormat.fromMediaType(contentType);
+        log.debug("POST /api/jobs/import by user={} format={} mode={}", authentication.getName(), format, mode);
+
+        if ("copy".equalsIgnoreCase(mode)) {
+            if (!hasRole(authentication, "ROLE_ADMIN")) {
+                throw new AccessDeniedException("Only admins can use copy imports");
+            }
+            return ResponseEntity.ok(bulkLoadService.load(format, body));
+        }
+        if (!"rows".equalsIgnoreCase(mode)) {
+            throw new IllegalArgumentException("mode must be one of: rows, copy");
+        }
+
+        Long userId = currentUserResolver.resolveUserId(authentication);
+        return ResponseEntity.ok(importService.importJobs(userId, format, body));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<JobApplicationStatsResponse> getStats(Authentication authentication, WebRequest webRequest) {
+        boolean isAdmin = hasRole(authentication, "ROLE_ADMIN");
+        log.debug("GET /api/jobs/stats by user={} admin={}", authentication.getName(), isAdmin);
+        Long userId = currentUserId(authentication, isAdmin);
+        if (webRequest.checkNotModified(JobApplicationETags.stats(userId, service.getJobsVersion(userId, isAdmin)))) {
+            return null;
+        }
+        return revalidated(service.getStats(userId, isAdmin));
+    }
+
+    @GetMapping("/stats/timeseries")
+    public JobTimeseriesResponse getTimeseries(
+            @RequestParam(name = "bucket", defaultValue = "week") String bucket,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate to,
+            Authentication authentication
+    ) {
+        boolean isAdmin = hasRole(authentication, "ROLE_ADMIN");
+        log.debug("GET /api/jobs/stats/timeseries by user={} admin={} bucket={} from={} to={}",
+                authentication.getName(), isAdmin, bucket, from, to);
+        return timeseriesService.getTimeseries(
+                TimeBucket.from(bucket), from, to, currentUserId(authentication, isAdmin), isAdmin);
+    }
+
+    @GetMapping("/stats/funnel")
+    public JobFunnelResponse getFunnel(Authentication authentication) {
+        boolean isAdmin = hasRole(authentication, "ROLE_ADMIN");
+        log.debug("GET /api/jobs/stats/funnel by user={} admin={}", authentication.getName(), isAdmin);
+        return funnelService.getFunnel(currentUserId(authentication, isAdmin), isAdmin);
+    }
+
+    @PostMapping
+    public ResponseEntity<JobApplicationResponse> create(
+            @Valid @RequestBody JobApplicationRequest request,
+            Authentication authentication
+    ) {
+        log.debug("POST /api/jobs by user={}", authentication.getName());
+        Long userId = currentUserResolver.resolveUserId(authentication);
+        JobApplicationResponse created = service.create(request, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(JobApplicationETags.job(created.getVersion())).body(created);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<JobApplicationResponse> update(
+            @PathVariable Long id,
+            @Valid @RequestBody JobApplicationRequest request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            Authentication authentication
+    ) {
+        boolean isAdmin = hasRole(authentication, "ROLE_ADMIN");
+        log.debug("PUT /api/jobs/{} by user={} admin={} ifMatch={}", id, authentication.getName(), isAdmin, ifMatch);
+        JobApplicationResponse updated = service.update(
+                id, request, JobApplicationETags.expectedVersion(ifMatch), currentUserId(authentication, isAdmin), isAdmin);
+        return ResponseEntity.ok().eTag(JobApplicationETags.job(updated.getVersion())).body(updated);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id, Authentication authentication) {
+        boolean isAdmin = hasRole(authentication, "ROLE_ADMIN");
+        log.debug("DELETE /api/jobs/{} by user={} admin={}", id, authentication.getName(), isAdmin);
+        service.delete(id, currentUserId(authentication, isAdmin), isAdmin);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponse> createBatch(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid JobApplicationRequest> requests,
+            Authentication authentication
+    ) {
+        log.debug("POST /api/jobs/batch by user={} items={}", authentication.getName(), requests.size());
+        Long userId = currentUserResolver.resolveUserId(authentication);
+        List<JobApplicationResponse> created = service.createAll(requests, userId);
+        List<BatchItemResult> results = new ArrayList<>(created.size());
+        for (int i = 0; i < created.size(); i++) {
+            JobApplicationResponse job = created.get(i);
+            results.add(BatchItemResult.builder()
+                    .index(i)
+                    .id(job.getId())
+                    .outcome(BatchItemResult.Outcome.CREATED)
+                    .job(job)
+                    .build());
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(BatchResponse.of(results));
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<BatchResponse> updateBatch(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid JobApplicationBatchUpdateRequest> requests,
+            Authentication authentication
+    ) {
+        boolean isAdmin = hasRole(authentication, "ROLE_ADMIN");
+        log.debug("PUT /api/jobs/batch by user={} admin={} items={}", authentication.getName(), isAdmin, requests.size());
+        return ResponseEntity.ok(BatchResponse.of(
+                service.updateAll(requests, currentUserId(authentication, isAdmin), isAdmin)));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<BatchResponse> deleteBatch(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@NotNull Long> ids,
+            Authentication authentication
+    ) {
+        boolean isAdmin = hasRole(authentication, "ROLE_ADMIN");
+        log.debug("DELETE /api/jobs/batch by user={} admin={} items={}", authentication.getName(), isAdmin, ids.size());
+        return ResponseEntity.ok(BatchResponse.of(
+                service.deleteAll(ids, currentUserId(authentication, isAdmin), isAdmin)));
+    }
+
+    private <T> ResponseEntity<T> revalidated(T body) {
+        // The ETag itself was already set by checkNotModified.
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(body);
+    }
+
+    private static JobFilter jobFilter(
+            Set<ApplicationStatus> statuses,
+            LocalDate appliedFrom,
+            LocalDate appliedTo,
+            String company,
+            Instant updatedSince
+    ) {
+        return JobFilter.builder()
+                .statuses(statuses)
+                .appliedFrom(appliedFrom)
+                .appliedTo(appliedTo)
+                .companyPrefix(company)
+                .updatedSince(updatedSince)
+                .build();
+    }
+
+    private Long currentUserId(Authentication authentication, boolean isAdmin) {
+        return isAdmin ? null : currentUserResolver.resolveUserId(authentication);
+    }
+
+    private boolean hasRole(Authentication authentication, String role) {
+        return authentication.getAuthorities().stream()
+                .anyMatch(authority -> role.equals(authority.getAuthority()));
+    }
+}
@@ -0,0 +1,27 @@
+package com.ibrahim.jobtracker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult {
+    private int index;
+    private Long id;
+    private Outcome outcome;
+    private String message;
+    private JobApplicationResponse job;
+
+    public boolean isSucceeded() {
+        return outcome != Outcome.NOT_FOUND;
+    }
+
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        DELETED,
+        NOT_FOUND
+    }
+}
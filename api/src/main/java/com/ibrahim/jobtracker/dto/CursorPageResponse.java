@@ -0,0 +1,26 @@
+package com.ibrahim.jobtracker.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private int numberOfElements;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public static <T> CursorPageResponse<T> of(List<T> content, int size, String nextCursor) {
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .numberOfElements(content.size())
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.ibrahim.jobtracker.dto;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    public static ExportFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equals(value.toUpperCase(Locale.ROOT)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("format must be one of: ndjson, csv"));
+    }
+
+    public static ExportFormat fromMediaType(MediaType mediaType) {
+        return Arrays.stream(values())
+                .filter(format -> MediaType.parseMediaType(format.mediaType).equalsTypeAndSubtype(mediaType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Content-Type must be one of: text/csv, application/x-ndjson"));
+    }
+}
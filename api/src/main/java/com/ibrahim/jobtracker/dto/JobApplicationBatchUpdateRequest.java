@@ -0,0 +1,13 @@
+package com.ibrahim.jobtracker.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class JobApplicationBatchUpdateRequest extends JobApplicationRequest {
+
+    @NotNull(message = "Id is required")
+    private Long id;
+}
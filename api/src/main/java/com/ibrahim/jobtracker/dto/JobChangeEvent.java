@@ -0,0 +1,31 @@
+package com.ibrahim.jobtracker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Published by job writes and delivered to the owner's {@code GET /api/jobs/events} subscribers once the write commits.
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobChangeEvent {
+    private Type type;
+    private Long jobId;
+    private Long userId;
+    private ApplicationStatus previousStatus;
+    private JobApplicationResponse job;
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED;
+
+        public String eventName() {
+            return name().toLowerCase().replace('_', '-');
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.ibrahim.jobtracker.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * One page of incremental sync: jobs created or updated and ids of jobs deleted since the request's token. Clients
+ * upsert {@code changed}, remove {@code deleted} and keep {@code nextToken} for the next call.
+ */
+@Getter
+@Builder
+public class JobChangesResponse {
+    private List<JobApplicationResponse> changed;
+    private List<Long> deleted;
+    private boolean hasMore;
+    private String nextToken;
+}
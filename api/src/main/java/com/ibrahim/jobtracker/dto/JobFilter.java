@@ -0,0 +1,69 @@
+package com.ibrahim.jobtracker.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Listing filters; every criterion is optional and all given criteria must match. {@code statuses} matches any of
+ * the statuses, {@code appliedFrom}/{@code appliedTo} are inclusive and {@code companyPrefix} is case-insensitive.
+ */
+@Getter
+public class JobFilter {
+
+    private static final JobFilter NONE = builder().build();
+
+    private final Set<ApplicationStatus> statuses;
+    private final LocalDate appliedFrom;
+    private final LocalDate appliedTo;
+    private final String companyPrefix;
+    private final Instant updatedSince;
+
+    @Builder
+    private JobFilter(
+            Set<ApplicationStatus> statuses,
+            LocalDate appliedFrom,
+            LocalDate appliedTo,
+            String companyPrefix,
+            Instant updatedSince
+    ) {
+        if (appliedFrom != null && appliedTo != null && appliedFrom.isAfter(appliedTo)) {
+            throw new IllegalArgumentException("appliedFrom must not be after appliedTo");
+        }
+        this.statuses = statuses == null || statuses.isEmpty()
+                ? Set.of()
+                : Set.copyOf(EnumSet.copyOf(statuses));
+        this.appliedFrom = appliedFrom;
+        this.appliedTo = appliedTo;
+        this.companyPrefix = companyPrefix == null || companyPrefix.isBlank() ? null : companyPrefix.strip();
+        this.updatedSince = updatedSince;
+    }
+
+    public static JobFilter none() {
+        return NONE;
+    }
+
+    public static JobFilter ofStatus(ApplicationStatus status) {
+        return status == null ? NONE : builder().statuses(Set.of(status)).build();
+    }
+
+    /**
+     * Whether the filter is at most a single status, which the derived listing queries serve directly.
+     */
+    public boolean isStatusOnly() {
+        return statuses.size() <= 1 && appliedFrom == null && appliedTo == null && companyPrefix == null
+                && updatedSince == null;
+    }
+
+    /**
+     * The only status of a {@linkplain #isStatusOnly() status-only} filter, or {@code null} when it has none.
+     */
+    public ApplicationStatus singleStatus() {
+        return statuses.size() == 1 ? statuses.iterator().next() : null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ibrahim.jobtracker.dto;
+
+import java.util.List;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The APPLIED, INTERVIEW, OFFER funnel over existing jobs. A stage was reached by the jobs whose furthest stage is it or
+ * a later one, each counted once, and advanced by those of them that reached the next stage. {@code transitions} lists
+ * how many times each status change was recorded, including for jobs deleted since.
+ */
+@Getter
+@Builder
+public class JobFunnelResponse {
+    private List<Stage> stages;
+    private List<Transition> transitions;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stage {
+        private ApplicationStatus status;
+        private long reached;
+        private long advanced;
+        private double conversionRate;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Transition {
+        private ApplicationStatus from;
+        private ApplicationStatus to;
+        private long count;
+    }
+}
@@ -0,0 +1,25 @@
+package com.ibrahim.jobtracker.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class JobImportResponse {
+    private long imported;
+    private long failed;
+    private long durationMs;
+    private long rowsPerSecond;
+    private boolean errorsTruncated;
+    private List<LineError> errors;
+
+    @Getter
+    @AllArgsConstructor
+    public static class LineError {
+        private long line;
+        private String message;
+    }
+}
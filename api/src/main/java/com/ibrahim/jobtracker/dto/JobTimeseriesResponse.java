@@ -0,0 +1,41 @@
+package com.ibrahim.jobtracker.dto;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Jobs per status by applied date, one entry for every bucket between {@code from} and {@code to} including empty
+ * ones. The first and last buckets only count days inside the range.
+ */
+@Getter
+@Builder
+public class JobTimeseriesResponse {
+    private TimeBucket bucket;
+    private LocalDate from;
+    private LocalDate to;
+    private List<Bucket> buckets;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Bucket {
+        private LocalDate start;
+        private long total;
+        private Map<ApplicationStatus, Long> counts;
+
+        public static Bucket of(LocalDate start, Map<ApplicationStatus, Long> countsByStatus) {
+            Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+            for (ApplicationStatus status : ApplicationStatus.values()) {
+                counts.put(status, countsByStatus.getOrDefault(status, 0L));
+            }
+            long total = counts.values().stream().mapToLong(Long::longValue).sum();
+            return new Bucket(start, total, counts);
+        }
+    }
+}
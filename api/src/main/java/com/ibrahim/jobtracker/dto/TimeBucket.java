@@ -0,0 +1,30 @@
+package com.ibrahim.jobtracker.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Bucket size of job time series. Weeks start on Monday, as PostgreSQL's {@code date_trunc('week', ...)} does.
+ */
+public enum TimeBucket {
+    WEEK,
+    MONTH;
+
+    public static TimeBucket from(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("bucket must be one of: week, month");
+        }
+    }
+
+    public LocalDate start(LocalDate date) {
+        return this == WEEK ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : date.withDayOfMonth(1);
+    }
+
+    public LocalDate plus(LocalDate bucketStart, long buckets) {
+        return this == WEEK ? bucketStart.plusWeeks(buckets) : bucketStart.plusMonths(buckets);
+    }
+}
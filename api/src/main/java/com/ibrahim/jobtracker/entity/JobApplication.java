@@ -15,7 +15,11 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PastOrPresent;
@@ -36,17 +40,27 @@ import org.hibernate.annotations.UpdateTimestamp;
 @Entity
 @Table(
         name = "job_applications",
+        // The applied-date indexes also INCLUDE (status) in the migrations, which @Index cannot express.
         indexes = {
-                @Index(name = "idx_job_applications_status", columnList = "status"),
-                @Index(name = "idx_job_applications_company_name", columnList = "company_name"),
-                @Index(name = "idx_job_applications_applied_date", columnList = "applied_date"),
-                @Index(name = "idx_job_applications_user_id", columnList = "user_id")
+                @Index(
+                        name = "idx_job_applications_user_applied_date_id",
+                        columnList = "user_id, applied_date DESC, id DESC"
+                ),
+                @Index(
+                        name = "idx_job_applications_user_status_applied_date_id",
+                        columnList = "user_id, status, applied_date DESC, id DESC"
+                ),
+                @Index(name = "idx_job_applications_applied_date_id", columnList = "applied_date DESC, id DESC"),
+                @Index(name = "idx_job_applications_updated_at", columnList = "updated_at"),
+                @Index(name = "idx_job_applications_user_updated_at_id", columnList = "user_id, updated_at, id"),
+                @Index(name = "idx_job_applications_user_funnel_stage", columnList = "user_id, funnel_stage")
         }
 )
 public class JobApplication {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_applications_id_seq")
+    @SequenceGenerator(name = "job_applications_id_seq", sequenceName = "job_applications_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -85,4 +99,26 @@ public class JobApplication {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * The furthest of APPLIED, INTERVIEW and OFFER this job has been in. It never moves back, and REJECTED leaves it
+     * where it was, so a job created as REJECTED counts as APPLIED.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "funnel_stage", nullable = false, length = 32)
+    private ApplicationStatus funnelStage;
+
+    @PrePersist
+    @PreUpdate
+    public void trackFunnelStage() {
+        // With REJECTED mapped to APPLIED, declaration order ranks the stages.
+        ApplicationStatus stage = status == ApplicationStatus.REJECTED ? ApplicationStatus.APPLIED : status;
+        if (funnelStage == null || stage.ordinal() > funnelStage.ordinal()) {
+            funnelStage = stage;
+        }
+    }
 }
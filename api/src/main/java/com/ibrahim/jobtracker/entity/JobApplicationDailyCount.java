@@ -0,0 +1,29 @@
+package com.ibrahim.jobtracker.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Number of jobs, across all users, applied on one day with one status. Rebuilt for the days queued as
+ * {@link JobApplicationDirtyDay}s rather than updated by each write.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "job_application_daily_counts")
+public class JobApplicationDailyCount {
+
+    @EmbeddedId
+    private JobApplicationDailyCountId id;
+
+    @Column(name = "application_count", nullable = false)
+    private long applicationCount;
+}
@@ -0,0 +1,39 @@
+package com.ibrahim.jobtracker.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * An applied date whose {@link JobApplicationDailyCount}s are stale, written in the same transaction as the job change.
+ * Rows are only ever inserted by writers, so concurrent writes to the same day never wait on each other. They are
+ * written with plain JDBC ({@code JobApplicationDailyCountRepository#markDirty}); the entity only maps the table.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "job_application_dirty_days")
+public class JobApplicationDirtyDay {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_application_dirty_days_id_seq")
+    @SequenceGenerator(
+            name = "job_application_dirty_days_id_seq",
+            sequenceName = "job_application_dirty_days_id_seq",
+            allocationSize = 1
+    )
+    private Long id;
+
+    @Column(name = "applied_date", nullable = false)
+    private LocalDate appliedDate;
+}
@@ -0,0 +1,25 @@
+package com.ibrahim.jobtracker.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "job_application_stats")
+public class JobApplicationStats {
+
+    @EmbeddedId
+    private JobApplicationStatsId id;
+
+    @Column(name = "application_count", nullable = false)
+    private long applicationCount;
+}
@@ -0,0 +1,59 @@
+package com.ibrahim.jobtracker.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A change of a job's status, appended in the same transaction as the change and never updated. Rows are written with
+ * plain JDBC ({@code JobApplicationStatusEventRepository#appendAll}); the migrations partition the table by month of
+ * {@code occurred_at}, which this mapping cannot express.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(
+        name = "job_application_status_events",
+        indexes = @Index(name = "idx_job_application_status_events_job_occurred_at", columnList = "job_id, occurred_at")
+)
+public class JobApplicationStatusEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_application_status_events_id_seq")
+    @SequenceGenerator(
+            name = "job_application_status_events_id_seq",
+            sequenceName = "job_application_status_events_id_seq",
+            allocationSize = 1
+    )
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", nullable = false, length = 32)
+    private ApplicationStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false, length = 32)
+    private ApplicationStatus toStatus;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+}
@@ -0,0 +1,57 @@
+package com.ibrahim.jobtracker.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Record of a deleted job, written in the same transaction as the delete so incremental sync can report it.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+        name = "job_application_tombstones",
+        indexes = {
+                @Index(
+                        name = "idx_job_application_tombstones_user_deleted_at_job_id",
+                        columnList = "user_id, deleted_at, job_id"
+                ),
+                @Index(name = "idx_job_application_tombstones_deleted_at", columnList = "deleted_at")
+        }
+)
+public class JobApplicationTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_application_tombstones_id_seq")
+    @SequenceGenerator(
+            name = "job_application_tombstones_id_seq",
+            sequenceName = "job_application_tombstones_id_seq",
+            allocationSize = 50
+    )
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+}
@@ -0,0 +1,25 @@
+package com.ibrahim.jobtracker.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "job_application_transition_counts")
+public class JobApplicationTransitionCount {
+
+    @EmbeddedId
+    private JobApplicationTransitionCountId id;
+
+    @Column(name = "transition_count", nullable = false)
+    private long transitionCount;
+}
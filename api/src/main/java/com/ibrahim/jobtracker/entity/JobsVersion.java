@@ -0,0 +1,30 @@
+package com.ibrahim.jobtracker.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The single row counting job writes across all users, the version behind the all-users listing and stats ETags. It is
+ * only ever incremented ({@code JobsVersionRepository#increment}), so unlike a sum of per-user versions it never goes
+ * back to an earlier value.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "jobs_version")
+public class JobsVersion {
+
+    public static final short ID = 1;
+
+    @Id
+    private Short id;
+
+    @Column(nullable = false)
+    private long version;
+}
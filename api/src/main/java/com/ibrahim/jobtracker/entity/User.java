@@ -3,6 +3,7 @@ package com.ibrahim.jobtracker.entity;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -14,17 +15,24 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -41,15 +49,14 @@ import org.hibernate.annotations.UpdateTimestamp;
                 @UniqueConstraint(name = "uk_users_email", columnNames = "email")
         },
         indexes = {
-                @Index(name = "idx_users_username", columnList = "username"),
-                @Index(name = "idx_users_email", columnList = "email"),
                 @Index(name = "idx_users_role", columnList = "role")
         }
 )
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -73,6 +80,18 @@ public class User {
     @Column(nullable = false, length = 20)
     private Role role;
 
+    @Builder.Default
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion = 0;
+
+    /**
+     * Bumped with a bulk update on every write to the user's jobs; never written through the entity, so a stale
+     * instance cannot roll it back.
+     */
+    @ColumnDefault("0")
+    @Column(name = "jobs_version", nullable = false, insertable = false, updatable = false)
+    private long jobsVersion;
+
     @Builder.Default
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<JobApplication> jobApplications = new ArrayList<>();
@@ -85,6 +104,16 @@ public class User {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String loadedPassword;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Role loadedRole;
+
     public void addJobApplication(JobApplication jobApplication) {
         jobApplications.add(jobApplication);
         jobApplication.setUser(this);
@@ -94,4 +123,19 @@ public class User {
         jobApplications.remove(jobApplication);
         jobApplication.setUser(null);
     }
+
+    @PostLoad
+    @PostPersist
+    void captureCredentials() {
+        loadedPassword = password;
+        loadedRole = role;
+    }
+
+    @PreUpdate
+    void bumpTokenVersionOnCredentialChange() {
+        if (!Objects.equals(loadedPassword, password) || loadedRole != role) {
+            tokenVersion++;
+            captureCredentials();
+        }
+    }
 }
@@ -0,0 +1,8 @@
+package com.ibrahim.jobtracker.exception;
+
+public class SyncTokenExpiredException extends RuntimeException {
+
+    public SyncTokenExpiredException(String message) {
+        super(message);
+    }
+}
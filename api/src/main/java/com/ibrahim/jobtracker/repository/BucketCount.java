@@ -0,0 +1,30 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.time.LocalDate;
+
+import com.ibrahim.jobtracker.dto.TimeBucket;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Number of jobs with one status applied within the bucket starting at {@code bucketStart}.
+ */
+public record BucketCount(LocalDate bucketStart, ApplicationStatus status, long count) {
+
+    static final RowMapper<BucketCount> ROW_MAPPER = (rs, rowNum) -> new BucketCount(
+            rs.getObject("bucket_start", LocalDate.class),
+            ApplicationStatus.valueOf(rs.getString("status")),
+            rs.getLong("application_count"));
+
+    /**
+     * SQL truncating the DATE column {@code column} to the start of its bucket. The unit is inlined because H2 only
+     * accepts a literal; H2's {@code iso_week} starts on Monday like PostgreSQL's {@code week}.
+     */
+    static String bucketStart(String column, TimeBucket bucket, DatabasePlatform platform) {
+        String unit = switch (bucket) {
+            case WEEK -> platform == DatabasePlatform.POSTGRESQL ? "week" : "iso_week";
+            case MONTH -> "month";
+        };
+        return "CAST(date_trunc('%s', CAST(%s AS TIMESTAMP)) AS DATE)".formatted(unit, column);
+    }
+}
@@ -0,0 +1,20 @@
+package com.ibrahim.jobtracker.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public enum DatabasePlatform {
+    POSTGRESQL,
+    H2,
+    OTHER;
+
+    public static DatabasePlatform detect(JdbcTemplate jdbcTemplate) {
+        String productName = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+        );
+        if ("PostgreSQL".equalsIgnoreCase(productName)) {
+            return POSTGRESQL;
+        }
+        return "H2".equalsIgnoreCase(productName) ? H2 : OTHER;
+    }
+}
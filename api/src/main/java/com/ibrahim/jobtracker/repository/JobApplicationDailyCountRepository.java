@@ -0,0 +1,9 @@
+package com.ibrahim.jobtracker.repository;
+
+import com.ibrahim.jobtracker.entity.JobApplicationDailyCount;
+import com.ibrahim.jobtracker.entity.JobApplicationDailyCountId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobApplicationDailyCountRepository
+        extends JpaRepository<JobApplicationDailyCount, JobApplicationDailyCountId>, JobApplicationDailyCountRepositoryCustom {
+}
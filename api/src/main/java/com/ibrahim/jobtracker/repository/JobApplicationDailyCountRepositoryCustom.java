@@ -0,0 +1,29 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import com.ibrahim.jobtracker.dto.TimeBucket;
+
+public interface JobApplicationDailyCountRepositoryCustom {
+
+    /**
+     * All users' jobs applied from {@code from} to {@code to} (inclusive) per bucket and status, summed from the daily
+     * rollup rather than counted from {@code job_applications}.
+     */
+    List<BucketCount> countByBucket(TimeBucket bucket, LocalDate from, LocalDate to);
+
+    /**
+     * Queues each of {@code appliedDates} for {@link #refreshDirtyDays(int)} in the caller's transaction, as one JDBC
+     * batch that bypasses the persistence context.
+     */
+    void markDirty(Collection<LocalDate> appliedDates);
+
+    /**
+     * Takes up to {@code limit} queued dirty days off the queue and recounts those days from
+     * {@code job_applications}. Returns the number of queue rows taken; days queued by transactions that have not
+     * committed yet are left for a later call.
+     */
+    int refreshDirtyDays(int limit);
+}
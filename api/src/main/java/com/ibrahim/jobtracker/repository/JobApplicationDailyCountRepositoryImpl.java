@@ -0,0 +1,130 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import com.ibrahim.jobtracker.dto.TimeBucket;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+public class JobApplicationDailyCountRepositoryImpl implements JobApplicationDailyCountRepositoryCustom {
+
+    private static final String BUCKET_COUNTS_SQL = """
+            SELECT %s AS bucket_start, status, SUM(application_count) AS application_count
+            FROM job_application_daily_counts
+            WHERE applied_date BETWEEN ? AND ?
+            GROUP BY 1, 2
+            ORDER BY 1, 2
+            """;
+
+    private static final String MARK_DIRTY_SQL = """
+            INSERT INTO job_application_dirty_days (id, applied_date)
+            VALUES (nextval('job_application_dirty_days_id_seq'), ?)
+            """;
+
+    // Rows locked by a concurrent refresh are skipped rather than waited for.
+    private static final String PG_CLAIM_SQL = """
+            DELETE FROM job_application_dirty_days
+            WHERE id IN (
+                SELECT id FROM job_application_dirty_days ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED
+            )
+            RETURNING applied_date
+            """;
+
+    private static final String SELECT_DIRTY_SQL =
+            "SELECT id, applied_date FROM job_application_dirty_days ORDER BY id LIMIT ?";
+
+    private static final String DELETE_DIRTY_SQL = "DELETE FROM job_application_dirty_days WHERE id IN (:ids)";
+
+    private static final String PG_UPSERT_SQL = """
+            INSERT INTO job_application_daily_counts (applied_date, status, application_count)
+            SELECT applied_date, status, COUNT(*)
+            FROM job_applications
+            WHERE applied_date IN (:days)
+            GROUP BY applied_date, status
+            ON CONFLICT (applied_date, status)
+            DO UPDATE SET application_count = EXCLUDED.application_count
+            """;
+
+    private static final String PG_DELETE_VANISHED_SQL = """
+            DELETE FROM job_application_daily_counts c
+            WHERE c.applied_date IN (:days)
+              AND NOT EXISTS (
+                  SELECT 1 FROM job_applications j WHERE j.applied_date = c.applied_date AND j.status = c.status
+              )
+            """;
+
+    private static final String DELETE_DAYS_SQL = "DELETE FROM job_application_daily_counts WHERE applied_date IN (:days)";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO job_application_daily_counts (applied_date, status, application_count)
+            SELECT applied_date, status, COUNT(*)
+            FROM job_applications
+            WHERE applied_date IN (:days)
+            GROUP BY applied_date, status
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private volatile DatabasePlatform platform;
+
+    public JobApplicationDailyCountRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public List<BucketCount> countByBucket(TimeBucket bucket, LocalDate from, LocalDate to) {
+        String sql = BUCKET_COUNTS_SQL.formatted(BucketCount.bucketStart("applied_date", bucket, platform()));
+        return jdbcTemplate.query(sql, BucketCount.ROW_MAPPER, from, to);
+    }
+
+    @Override
+    public void markDirty(Collection<LocalDate> appliedDates) {
+        if (!appliedDates.isEmpty()) {
+            jdbcTemplate.batchUpdate(MARK_DIRTY_SQL, appliedDates.stream().map(day -> new Object[] {day}).toList());
+        }
+    }
+
+    @Override
+    public int refreshDirtyDays(int limit) {
+        List<LocalDate> claimed;
+        if (platform() == DatabasePlatform.POSTGRESQL) {
+            claimed = jdbcTemplate.queryForList(PG_CLAIM_SQL, LocalDate.class, limit);
+        } else {
+            List<Long> ids = new ArrayList<>();
+            claimed = jdbcTemplate.query(SELECT_DIRTY_SQL, (rs, rowNum) -> {
+                ids.add(rs.getLong("id"));
+                return rs.getObject("applied_date", LocalDate.class);
+            }, limit);
+            if (!ids.isEmpty()) {
+                namedJdbcTemplate.update(DELETE_DIRTY_SQL, Map.of("ids", ids));
+            }
+        }
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Object> days = Map.of("days", new TreeSet<>(claimed));
+        if (platform() == DatabasePlatform.POSTGRESQL) {
+            namedJdbcTemplate.update(PG_UPSERT_SQL, days);
+            namedJdbcTemplate.update(PG_DELETE_VANISHED_SQL, days);
+        } else {
+            // Not safe against concurrent refreshes; only used on the H2 test database.
+            namedJdbcTemplate.update(DELETE_DAYS_SQL, days);
+            namedJdbcTemplate.update(INSERT_SQL, days);
+        }
+        return claimed.size();
+    }
+
+    private DatabasePlatform platform() {
+        if (platform == null) {
+            platform = DatabasePlatform.detect(jdbcTemplate);
+        }
+        return platform;
+    }
+}
@@ -0,0 +1,125 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface JobApplicationRepository extends JpaRepository<JobApplication, Long>,
+        JpaSpecificationExecutor<JobApplication>, JobApplicationRepositoryCustom {
+    String STREAM_FETCH_SIZE = "500";
+
+    List<JobApplication> findByStatus(ApplicationStatus status);
+
+    List<JobApplication> findByUserId(Long userId);
+
+    <T> Page<T> findAllBy(Pageable pageable, Class<T> type);
+
+    <T> Page<T> findAllByUserId(Long userId, Pageable pageable, Class<T> type);
+
+    <T> Page<T> findAllByStatus(ApplicationStatus status, Pageable pageable, Class<T> type);
+
+    <T> Page<T> findAllByUserIdAndStatus(Long userId, ApplicationStatus status, Pageable pageable, Class<T> type);
+
+    Optional<JobApplication> findByIdAndUserId(Long id, Long userId);
+
+    List<JobApplication> findAllByIdInAndUserId(Collection<Long> ids, Long userId);
+
+    <T> Slice<T> findSliceBy(Pageable pageable, Class<T> type);
+
+    <T> Slice<T> findSliceByStatus(ApplicationStatus status, Pageable pageable, Class<T> type);
+
+    <T> Slice<T> findSliceByUserId(Long userId, Pageable pageable, Class<T> type);
+
+    <T> Slice<T> findSliceByUserIdAndStatus(Long userId, ApplicationStatus status, Pageable pageable, Class<T> type);
+
+    <T> Window<T> findWindowBy(ScrollPosition position, Limit limit, Sort sort, Class<T> type);
+
+    <T> Window<T> findWindowByStatus(
+            ApplicationStatus status,
+            ScrollPosition position,
+            Limit limit,
+            Sort sort,
+            Class<T> type
+    );
+
+    <T> Window<T> findWindowByUserId(Long userId, ScrollPosition position, Limit limit, Sort sort, Class<T> type);
+
+    <T> Window<T> findWindowByUserIdAndStatus(
+            Long userId,
+            ApplicationStatus status,
+            ScrollPosition position,
+            Limit limit,
+            Sort sort,
+            Class<T> type
+    );
+
+    /**
+     * Streams a user's jobs newest first. Must be consumed and closed inside a transaction; rows are fetched
+     * from the driver {@value #STREAM_FETCH_SIZE} at a time and loaded read-only.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT j FROM JobApplication j
+            WHERE j.user.id = :userId
+            ORDER BY j.appliedDate DESC, j.id DESC
+            """)
+    Stream<JobApplication> streamByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT j.status AS status, COUNT(j) AS count FROM JobApplication j GROUP BY j.status")
+    List<StatusCount> countByStatus();
+
+    @Query("""
+            SELECT j.status AS status, COUNT(j) AS count
+            FROM JobApplication j
+            WHERE j.user.id = :userId
+            GROUP BY j.status
+            """)
+    List<StatusCount> countByStatusForUser(@Param("userId") Long userId);
+
+    /**
+     * Jobs per furthest funnel stage reached, so each job counts once however often its status changed. Reported as
+     * {@link StatusCount#getStatus()}.
+     */
+    @Query("SELECT j.funnelStage AS status, COUNT(j) AS count FROM JobApplication j GROUP BY j.funnelStage")
+    List<StatusCount> countByFunnelStage();
+
+    @Query("""
+            SELECT j.funnelStage AS status, COUNT(j) AS count
+            FROM JobApplication j
+            WHERE j.user.id = :userId
+            GROUP BY j.funnelStage
+            """)
+    List<StatusCount> countByFunnelStageForUser(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT j.user.id AS userId, j.status AS status, COUNT(j) AS count
+            FROM JobApplication j
+            GROUP BY j.user.id, j.status
+            """)
+    List<UserStatusCount> countByUserAndStatus();
+
+    interface UserStatusCount extends StatusCount {
+        Long getUserId();
+    }
+}
@@ -0,0 +1,72 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import com.ibrahim.jobtracker.dto.TimeBucket;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface JobApplicationRepositoryCustom {
+
+    OptionalLong estimateCount(ApplicationStatus status);
+
+    /**
+     * Whether {@link #copyIn} uses {@code COPY}, i.e. the database is PostgreSQL.
+     */
+    boolean supportsCopy();
+
+    /**
+     * Streams at most {@code rows} jobs into {@code job_applications} with {@code COPY ... FROM STDIN} (JDBC batch
+     * inserts on H2), bypassing the persistence context. Ids are reserved from the sequence up front and assigned to
+     * the given entities, {@code created_at}/{@code updated_at} are set to the time of the call and
+     * {@code funnel_stage} follows the status; only the user id is read from {@link JobApplication#getUser()}.
+     * Other databases are rejected with an {@link UnsupportedOperationException}.
+     */
+    long copyIn(long rows, Iterator<JobApplication> source);
+
+    /**
+     * Start time of the oldest other transaction in this database that has written and not yet committed, from
+     * {@code pg_stat_activity}. Rows it stamped may still become visible with {@code updated_at} at or after that
+     * time. Empty when there is none, or on databases other than PostgreSQL.
+     */
+    Optional<Instant> findOldestOpenWriteStart();
+
+    /**
+     * Listing rows matching {@code spec}, selected column by column into {@code type} like the derived listing
+     * queries; {@code JpaSpecificationExecutor} can only return entities.
+     */
+    <T extends JobApplicationListItem> List<T> findListItems(
+            Specification<JobApplication> spec,
+            Sort sort,
+            long offset,
+            int limit,
+            Class<T> type
+    );
+
+    /**
+     * One user's jobs matching every term as a word prefix in the company, position or notes, best match first (ties
+     * newest id first). Starts after {@code afterRank}/{@code afterId} when given. PostgreSQL ranks with
+     * {@code ts_rank} over the weighted {@code search_vector}; other databases fall back to substring matching with
+     * the same 1.0 / 0.4 / 0.2 field weights.
+     */
+    List<JobSearchHit> search(Long userId, List<String> terms, Float afterRank, Long afterId, int limit, boolean withNotes);
+
+    /**
+     * Distinct company names of one user's jobs for autocomplete: names starting with {@code prefix} first, then (on
+     * PostgreSQL) names within trigram similarity of it, so small typos still match.
+     */
+    List<String> findCompanyNames(Long userId, String prefix, int limit);
+
+    /**
+     * One user's jobs applied from {@code from} to {@code to} (inclusive), counted per bucket and status in a single
+     * {@code date_trunc} GROUP BY over the {@code (user_id, applied_date)} index, which carries the status.
+     */
+    List<BucketCount> countByBucket(Long userId, TimeBucket bucket, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,469 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
+import com.ibrahim.jobtracker.dto.TimeBucket;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+public class JobApplicationRepositoryImpl implements JobApplicationRepositoryCustom {
+
+    private static final String TABLE_ESTIMATE_SQL = """
+            SELECT c.reltuples
+            FROM pg_class c
+            WHERE c.oid = to_regclass('job_applications')
+            """;
+
+    // A status outside the most common values gets an even share of the rows they leave over, as the planner assumes.
+    private static final String STATUS_ESTIMATE_SQL = """
+            SELECT c.reltuples * COALESCE((
+                SELECT COALESCE(
+                    s.most_common_freqs[array_position(s.most_common_vals::text::text[], ?)],
+                    GREATEST(1 - COALESCE((SELECT sum(f) FROM unnest(s.most_common_freqs) f), 0) - s.null_frac, 0)
+                        / NULLIF(GREATEST(
+                            CASE WHEN s.n_distinct < 0 THEN -s.n_distinct * c.reltuples ELSE s.n_distinct END
+                                - COALESCE(array_length(s.most_common_freqs, 1), 0), 0), 0))
+                FROM pg_stats s
+                WHERE s.schemaname = current_schema()
+                  AND s.tablename = 'job_applications'
+                  AND s.attname = 'status'
+            ), 0)
+            FROM pg_class c
+            WHERE c.oid = to_regclass('job_applications')
+            """;
+
+    private static final String RESERVE_IDS_SQL =
+            "SELECT nextval('job_applications_id_seq') FROM generate_series(1, ?)";
+
+    private static final String H2_RESERVE_IDS_SQL =
+            "SELECT NEXT VALUE FOR job_applications_id_seq FROM SYSTEM_RANGE(1, ?)";
+
+    private static final String COPY_SQL = """
+            COPY job_applications (id, user_id, company_name, position, status, applied_date, notes,
+                                   created_at, updated_at, version, funnel_stage)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String FALLBACK_INSERT_SQL = """
+            INSERT INTO job_applications (id, user_id, company_name, position, status, applied_date, notes,
+                                          created_at, updated_at, version, funnel_stage)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?)
+            """;
+
+    // backend_xid is only assigned once a transaction writes, so long read-only transactions such as exports are
+    // ignored.
+    private static final String OLDEST_OPEN_WRITE_SQL = """
+            SELECT min(xact_start)
+            FROM pg_stat_activity
+            WHERE datname = current_database()
+              AND backend_xid IS NOT NULL
+              AND pid <> pg_backend_pid()
+            """;
+
+    private static final String SEARCH_COLUMNS =
+            "id, company_name, position, status, applied_date, user_id, created_at, updated_at, version";
+
+    // The inner query only sees rows the GIN index on search_vector returns for the user; notes are only read for
+    // the page that is actually returned.
+    private static final String PG_SEARCH_SQL = """
+            SELECT %1$s, %2$s AS notes, rank
+            FROM (
+                SELECT j.id, j.company_name, j.position, j.status, j.applied_date, j.notes, j.user_id,
+                       j.created_at, j.updated_at, j.version, ts_rank(j.search_vector, q.query) AS rank
+                FROM job_applications j
+                CROSS JOIN to_tsquery('english', ?) AS q(query)
+                WHERE j.user_id = ? AND j.search_vector @@ q.query
+            ) hits
+            %3$s
+            ORDER BY rank DESC, id DESC
+            LIMIT ?
+            """;
+
+    private static final String FALLBACK_SEARCH_SQL = """
+            SELECT %1$s, %2$s AS notes, rank
+            FROM (
+                SELECT j.*, CAST(%3$s AS REAL) AS rank
+                FROM job_applications j
+                WHERE j.user_id = ? AND %4$s
+            ) hits
+            %5$s
+            ORDER BY rank DESC, id DESC
+            LIMIT ?
+            """;
+
+    private static final String SEARCH_AFTER_SQL = "WHERE rank < ? OR (rank = ? AND id < ?)";
+
+    private static final String PG_COMPANY_NAMES_SQL = """
+            SELECT company_name
+            FROM job_applications
+            WHERE user_id = ? AND (company_name ILIKE ? ESCAPE '\\' OR company_name % ?)
+            GROUP BY company_name
+            ORDER BY company_name ILIKE ? ESCAPE '\\' DESC, similarity(company_name, ?) DESC, company_name
+            LIMIT ?
+            """;
+
+    private static final String FALLBACK_COMPANY_NAMES_SQL = """
+            SELECT DISTINCT company_name
+            FROM job_applications
+            WHERE user_id = ? AND LOWER(company_name) LIKE ? ESCAPE '\\'
+            ORDER BY company_name
+            LIMIT ?
+            """;
+
+    private static final String BUCKET_COUNTS_SQL = """
+            SELECT %s AS bucket_start, status, COUNT(*) AS application_count
+            FROM job_applications
+            WHERE user_id = ? AND applied_date BETWEEN ? AND ?
+            GROUP BY 1, 2
+            ORDER BY 1, 2
+            """;
+
+    // Must match the sequence increment and allocationSize on JobApplication.
+    private static final int ID_BLOCK_SIZE = 50;
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+    private static final int FALLBACK_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile DatabasePlatform platform;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public JobApplicationRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public OptionalLong estimateCount(ApplicationStatus status) {
+        if (platform() != DatabasePlatform.POSTGRESQL) {
+            return OptionalLong.empty();
+        }
+
+        Double tableRows = jdbcTemplate.queryForObject(TABLE_ESTIMATE_SQL, Double.class);
+        if (tableRows == null || tableRows < 0) {
+            return OptionalLong.empty();
+        }
+        if (status == null) {
+            return OptionalLong.of(Math.round(tableRows));
+        }
+
+        Double statusRows = jdbcTemplate.queryForObject(STATUS_ESTIMATE_SQL, Double.class, status.name());
+        return statusRows == null ? OptionalLong.empty() : OptionalLong.of(Math.round(statusRows));
+    }
+
+    @Override
+    public boolean supportsCopy() {
+        return platform() == DatabasePlatform.POSTGRESQL;
+    }
+
+    @Override
+    public long copyIn(long rows, Iterator<JobApplication> source) {
+        if (rows == 0) {
+            return 0;
+        }
+
+        // Reserve id blocks the same way Hibernate's pooled optimizer does, so copied rows never collide with
+        // ids handed out to the application. No other statement can run on the connection while COPY is open.
+        int blocks = Math.toIntExact((rows + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE);
+        List<Long> blockEnds = new ArrayList<>(reserveIdBlocks(blocks));
+        if (blockEnds.stream().anyMatch(blockEnd -> blockEnd < ID_BLOCK_SIZE)) {
+            // A fresh sequence's first value is 1, which Hibernate takes as a block holding only id 1.
+            blockEnds.addAll(reserveIdBlocks(1));
+        }
+        boolean copy = supportsCopy();
+        // Stamped explicitly rather than left to the column default, which is the transaction start time. Truncated
+        // to the column precision so the entities match what was stored.
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        IdAssigner ids = new IdAssigner(rows, blockEnds, now);
+
+        if (!copy) {
+            return insertInBatches(source, ids);
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (Writer writer = new OutputStreamWriter(
+                    new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_SQL, COPY_BUFFER_BYTES),
+                    StandardCharsets.UTF_8)) {
+                while (source.hasNext()) {
+                    writeCopyRow(writer, ids.assign(source.next()));
+                }
+            } catch (IOException ex) {
+                if (ex.getCause() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                throw new UncheckedIOException(ex);
+            }
+            return ids.assigned;
+        });
+    }
+
+    private List<Long> reserveIdBlocks(int blocks) {
+        String sql = switch (platform()) {
+            case POSTGRESQL -> RESERVE_IDS_SQL;
+            case H2 -> H2_RESERVE_IDS_SQL;
+            case OTHER -> throw new UnsupportedOperationException(
+                    "Reserving job application ids is only supported on PostgreSQL and H2");
+        };
+        return jdbcTemplate.queryForList(sql, Long.class, blocks);
+    }
+
+    @Override
+    public Optional<Instant> findOldestOpenWriteStart() {
+        if (platform() != DatabasePlatform.POSTGRESQL) {
+            return Optional.empty();
+        }
+        Timestamp start = jdbcTemplate.queryForObject(OLDEST_OPEN_WRITE_SQL, Timestamp.class);
+        return Optional.ofNullable(start).map(Timestamp::toInstant);
+    }
+
+    @Override
+    public <T extends JobApplicationListItem> List<T> findListItems(
+            Specification<JobApplication> spec,
+            Sort sort,
+            long offset,
+            int limit,
+            Class<T> type
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<JobApplication> root = query.from(JobApplication.class);
+
+        List<Selection<?>> columns = new ArrayList<>(List.of(
+                root.get("id"), root.get("companyName"), root.get("position"), root.get("status"),
+                root.get("appliedDate")));
+        if (type == JobApplicationListItem.Full.class) {
+            columns.add(root.get("notes"));
+        }
+        columns.addAll(List.of(
+                root.get("user").get("id"), root.get("createdAt"), root.get("updatedAt"), root.get("version")));
+
+        query.select(cb.construct(type, columns.toArray(Selection[]::new)))
+                .where(spec.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<JobSearchHit> search(
+            Long userId,
+            List<String> terms,
+            Float afterRank,
+            Long afterId,
+            int limit,
+            boolean withNotes
+    ) {
+        String notes = withNotes ? "notes" : "NULL";
+        String after = afterRank != null ? SEARCH_AFTER_SQL : "";
+        List<Object> args = new ArrayList<>();
+        String sql;
+        if (platform() == DatabasePlatform.POSTGRESQL) {
+            // Every term must match as a word prefix; terms are letters and digits only, so they need no quoting.
+            args.add(terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & ")));
+            args.add(userId);
+            sql = PG_SEARCH_SQL.formatted(SEARCH_COLUMNS, notes, after);
+        } else {
+            List<String> weights = new ArrayList<>();
+            List<String> matches = new ArrayList<>();
+            for (String term : terms) {
+                String pattern = "%" + term + "%";
+                weights.add("""
+                        CASE WHEN LOWER(j.company_name) LIKE ? THEN 1.0 ELSE 0 END
+                        + CASE WHEN LOWER(j.position) LIKE ? THEN 0.4 ELSE 0 END
+                        + CASE WHEN LOWER(j.notes) LIKE ? THEN 0.2 ELSE 0 END""");
+                matches.add("(LOWER(j.company_name) LIKE ? OR LOWER(j.position) LIKE ? OR LOWER(j.notes) LIKE ?)");
+                args.addAll(List.of(pattern, pattern, pattern));
+            }
+            args.add(userId);
+            for (String term : terms) {
+                String pattern = "%" + term + "%";
+                args.addAll(List.of(pattern, pattern, pattern));
+            }
+            sql = FALLBACK_SEARCH_SQL.formatted(SEARCH_COLUMNS, notes, String.join(" + ", weights),
+                    String.join(" AND ", matches), after);
+        }
+        if (afterRank != null) {
+            args.addAll(List.of(afterRank, afterRank, afterId));
+        }
+        args.add(limit);
+
+        RowMapper<JobSearchHit> mapper = withNotes ? JobApplicationRepositoryImpl::fullHit
+                : JobApplicationRepositoryImpl::summaryHit;
+        return jdbcTemplate.query(sql, mapper, args.toArray());
+    }
+
+    @Override
+    public List<String> findCompanyNames(Long userId, String prefix, int limit) {
+        String pattern = escapeLike(prefix.toLowerCase(Locale.ROOT)) + "%";
+        if (platform() == DatabasePlatform.POSTGRESQL) {
+            return jdbcTemplate.queryForList(PG_COMPANY_NAMES_SQL, String.class,
+                    userId, pattern, prefix, pattern, prefix, limit);
+        }
+        return jdbcTemplate.queryForList(FALLBACK_COMPANY_NAMES_SQL, String.class, userId, pattern, limit);
+    }
+
+    @Override
+    public List<BucketCount> countByBucket(Long userId, TimeBucket bucket, LocalDate from, LocalDate to) {
+        String sql = BUCKET_COUNTS_SQL.formatted(BucketCount.bucketStart("applied_date", bucket, platform()));
+        return jdbcTemplate.query(sql, BucketCount.ROW_MAPPER, userId, from, to);
+    }
+
+    // Plain JDBC batches where COPY is not available, e.g. the H2 test database.
+    private long insertInBatches(Iterator<JobApplication> source, IdAssigner ids) {
+        List<Object[]> batch = new ArrayList<>(FALLBACK_BATCH_SIZE);
+        while (source.hasNext()) {
+            JobApplication job = ids.assign(source.next());
+            batch.add(new Object[] {
+                    job.getId(), job.getUser().getId(), job.getCompanyName(), job.getPosition(),
+                    job.getStatus().name(), job.getAppliedDate(), job.getNotes(),
+                    Timestamp.from(job.getCreatedAt()), Timestamp.from(job.getUpdatedAt()), job.getFunnelStage().name()
+            });
+            if (batch.size() == FALLBACK_BATCH_SIZE || !source.hasNext()) {
+                jdbcTemplate.batchUpdate(FALLBACK_INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        return ids.assigned;
+    }
+
+    private static JobSearchHit fullHit(ResultSet rs, int rowNum) throws SQLException {
+        return new JobSearchHit(new JobApplicationListItem.Full(
+                rs.getLong("id"),
+                rs.getString("company_name"),
+                rs.getString("position"),
+                ApplicationStatus.valueOf(rs.getString("status")),
+                rs.getDate("applied_date").toLocalDate(),
+                rs.getString("notes"),
+                rs.getLong("user_id"),
+                rs.getTimestamp("created_at").toInstant(),
+                rs.getTimestamp("updated_at").toInstant(),
+                rs.getLong("version")
+        ), rs.getFloat("rank"));
+    }
+
+    private static JobSearchHit summaryHit(ResultSet rs, int rowNum) throws SQLException {
+        return new JobSearchHit(new JobApplicationListItem.Summary(
+                rs.getLong("id"),
+                rs.getString("company_name"),
+                rs.getString("position"),
+                ApplicationStatus.valueOf(rs.getString("status")),
+                rs.getDate("applied_date").toLocalDate(),
+                rs.getLong("user_id"),
+                rs.getTimestamp("created_at").toInstant(),
+                rs.getTimestamp("updated_at").toInstant(),
+                rs.getLong("version")
+        ), rs.getFloat("rank"));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static void writeCopyRow(Writer writer, JobApplication job) throws IOException {
+        writer.write(Long.toString(job.getId()));
+        writer.write(',');
+        writer.write(Long.toString(job.getUser().getId()));
+        writer.write(',');
+        writeCopyText(writer, job.getCompanyName());
+        writer.write(',');
+        writeCopyText(writer, job.getPosition());
+        writer.write(',');
+        writer.write(job.getStatus().name());
+        writer.write(',');
+        writer.write(job.getAppliedDate().toString());
+        writer.write(',');
+        if (job.getNotes() != null) {
+            writeCopyText(writer, job.getNotes());
+        }
+        writer.write(',');
+        writer.write(job.getCreatedAt().toString());
+        writer.write(',');
+        writer.write(job.getUpdatedAt().toString());
+        writer.write(",0,");
+        writer.write(job.getFunnelStage().name());
+        writer.write('\n');
+    }
+
+    // Quoted so empty strings stay distinct from NULL, which COPY's CSV format writes as an unquoted empty field.
+    private static void writeCopyText(Writer writer, String value) throws IOException {
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    /**
+     * Hands out the reserved ids in order and stamps each job, failing if the source has more rows than reserved.
+     */
+    private static final class IdAssigner {
+
+        private final long rows;
+        private final List<Long> blockEnds;
+        private final Instant stamp;
+        private long assigned;
+        private int block;
+        private long nextId = 1;
+        private long blockEnd;
+
+        private IdAssigner(long rows, List<Long> blockEnds, Instant stamp) {
+            this.rows = rows;
+            this.blockEnds = blockEnds;
+            this.stamp = stamp;
+        }
+
+        private JobApplication assign(JobApplication job) {
+            if (assigned == rows) {
+                throw new IllegalStateException("COPY source has more than " + rows + " rows");
+            }
+            if (nextId > blockEnd) {
+                blockEnd = blockEnds.get(block++);
+                nextId = Math.max(1, blockEnd - ID_BLOCK_SIZE + 1);
+            }
+            job.setId(nextId++);
+            job.setCreatedAt(stamp);
+            job.setUpdatedAt(stamp);
+            job.setVersion(0L);
+            job.trackFunnelStage();
+            assigned++;
+            return job;
+        }
+    }
+
+    private DatabasePlatform platform() {
+        if (platform == null) {
+            platform = DatabasePlatform.detect(jdbcTemplate);
+        }
+        return platform;
+    }
+}
@@ -0,0 +1,109 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+
+import com.ibrahim.jobtracker.dto.JobFilter;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Compiles {@link JobFilter}s into criteria that the {@code job_applications} indexes can serve. Only sargable
+ * predicates are emitted: equality on {@code user_id} and {@code status} (leading columns of the per-user and
+ * per-status indexes), ranges on {@code applied_date} and {@code updated_at} (B-tree indexes) and a case-insensitive
+ * prefix {@code ILIKE} on {@code company_name}, which the trigram index answers. {@code JobApplicationIndexUsageTest}
+ * checks every combination for sequential scans.
+ */
+public final class JobApplicationSpecifications {
+
+    private static final String APPLIED_DATE = "appliedDate";
+    private static final String ID = "id";
+
+    private JobApplicationSpecifications() {
+    }
+
+    /**
+     * @param userId the owner to restrict to, or {@code null} for all users (admins)
+     */
+    public static Specification<JobApplication> matching(JobFilter filter, Long userId) {
+        Specification<JobApplication> spec = Specification.where(null);
+        if (userId != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("user").get(ID), userId));
+        }
+        if (!filter.getStatuses().isEmpty()) {
+            spec = spec.and((root, query, cb) -> root.get("status").in(filter.getStatuses()));
+        }
+        if (filter.getAppliedFrom() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.greaterThanOrEqualTo(root.get(APPLIED_DATE), filter.getAppliedFrom()));
+        }
+        if (filter.getAppliedTo() != null) {
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get(APPLIED_DATE), filter.getAppliedTo()));
+        }
+        if (filter.getCompanyPrefix() != null) {
+            // ILIKE on the bare column; LOWER(company_name) LIKE would not match the trigram index expression.
+            String pattern = escapeLike(filter.getCompanyPrefix()) + "%";
+            spec = spec.and((root, query, cb) ->
+                    ((HibernateCriteriaBuilder) cb).ilike(root.get("companyName"), pattern, '\\'));
+        }
+        if (filter.getUpdatedSince() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.greaterThanOrEqualTo(root.get("updatedAt"), filter.getUpdatedSince()));
+        }
+        return spec;
+    }
+
+    /**
+     * Rows strictly after {@code position} in {@code (appliedDate, id)} order, or no restriction for an initial
+     * position.
+     */
+    public static Specification<JobApplication> after(KeysetScrollPosition position, Sort.Direction direction) {
+        Map<String, Object> keys = position.getKeys();
+        if (keys.isEmpty()) {
+            return Specification.where(null);
+        }
+
+        LocalDate appliedDate = (LocalDate) keys.get(APPLIED_DATE);
+        Long id = (Long) keys.get(ID);
+        return (root, query, cb) -> {
+            Path<LocalDate> appliedDatePath = root.get(APPLIED_DATE);
+            Path<Long> idPath = root.get(ID);
+            return cb.or(
+                    beyond(cb, appliedDatePath, appliedDate, direction),
+                    cb.and(cb.equal(appliedDatePath, appliedDate), beyond(cb, idPath, id, direction)));
+        };
+    }
+
+    /**
+     * Rows changed after {@code (updatedAt, id)} in that order. The redundant {@code >=} bound lets the
+     * {@code (user_id, updated_at, id)} index start the scan at the watermark.
+     */
+    public static Specification<JobApplication> changedAfter(Instant updatedAt, Long id) {
+        return (root, query, cb) -> {
+            Path<Instant> updatedAtPath = root.get("updatedAt");
+            return cb.and(
+                    cb.greaterThanOrEqualTo(updatedAtPath, updatedAt),
+                    cb.or(cb.greaterThan(updatedAtPath, updatedAt), cb.greaterThan(root.get(ID), id)));
+        };
+    }
+
+    private static <T extends Comparable<? super T>> Predicate beyond(
+            CriteriaBuilder cb,
+            Path<T> path,
+            T value,
+            Sort.Direction direction
+    ) {
+        return direction.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
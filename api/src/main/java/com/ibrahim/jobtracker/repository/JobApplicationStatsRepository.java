@@ -0,0 +1,27 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.util.List;
+
+import com.ibrahim.jobtracker.entity.JobApplicationStats;
+import com.ibrahim.jobtracker.entity.JobApplicationStatsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JobApplicationStatsRepository
+        extends JpaRepository<JobApplicationStats, JobApplicationStatsId>, JobApplicationStatsRepositoryCustom {
+
+    @Query("""
+            SELECT s.id.status AS status, s.applicationCount AS count
+            FROM JobApplicationStats s
+            WHERE s.id.userId = :userId
+            """)
+    List<StatusCount> countByStatusForUser(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT s.id.status AS status, SUM(s.applicationCount) AS count
+            FROM JobApplicationStats s
+            GROUP BY s.id.status
+            """)
+    List<StatusCount> countByStatus();
+}
@@ -0,0 +1,17 @@
+package com.ibrahim.jobtracker.repository;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+
+public interface JobApplicationStatsRepositoryCustom {
+
+    void increment(Long userId, ApplicationStatus status, long delta);
+
+    void overwrite(Long userId, ApplicationStatus status, long count);
+
+    /**
+     * Recounts one user's counters from {@code job_applications} and returns how many were repaired. The counts come
+     * from the transaction's snapshot, so run it under REPEATABLE READ: a counter that a writer changed since then
+     * makes the update fail with a serialization error instead of overwriting the writer's increment.
+     */
+    int reconcile(Long userId);
+}
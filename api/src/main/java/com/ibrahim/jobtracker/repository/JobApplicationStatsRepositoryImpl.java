@@ -0,0 +1,110 @@
+package com.ibrahim.jobtracker.repository;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class JobApplicationStatsRepositoryImpl implements JobApplicationStatsRepositoryCustom {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO job_application_stats (user_id, status, application_count)
+            VALUES (?, ?, ?)
+            ON CONFLICT (user_id, status)
+            DO UPDATE SET application_count = job_application_stats.application_count + EXCLUDED.application_count
+            """;
+
+    private static final String OVERWRITE_UPSERT_SQL = """
+            INSERT INTO job_application_stats (user_id, status, application_count)
+            VALUES (?, ?, ?)
+            ON CONFLICT (user_id, status)
+            DO UPDATE SET application_count = EXCLUDED.application_count
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE job_application_stats
+            SET application_count = application_count + ?
+            WHERE user_id = ? AND status = ?
+            """;
+
+    private static final String OVERWRITE_SQL = """
+            UPDATE job_application_stats
+            SET application_count = ?
+            WHERE user_id = ? AND status = ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO job_application_stats (user_id, status, application_count)
+            VALUES (?, ?, ?)
+            """;
+
+    private static final String RECONCILE_EXISTING_SQL = """
+            UPDATE job_application_stats s
+            SET application_count = (
+                SELECT COUNT(*) FROM job_applications j WHERE j.user_id = s.user_id AND j.status = s.status
+            )
+            WHERE s.user_id = ?
+              AND s.application_count <> (
+                  SELECT COUNT(*) FROM job_applications j WHERE j.user_id = s.user_id AND j.status = s.status
+              )
+            """;
+
+    private static final String RECONCILE_MISSING_SQL = """
+            INSERT INTO job_application_stats (user_id, status, application_count)
+            SELECT j.user_id, j.status, COUNT(*)
+            FROM job_applications j
+            WHERE j.user_id = ?
+              AND NOT EXISTS (
+                  SELECT 1 FROM job_application_stats s WHERE s.user_id = j.user_id AND s.status = j.status
+              )
+            GROUP BY j.user_id, j.status
+            """;
+
+    private static final String DELETE_EMPTY_SQL =
+            "DELETE FROM job_application_stats WHERE user_id = ? AND application_count = 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile DatabasePlatform platform;
+
+    public JobApplicationStatsRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void increment(Long userId, ApplicationStatus status, long delta) {
+        if (platform() == DatabasePlatform.POSTGRESQL) {
+            jdbcTemplate.update(UPSERT_SQL, userId, status.name(), delta);
+            return;
+        }
+
+        // Not safe against concurrent first inserts; only used on the H2 test database.
+        if (jdbcTemplate.update(UPDATE_SQL, delta, userId, status.name()) == 0) {
+            jdbcTemplate.update(INSERT_SQL, userId, status.name(), delta);
+        }
+    }
+
+    @Override
+    public void overwrite(Long userId, ApplicationStatus status, long count) {
+        if (platform() == DatabasePlatform.POSTGRESQL) {
+            jdbcTemplate.update(OVERWRITE_UPSERT_SQL, userId, status.name(), count);
+            return;
+        }
+
+        if (jdbcTemplate.update(OVERWRITE_SQL, count, userId, status.name()) == 0) {
+            jdbcTemplate.update(INSERT_SQL, userId, status.name(), count);
+        }
+    }
+
+    @Override
+    public int reconcile(Long userId) {
+        int repaired = jdbcTemplate.update(RECONCILE_EXISTING_SQL, userId);
+        repaired += jdbcTemplate.update(RECONCILE_MISSING_SQL, userId);
+        jdbcTemplate.update(DELETE_EMPTY_SQL, userId);
+        return repaired;
+    }
+
+    private DatabasePlatform platform() {
+        if (platform == null) {
+            platform = DatabasePlatform.detect(jdbcTemplate);
+        }
+        return platform;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.util.List;
+
+import com.ibrahim.jobtracker.entity.JobApplicationStatusEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobApplicationStatusEventRepository
+        extends JpaRepository<JobApplicationStatusEvent, Long>, JobApplicationStatusEventRepositoryCustom {
+
+    List<JobApplicationStatusEvent> findByJobIdOrderByOccurredAtAscIdAsc(Long jobId);
+}
@@ -0,0 +1,20 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+
+public interface JobApplicationStatusEventRepositoryCustom {
+
+    /**
+     * Appends one event per transition at {@code occurredAt} in the caller's transaction, as one JDBC batch that
+     * bypasses the persistence context.
+     */
+    void appendAll(List<StatusTransition> transitions, Instant occurredAt);
+
+    /**
+     * Creates the partition for {@code month} unless it exists and returns whether it was created. A no-op returning
+     * {@code false} on databases without declarative partitioning.
+     */
+    boolean createMonthlyPartition(YearMonth month);
+}
@@ -0,0 +1,55 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class JobApplicationStatusEventRepositoryImpl implements JobApplicationStatusEventRepositoryCustom {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO job_application_status_events (id, job_id, user_id, from_status, to_status, occurred_at)
+            VALUES (nextval('job_application_status_events_id_seq'), ?, ?, ?, ?, ?)
+            """;
+
+    // Defined in the V12 migration.
+    private static final String CREATE_PARTITION_SQL = "SELECT create_job_application_status_events_partition(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile DatabasePlatform platform;
+
+    public JobApplicationStatusEventRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void appendAll(List<StatusTransition> transitions, Instant occurredAt) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        OffsetDateTime at = occurredAt.atOffset(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(INSERT_SQL, transitions.stream()
+                .map(transition -> new Object[] {
+                        transition.jobId(), transition.userId(), transition.from().name(), transition.to().name(), at
+                })
+                .toList());
+    }
+
+    @Override
+    public boolean createMonthlyPartition(YearMonth month) {
+        if (platform() != DatabasePlatform.POSTGRESQL) {
+            return false;
+        }
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(CREATE_PARTITION_SQL, Boolean.class, month.atDay(1)));
+    }
+
+    private DatabasePlatform platform() {
+        if (platform == null) {
+            platform = DatabasePlatform.detect(jdbcTemplate);
+        }
+        return platform;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.ibrahim.jobtracker.entity.JobApplicationTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JobApplicationTombstoneRepository extends JpaRepository<JobApplicationTombstone, Long> {
+
+    /**
+     * A user's tombstones after {@code (deletedAt, jobId)} in that order. The redundant {@code >=} bound lets the
+     * {@code (user_id, deleted_at, job_id)} index start the scan at the watermark.
+     */
+    @Query("""
+            SELECT t FROM JobApplicationTombstone t
+            WHERE t.userId = :userId
+              AND t.deletedAt >= :deletedAt
+              AND (t.deletedAt > :deletedAt OR t.jobId > :jobId)
+            ORDER BY t.deletedAt, t.jobId
+            """)
+    List<JobApplicationTombstone> findAfter(
+            @Param("userId") Long userId,
+            @Param("deletedAt") Instant deletedAt,
+            @Param("jobId") Long jobId,
+            Limit limit
+    );
+
+    @Modifying
+    @Query("DELETE FROM JobApplicationTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
+}
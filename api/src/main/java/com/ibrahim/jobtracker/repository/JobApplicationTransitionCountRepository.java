@@ -0,0 +1,28 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.util.List;
+
+import com.ibrahim.jobtracker.entity.JobApplicationTransitionCount;
+import com.ibrahim.jobtracker.entity.JobApplicationTransitionCountId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JobApplicationTransitionCountRepository extends
+        JpaRepository<JobApplicationTransitionCount, JobApplicationTransitionCountId>,
+        JobApplicationTransitionCountRepositoryCustom {
+
+    @Query("""
+            SELECT t.id.fromStatus AS fromStatus, t.id.toStatus AS toStatus, t.transitionCount AS count
+            FROM JobApplicationTransitionCount t
+            WHERE t.id.userId = :userId
+            """)
+    List<TransitionCount> countForUser(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT t.id.fromStatus AS fromStatus, t.id.toStatus AS toStatus, SUM(t.transitionCount) AS count
+            FROM JobApplicationTransitionCount t
+            GROUP BY t.id.fromStatus, t.id.toStatus
+            """)
+    List<TransitionCount> countAll();
+}
@@ -0,0 +1,8 @@
+package com.ibrahim.jobtracker.repository;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+
+public interface JobApplicationTransitionCountRepositoryCustom {
+
+    void increment(Long userId, ApplicationStatus from, ApplicationStatus to, long delta);
+}
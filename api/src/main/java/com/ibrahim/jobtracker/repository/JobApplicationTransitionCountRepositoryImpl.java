@@ -0,0 +1,53 @@
+package com.ibrahim.jobtracker.repository;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class JobApplicationTransitionCountRepositoryImpl implements JobApplicationTransitionCountRepositoryCustom {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO job_application_transition_counts (user_id, from_status, to_status, transition_count)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (user_id, from_status, to_status)
+            DO UPDATE SET transition_count = job_application_transition_counts.transition_count
+                + EXCLUDED.transition_count
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE job_application_transition_counts
+            SET transition_count = transition_count + ?
+            WHERE user_id = ? AND from_status = ? AND to_status = ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO job_application_transition_counts (user_id, from_status, to_status, transition_count)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile DatabasePlatform platform;
+
+    public JobApplicationTransitionCountRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void increment(Long userId, ApplicationStatus from, ApplicationStatus to, long delta) {
+        if (platform() == DatabasePlatform.POSTGRESQL) {
+            jdbcTemplate.update(UPSERT_SQL, userId, from.name(), to.name(), delta);
+            return;
+        }
+
+        // Not safe against concurrent first inserts; only used on the H2 test database.
+        if (jdbcTemplate.update(UPDATE_SQL, delta, userId, from.name(), to.name()) == 0) {
+            jdbcTemplate.update(INSERT_SQL, userId, from.name(), to.name(), delta);
+        }
+    }
+
+    private DatabasePlatform platform() {
+        if (platform == null) {
+            platform = DatabasePlatform.detect(jdbcTemplate);
+        }
+        return platform;
+    }
+}
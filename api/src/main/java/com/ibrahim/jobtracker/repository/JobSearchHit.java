@@ -0,0 +1,7 @@
+package com.ibrahim.jobtracker.repository;
+
+/**
+ * A search result with its relevance; {@code rank} is only comparable between hits of the same query.
+ */
+public record JobSearchHit(JobApplicationListItem item, float rank) {
+}
@@ -0,0 +1,21 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.util.Optional;
+
+import com.ibrahim.jobtracker.entity.JobsVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface JobsVersionRepository extends JpaRepository<JobsVersion, Short> {
+
+    @Query("SELECT v.version FROM JobsVersion v WHERE v.id = " + JobsVersion.ID)
+    Optional<Long> findCurrent();
+
+    /**
+     * Every job write serializes on this row until it commits, so it is updated last, after the per-user versions.
+     */
+    @Modifying
+    @Query("UPDATE JobsVersion v SET v.version = v.version + 1 WHERE v.id = " + JobsVersion.ID)
+    int increment();
+}
@@ -0,0 +1,9 @@
+package com.ibrahim.jobtracker.repository;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+
+/**
+ * One change of a job's status from {@code from} to a different {@code to}.
+ */
+public record StatusTransition(Long jobId, Long userId, ApplicationStatus from, ApplicationStatus to) {
+}
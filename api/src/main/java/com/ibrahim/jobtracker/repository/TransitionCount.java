@@ -0,0 +1,12 @@
+package com.ibrahim.jobtracker.repository;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+
+public interface TransitionCount {
+
+    ApplicationStatus getFromStatus();
+
+    ApplicationStatus getToStatus();
+
+    long getCount();
+}
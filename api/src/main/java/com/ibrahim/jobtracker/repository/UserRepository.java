@@ -0,0 +1,57 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.ibrahim.jobtracker.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserRepository extends JpaRepository<User, Long> {
+    Optional<User> findByUsername(String username);
+
+    Optional<User> findByEmail(String email);
+
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    @Query("SELECT u.id AS id, u.username AS username FROM User u WHERE u.username IN :usernames")
+    List<UserIdentity> findIdentitiesByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<Long> findAllIds();
+
+    @Query("SELECT u.jobsVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findJobsVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.jobsVersion = u.jobsVersion + 1 WHERE u.id IN :ids")
+    int incrementJobsVersion(@Param("ids") Collection<Long> ids);
+
+    boolean existsByUsername(String username);
+
+    boolean existsByEmail(String email);
+
+    @Query("""
+            SELECT u.id AS id, u.tokenVersion AS tokenVersion
+            FROM User u
+            WHERE u.tokenVersion > 0 AND u.updatedAt >= :since
+            """)
+    List<UserTokenVersion> findTokenVersionsChangedSince(@Param("since") Instant since);
+
+    interface UserIdentity {
+        Long getId();
+
+        String getUsername();
+    }
+
+    interface UserTokenVersion {
+        Long getId();
+
+        int getTokenVersion();
+    }
+}
@@ -0,0 +1,64 @@
+package com.ibrahim.jobtracker.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.ibrahim.jobtracker.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+@Getter
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    private final String email;
+    private final String password;
+    private final int tokenVersion;
+    private final List<GrantedAuthority> authorities;
+
+    public AuthenticatedUser(
+            Long id,
+            String username,
+            String email,
+            String password,
+            int tokenVersion,
+            String authority
+    ) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.password = password;
+        this.tokenVersion = tokenVersion;
+        this.authorities = List.of(new SimpleGrantedAuthority(authority));
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getPassword(),
+                user.getTokenVersion(),
+                "ROLE_" + user.getRole().name()
+        );
+    }
+
+    public static AuthenticatedUser from(VerifiedToken token) {
+        return new AuthenticatedUser(
+                token.userId(),
+                token.subject(),
+                null,
+                null,
+                token.tokenVersion(),
+                token.role()
+        );
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+}
@@ -0,0 +1,112 @@
+package com.ibrahim.jobtracker.security;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+@Service
+public class JwtService {
+
+    static final String ROLE_CLAIM = "role";
+    static final String USER_ID_CLAIM = "uid";
+    static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private final long expirationMs;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtService(
+            @Value("${app.jwt.secret}") String secret,
+            @Value("${app.jwt.expiration-ms:3600000}") long expirationMs
+    ) {
+        this.expirationMs = expirationMs;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    @Timed("jobtracker.jwt.sign")
+    public String generateToken(UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+        String role = userDetails.getAuthorities().stream()
+                .findFirst()
+                .map(GrantedAuthority::getAuthority)
+                .orElse("ROLE_USER");
+        claims.put(ROLE_CLAIM, role);
+        if (userDetails instanceof AuthenticatedUser authenticatedUser) {
+            claims.put(USER_ID_CLAIM, authenticatedUser.getId());
+            claims.put(TOKEN_VERSION_CLAIM, authenticatedUser.getTokenVersion());
+        }
+        return generateToken(claims, userDetails);
+    }
+
+    @Timed("jobtracker.jwt.verify")
+    public VerifiedToken verify(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get(ROLE_CLAIM, String.class),
+                claims.get(USER_ID_CLAIM, Long.class),
+                claims.get(TOKEN_VERSION_CLAIM, Integer.class),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration())
+        );
+    }
+
+    public String extractUsername(String token) {
+        return verify(token).subject();
+    }
+
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return isTokenValid(verify(token), userDetails);
+    }
+
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return token.subject() != null
+                && token.subject().equals(userDetails.getUsername())
+                && isCurrentVersion(token, userDetails)
+                && !token.isExpired(Instant.now());
+    }
+
+    public long getExpirationMs() {
+        return expirationMs;
+    }
+
+    private String generateToken(Map<String, Object> claims, UserDetails userDetails) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plusMillis(expirationMs);
+        return Jwts.builder()
+                .claims(claims)
+                .subject(userDetails.getUsername())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expiresAt))
+                .signWith(signingKey)
+                .compact();
+    }
+
+    private boolean isCurrentVersion(VerifiedToken token, UserDetails userDetails) {
+        if (token.tokenVersion() == null || !(userDetails instanceof AuthenticatedUser authenticatedUser)) {
+            return true;
+        }
+        return token.tokenVersion() == authenticatedUser.getTokenVersion();
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+}
@@ -0,0 +1,68 @@
+package com.ibrahim.jobtracker.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.repository.UserRepository.UserTokenVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private final UserRepository userRepository;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration refreshOverlap;
+    private final Map<Long, Integer> currentVersions = new ConcurrentHashMap<>();
+
+    private volatile Instant lastRefresh;
+
+    public TokenRevocationRegistry(
+            UserRepository userRepository,
+            Clock clock,
+            @Value("${app.jwt.stateless-principal:false}") boolean enabled,
+            @Value("${app.jwt.revocation-refresh-ms:30000}") long refreshMs
+    ) {
+        this.userRepository = userRepository;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.refreshOverlap = Duration.ofMillis(refreshMs);
+    }
+
+    public boolean isRevoked(Long userId, int tokenVersion) {
+        Integer current = currentVersions.get(userId);
+        return current != null && tokenVersion < current;
+    }
+
+    public void record(Long userId, int tokenVersion) {
+        if (userId == null || tokenVersion == 0) {
+            return;
+        }
+        currentVersions.merge(userId, tokenVersion, Math::max);
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation-refresh-ms:30000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        Instant startedAt = clock.instant();
+        Instant since = lastRefresh == null ? Instant.EPOCH : lastRefresh.minus(refreshOverlap);
+        int changed = 0;
+        for (UserTokenVersion version : userRepository.findTokenVersionsChangedSince(since)) {
+            record(version.getId(), version.getTokenVersion());
+            changed++;
+        }
+        lastRefresh = startedAt;
+        log.debug("Refreshed token versions since={} changed={}", since, changed);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ibrahim.jobtracker.security;
+
+import com.ibrahim.jobtracker.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class UserChangeListener {
+
+    private final ObjectProvider<TokenRevocationRegistry> revocationRegistry;
+    private final ObjectProvider<UserDetailsCache> userDetailsCache;
+
+    @PostUpdate
+    public void onUpdate(User user) {
+        revocationRegistry.ifAvailable(registry -> registry.record(user.getId(), user.getTokenVersion()));
+        invalidateAfterCommit(user.getId());
+    }
+
+    @PostRemove
+    public void onRemove(User user) {
+        invalidateAfterCommit(user.getId());
+    }
+
+    // Evicting before commit would let a concurrent lookup reload the old row and cache it for the full TTL.
+    private void invalidateAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userDetailsCache.ifAvailable(cache -> cache.invalidate(userId));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userDetailsCache.ifAvailable(cache -> cache.invalidate(userId));
+            }
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package com.ibrahim.jobtracker.security;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class UserDetailsCache {
+
+    private final CustomUserDetailsService delegate;
+    private final boolean enabled;
+    private final Cache<String, AuthenticatedUser> cache;
+    // Cache keys (username and email) per user id, so invalidation does not scan the whole cache.
+    private final Map<Long, Set<String>> keysByUserId = new ConcurrentHashMap<>();
+    // Bumped on every invalidation; a lookup that raced with one does not cache what it loaded.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserDetailsCache(
+            CustomUserDetailsService delegate,
+            @Value("${app.security.user-cache.enabled:true}") boolean enabled,
+            @Value("${app.security.user-cache.max-size:10000}") long maxSize,
+            @Value("${app.security.user-cache.ttl:5m}") Duration ttl
+    ) {
+        this.delegate = delegate;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .evictionListener((String key, AuthenticatedUser user, RemovalCause cause) -> {
+                    if (key != null && user != null) {
+                        unindex(user.getId(), key);
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
+        if (!enabled) {
+            return delegate.loadUserByUsername(usernameOrEmail);
+        }
+
+        AuthenticatedUser cached = cache.getIfPresent(usernameOrEmail);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = invalidations.get();
+        UserDetails loaded = delegate.loadUserByUsername(usernameOrEmail);
+        if (loaded instanceof AuthenticatedUser user && generation == invalidations.get()) {
+            put(user.getUsername(), user);
+            if (user.getEmail() != null) {
+                put(user.getEmail(), user);
+            }
+            if (generation != invalidations.get()) {
+                // An invalidation slipped in between the check and the puts; drop what may be stale.
+                keysByUserId.remove(user.getId());
+                cache.invalidate(user.getUsername());
+                if (user.getEmail() != null) {
+                    cache.invalidate(user.getEmail());
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        Set<String> keys = keysByUserId.remove(userId);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+            log.debug("Invalidated cached user details for userId={}", userId);
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private void put(String key, AuthenticatedUser user) {
+        keysByUserId.computeIfAbsent(user.getId(), id -> ConcurrentHashMap.newKeySet()).add(key);
+        cache.put(key, user);
+    }
+
+    private void unindex(Long userId, String key) {
+        keysByUserId.computeIfPresent(userId, (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.ibrahim.jobtracker.service;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import com.ibrahim.jobtracker.dto.BatchItemResult;
+import com.ibrahim.jobtracker.dto.JobApplicationBatchUpdateRequest;
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
+import com.ibrahim.jobtracker.dto.JobApplicationResponse;
+import com.ibrahim.jobtracker.dto.JobApplicationStatsResponse;
+import com.ibrahim.jobtracker.dto.JobFilter;
+import com.ibrahim.jobtracker.dto.JobListFields;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+public interface JobApplicationService {
+
+    JobApplicationResponse create(JobApplicationRequest request, Long userId);
+
+    List<JobApplicationResponse> createAll(List<JobApplicationRequest> requests, Long userId);
+
+    Page<JobApplicationResponse> getJobs(
+            JobFilter filter,
+            Pageable pageable,
+            JobListFields fields,
+            Long userId,
+            boolean isAdmin
+    );
+
+    Slice<JobApplicationResponse> getJobSlice(
+            JobFilter filter,
+            Pageable pageable,
+            JobListFields fields,
+            Long userId,
+            boolean isAdmin
+    );
+
+    OptionalLong estimateJobCount(ApplicationStatus status);
+
+    Window<JobApplicationResponse> getJobWindow(
+            JobFilter filter,
+            KeysetScrollPosition position,
+            int size,
+            Sort.Direction direction,
+            JobListFields fields,
+            Long userId,
+            boolean isAdmin
+    );
+
+    /**
+     * The user's own jobs matching every term of {@code query}, most relevant first. Scoped to {@code userId} for
+     * admins too.
+     */
+    Window<JobApplicationResponse> searchJobs(
+            String query,
+            KeysetScrollPosition position,
+            int size,
+            JobListFields fields,
+            Long userId
+    );
+
+    List<String> suggestCompanies(String prefix, int limit, Long userId);
+
+    JobApplicationStatsResponse getStats(Long userId, boolean isAdmin);
+
+    /**
+     * Counter that changes whenever the user's jobs (any user's for admins) are written; cheap enough to check on
+     * every conditional request.
+     */
+    long getJobsVersion(Long userId, boolean isAdmin);
+
+    /**
+     * @param expectedVersion the job version the client last saw, or {@code null} to update unconditionally
+     */
+    JobApplicationResponse update(
+            Long id,
+            JobApplicationRequest request,
+            Long expectedVersion,
+            Long userId,
+            boolean isAdmin
+    );
+
+    void delete(Long id, Long userId, boolean isAdmin);
+
+    List<BatchItemResult> updateAll(List<JobApplicationBatchUpdateRequest> requests, Long userId, boolean isAdmin);
+
+    List<BatchItemResult> deleteAll(List<Long> ids, Long userId, boolean isAdmin);
+}
@@ -0,0 +1,17 @@
+package com.ibrahim.jobtracker.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.ibrahim.jobtracker.dto.ExportFormat;
+import com.ibrahim.jobtracker.dto.JobImportResponse;
+
+public interface JobBulkLoadService {
+
+    /**
+     * Admin import for data migrations: every row names its owner in a {@code username} column. On PostgreSQL valid
+     * rows are streamed in with {@code COPY}; other databases fall back to JDBC batch inserts. Rows are loaded in chunks
+     * that each commit in their own transaction.
+     */
+    JobImportResponse load(ExportFormat format, InputStream in) throws IOException;
+}
@@ -0,0 +1,13 @@
+package com.ibrahim.jobtracker.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface JobEventService {
+
+    /**
+     * Opens a server-sent event stream of committed changes to the user's job applications.
+     */
+    SseEmitter subscribe(Long userId);
+
+    int subscriberCount();
+}
@@ -0,0 +1,14 @@
+package com.ibrahim.jobtracker.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.ibrahim.jobtracker.dto.ExportFormat;
+
+public interface JobExportService {
+
+    /**
+     * Writes all of the user's job applications to {@code out} without holding them in memory.
+     */
+    long export(Long userId, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,21 @@
+package com.ibrahim.jobtracker.service;
+
+import java.util.List;
+
+import com.ibrahim.jobtracker.dto.JobFunnelResponse;
+import com.ibrahim.jobtracker.repository.StatusTransition;
+
+public interface JobFunnelService {
+
+    /**
+     * Funnel conversion from the transition counters and current per-status counts; no events are read. Users see
+     * their own jobs; admins see all users' jobs.
+     */
+    JobFunnelResponse getFunnel(Long userId, boolean isAdmin);
+
+    /**
+     * Appends a status event and adjusts the transition counters for each of {@code transitions}; call it in the
+     * transaction that changed the statuses.
+     */
+    void recordTransitions(List<StatusTransition> transitions);
+}
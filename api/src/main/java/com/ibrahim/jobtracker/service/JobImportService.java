@@ -0,0 +1,15 @@
+package com.ibrahim.jobtracker.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.ibrahim.jobtracker.dto.ExportFormat;
+import com.ibrahim.jobtracker.dto.JobImportResponse;
+
+public interface JobImportService {
+
+    /**
+     * Reads jobs row by row from {@code in} and saves the valid ones for the user; invalid rows are reported by line.
+     */
+    JobImportResponse importJobs(Long userId, ExportFormat format, InputStream in) throws IOException;
+}
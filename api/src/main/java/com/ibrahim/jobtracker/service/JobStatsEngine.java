@@ -0,0 +1,13 @@
+package com.ibrahim.jobtracker.service;
+
+import com.ibrahim.jobtracker.dto.JobApplicationStatsResponse;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+
+public interface JobStatsEngine {
+
+    void record(Long userId, ApplicationStatus status, long delta);
+
+    JobApplicationStatsResponse userStats(Long userId);
+
+    JobApplicationStatsResponse globalStats();
+}
@@ -0,0 +1,21 @@
+package com.ibrahim.jobtracker.service;
+
+import java.util.Collection;
+
+import com.ibrahim.jobtracker.dto.JobChangesResponse;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.util.JobSyncToken;
+
+public interface JobSyncService {
+
+    /**
+     * Up to {@code limit} of the user's job changes after {@code token} in change order, or all jobs from the start
+     * when {@code token} is {@code null}.
+     */
+    JobChangesResponse changesSince(JobSyncToken token, int limit, Long userId);
+
+    /**
+     * Records tombstones for jobs deleted in the current transaction.
+     */
+    void recordDeleted(Collection<JobApplication> jobs);
+}
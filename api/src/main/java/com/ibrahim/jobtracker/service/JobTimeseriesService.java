@@ -0,0 +1,22 @@
+package com.ibrahim.jobtracker.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+import com.ibrahim.jobtracker.dto.JobTimeseriesResponse;
+import com.ibrahim.jobtracker.dto.TimeBucket;
+
+public interface JobTimeseriesService {
+
+    /**
+     * Jobs per status in each bucket of applied dates from {@code from} to {@code to} (inclusive), by default the
+     * twelve buckets up to today. Users see their own jobs; admins see all users' jobs from the daily rollup.
+     */
+    JobTimeseriesResponse getTimeseries(TimeBucket bucket, LocalDate from, LocalDate to, Long userId, boolean isAdmin);
+
+    /**
+     * Queues the rollup of the given applied dates for a recount; call it in the transaction that created, changed
+     * the status or applied date of, or deleted jobs on those dates.
+     */
+    void recordChanged(Collection<LocalDate> appliedDates);
+}
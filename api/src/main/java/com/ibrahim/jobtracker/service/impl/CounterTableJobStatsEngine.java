@@ -0,0 +1,33 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import com.ibrahim.jobtracker.dto.JobApplicationStatsResponse;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.repository.JobApplicationStatsRepository;
+import com.ibrahim.jobtracker.repository.StatusCount;
+import com.ibrahim.jobtracker.service.JobStatsEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.stats.engine", havingValue = "counter-table", matchIfMissing = true)
+public class CounterTableJobStatsEngine implements JobStatsEngine {
+
+    private final JobApplicationStatsRepository statsRepository;
+
+    @Override
+    public void record(Long userId, ApplicationStatus status, long delta) {
+        statsRepository.increment(userId, status, delta);
+    }
+
+    @Override
+    public JobApplicationStatsResponse userStats(Long userId) {
+        return JobApplicationStatsResponse.from(StatusCount.toMap(statsRepository.countByStatusForUser(userId)));
+    }
+
+    @Override
+    public JobApplicationStatsResponse globalStats() {
+        return JobApplicationStatsResponse.from(StatusCount.toMap(statsRepository.countByStatus()));
+    }
+}
@@ -0,0 +1,138 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.ibrahim.jobtracker.dto.JobApplicationStatsResponse;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository.UserStatusCount;
+import com.ibrahim.jobtracker.repository.JobApplicationStatsRepository;
+import com.ibrahim.jobtracker.service.JobStatsEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps per-user and global status counters in memory and writes dirty users back to
+ * {@code job_application_stats} on a fixed delay. Counts only reflect writes made through this
+ * instance, so this engine suits single-instance deployments. Drift is only repaired by the recount at startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.stats.engine", havingValue = "in-memory")
+public class InMemoryJobStatsEngine implements JobStatsEngine, InitializingBean, DisposableBean {
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    private final JobApplicationRepository repository;
+    private final JobApplicationStatsRepository statsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, LongAdder[]> userCounters = new ConcurrentHashMap<>();
+    private final LongAdder[] globalCounters = newCounters();
+    private final Set<Long> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void afterPropertiesSet() {
+        List<UserStatusCount> counts = repository.countByUserAndStatus();
+        for (UserStatusCount count : counts) {
+            countersFor(count.getUserId())[count.getStatus().ordinal()].add(count.getCount());
+            globalCounters[count.getStatus().ordinal()].add(count.getCount());
+        }
+        log.info("Warmed in-memory job stats for {} users", userCounters.size());
+    }
+
+    @Override
+    public void record(Long userId, ApplicationStatus status, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(userId, status, delta);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(userId, status, delta);
+            }
+        });
+    }
+
+    @Override
+    public JobApplicationStatsResponse userStats(Long userId) {
+        LongAdder[] counters = userCounters.get(userId);
+        return counters == null ? JobApplicationStatsResponse.from(Map.of()) : toResponse(counters);
+    }
+
+    @Override
+    public JobApplicationStatsResponse globalStats() {
+        return toResponse(globalCounters);
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.write-behind-interval-ms:5000}")
+    public void flush() {
+        if (dirtyUsers.isEmpty()) {
+            return;
+        }
+
+        List<Long> userIds = new ArrayList<>(dirtyUsers);
+        dirtyUsers.removeAll(userIds);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Long userId : userIds) {
+                    LongAdder[] counters = userCounters.get(userId);
+                    for (ApplicationStatus applicationStatus : STATUSES) {
+                        statsRepository.overwrite(userId, applicationStatus, counters[applicationStatus.ordinal()].sum());
+                    }
+                }
+            });
+            log.debug("Wrote job stats for {} users to job_application_stats", userIds.size());
+        } catch (RuntimeException ex) {
+            dirtyUsers.addAll(userIds);
+            log.warn("Failed to write job stats for {} users; will retry", userIds.size(), ex);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private void apply(Long userId, ApplicationStatus status, long delta) {
+        countersFor(userId)[status.ordinal()].add(delta);
+        globalCounters[status.ordinal()].add(delta);
+        dirtyUsers.add(userId);
+    }
+
+    private LongAdder[] countersFor(Long userId) {
+        return userCounters.computeIfAbsent(userId, id -> newCounters());
+    }
+
+    private static JobApplicationStatsResponse toResponse(LongAdder[] counters) {
+        Map<ApplicationStatus, Long> byStatus = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : STATUSES) {
+            byStatus.put(status, counters[status.ordinal()].sum());
+        }
+        return JobApplicationStatsResponse.from(byStatus);
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[STATUSES.length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+}
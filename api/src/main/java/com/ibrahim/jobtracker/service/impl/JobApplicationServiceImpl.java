@@ -0,0 +1,557 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.ibrahim.jobtracker.dto.BatchItemResult;
+import com.ibrahim.jobtracker.dto.JobApplicationBatchUpdateRequest;
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
+import com.ibrahim.jobtracker.dto.JobApplicationResponse;
+import com.ibrahim.jobtracker.dto.JobApplicationStatsResponse;
+import com.ibrahim.jobtracker.dto.JobChangeEvent;
+import com.ibrahim.jobtracker.dto.JobFilter;
+import com.ibrahim.jobtracker.dto.JobListFields;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.exception.PreconditionFailedException;
+import com.ibrahim.jobtracker.exception.ResourceNotFoundException;
+import com.ibrahim.jobtracker.repository.JobApplicationListItem;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.JobApplicationSpecifications;
+import com.ibrahim.jobtracker.repository.JobSearchHit;
+import com.ibrahim.jobtracker.repository.JobsVersionRepository;
+import com.ibrahim.jobtracker.repository.StatusTransition;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.service.JobApplicationService;
+import com.ibrahim.jobtracker.service.JobFunnelService;
+import com.ibrahim.jobtracker.service.JobStatsEngine;
+import com.ibrahim.jobtracker.service.JobSyncService;
+import com.ibrahim.jobtracker.service.JobTimeseriesService;
+import com.ibrahim.jobtracker.util.JobApplicationCursor;
+import com.ibrahim.jobtracker.util.JobApplicationMapper;
+import com.ibrahim.jobtracker.util.JobSearchCursor;
+import com.ibrahim.jobtracker.util.SearchTerms;
+import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class JobApplicationServiceImpl implements JobApplicationService {
+
+    private final JobApplicationRepository repository;
+    private final UserRepository userRepository;
+    private final JobsVersionRepository jobsVersionRepository;
+    private final JobStatsEngine statsEngine;
+    private final JobApplicationMapper mapper;
+    private final JobSyncService syncService;
+    private final JobTimeseriesService timeseriesService;
+    private final JobFunnelService funnelService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public JobApplicationResponse create(JobApplicationRequest request, Long userId) {
+        JobApplication entity = mapper.toEntity(request);
+        entity.setUser(userRepository.getReferenceById(userId));
+        JobApplication saved = repository.save(entity);
+        statsEngine.record(userId, saved.getStatus(), 1);
+        timeseriesService.recordChanged(List.of(saved.getAppliedDate()));
+        bumpJobsVersion(Set.of(userId));
+        JobApplicationResponse response = mapper.toResponse(saved);
+        publishChange(JobChangeEvent.Type.CREATED, saved.getId(), userId, response, null);
+        log.info("Created job application id={} for userId={}", saved.getId(), userId);
+        return response;
+    }
+
+    @Override
+    public List<JobApplicationResponse> createAll(List<JobApplicationRequest> requests, Long userId) {
+        User owner = userRepository.getReferenceById(userId);
+        List<JobApplication> entities = new ArrayList<>(requests.size());
+        Map<ApplicationStatus, Long> createdByStatus = new EnumMap<>(ApplicationStatus.class);
+        for (JobApplicationRequest request : requests) {
+            JobApplication entity = mapper.toEntity(request);
+            entity.setUser(owner);
+            entities.add(entity);
+            createdByStatus.merge(entity.getStatus(), 1L, Long::sum);
+        }
+
+        List<JobApplication> saved = repository.saveAll(entities);
+        createdByStatus.forEach((status, count) -> statsEngine.record(userId, status, count));
+        timeseriesService.recordChanged(saved.stream().map(JobApplication::getAppliedDate).toList());
+        bumpJobsVersion(Set.of(userId));
+        List<JobApplicationResponse> responses = new ArrayList<>(saved.size());
+        for (JobApplication job : saved) {
+            JobApplicationResponse response = mapper.toResponse(job);
+            responses.add(response);
+            publishChange(JobChangeEvent.Type.CREATED, job.getId(), userId, response, null);
+        }
+        log.info("Created {} job applications for userId={}", saved.size(), userId);
+        return responses;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobApplicationResponse> getJobs(
+            JobFilter filter,
+            Pageable pageable,
+            JobListFields fields,
+            Long userId,
+            boolean isAdmin
+    ) {
+        Class<? extends JobApplicationListItem> type = listItemType(fields);
+        if (!filter.isStatusOnly()) {
+            Specification<JobApplication> spec = JobApplicationSpecifications.matching(filter, isAdmin ? null : userId);
+            List<? extends JobApplicationListItem> rows = repository.findListItems(
+                    spec, withIdTieBreak(pageable.getSort()), pageable.getOffset(), pageable.getPageSize(), type);
+            log.debug("Fetched filtered jobs for userId={} admin={} page={} size={}",
+                    userId, isAdmin, pageable.getPageNumber(), pageable.getPageSize());
+            return PageableExecutionUtils.getPage(rows.stream().map(mapper::toResponse).toList(), pageable,
+                    () -> repository.count(spec));
+        }
+
+        ApplicationStatus status = filter.singleStatus();
+        if (isAdmin) {
+            Page<? extends JobApplicationListItem> adminPage = status == null
+                    ? repository.findAllBy(pageable, type)
+                    : repository.findAllByStatus(status, pageable, type);
+            log.debug("Fetched jobs for admin with status={} page={} size={}", status, pageable.getPageNumber(), pageable.getPageSize());
+            return adminPage.map(mapper::toResponse);
+        }
+
+        Page<? extends JobApplicationListItem> userPage = status == null
+                ? repository.findAllByUserId(userId, pageable, type)
+                : repository.findAllByUserIdAndStatus(userId, status, pageable, type);
+        log.debug("Fetched jobs for userId={} with status={} page={} size={}", userId, status, pageable.getPageNumber(), pageable.getPageSize());
+
+        return userPage.map(mapper::toResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<JobApplicationResponse> getJobSlice(
+            JobFilter filter,
+            Pageable pageable,
+            JobListFields fields,
+            Long userId,
+            boolean isAdmin
+    ) {
+        Class<? extends JobApplicationListItem> type = listItemType(fields);
+        if (!filter.isStatusOnly()) {
+            Specification<JobApplication> spec = JobApplicationSpecifications.matching(filter, isAdmin ? null : userId);
+            List<? extends JobApplicationListItem> rows = repository.findListItems(
+                    spec, withIdTieBreak(pageable.getSort()), pageable.getOffset(), pageable.getPageSize() + 1, type);
+            boolean hasNext = rows.size() > pageable.getPageSize();
+            log.debug("Fetched filtered job slice for userId={} admin={} page={} size={} hasNext={}",
+                    userId, isAdmin, pageable.getPageNumber(), pageable.getPageSize(), hasNext);
+            return new SliceImpl<>(rows.stream().limit(pageable.getPageSize()).map(mapper::toResponse).toList(),
+                    pageable, hasNext);
+        }
+
+        ApplicationStatus status = filter.singleStatus();
+        Slice<? extends JobApplicationListItem> slice;
+        if (isAdmin) {
+            slice = status == null
+                    ? repository.findSliceBy(pageable, type)
+                    : repository.findSliceByStatus(status, pageable, type);
+        } else {
+            slice = status == null
+                    ? repository.findSliceByUserId(userId, pageable, type)
+                    : repository.findSliceByUserIdAndStatus(userId, status, pageable, type);
+        }
+        log.debug("Fetched job slice for userId={} admin={} status={} page={} size={}",
+                userId, isAdmin, status, pageable.getPageNumber(), pageable.getPageSize());
+
+        return slice.map(mapper::toResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OptionalLong estimateJobCount(ApplicationStatus status) {
+        return repository.estimateCount(status);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Window<JobApplicationResponse> getJobWindow(
+            JobFilter filter,
+            KeysetScrollPosition position,
+            int size,
+            Sort.Direction direction,
+            JobListFields fields,
+            Long userId,
+            boolean isAdmin
+    ) {
+        Limit limit = Limit.of(size);
+        Sort sort = Sort.by(direction, "appliedDate", "id");
+        Class<? extends JobApplicationListItem> type = listItemType(fields);
+        ApplicationStatus status = filter.singleStatus();
+
+        Window<? extends JobApplicationListItem> window;
+        if (!filter.isStatusOnly()) {
+            Specification<JobApplication> spec = JobApplicationSpecifications.matching(filter, isAdmin ? null : userId)
+                    .and(JobApplicationSpecifications.after(position, direction));
+            List<? extends JobApplicationListItem> rows = repository.findListItems(spec, sort, 0, size + 1, type);
+            boolean hasNext = rows.size() > size;
+            // Positions are rebuilt from the mapped rows below, like for the derived queries.
+            List<? extends JobApplicationListItem> page = hasNext ? rows.subList(0, size) : rows;
+            window = Window.from(page, index -> position, hasNext);
+        } else if (isAdmin) {
+            window = status == null
+                    ? repository.findWindowBy(position, limit, sort, type)
+                    : repository.findWindowByStatus(status, position, limit, sort, type);
+        } else {
+            window = status == null
+                    ? repository.findWindowByUserId(userId, position, limit, sort, type)
+                    : repository.findWindowByUserIdAndStatus(userId, status, position, limit, sort, type);
+        }
+        log.debug("Fetched job window for userId={} admin={} status={} size={} hasNext={}",
+                userId, isAdmin, status, size, window.hasNext());
+
+        // Spring Data can only derive keyset positions from entities, so rebuild them from the projected rows.
+        List<JobApplicationResponse> content = window.getContent().stream().map(mapper::toResponse).toList();
+        return Window.from(content, index -> JobApplicationCursor.positionAfter(
+                content.get(index).getAppliedDate(), content.get(index).getId()), window.hasNext());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Window<JobApplicationResponse> searchJobs(
+            String query,
+            KeysetScrollPosition position,
+            int size,
+            JobListFields fields,
+            Long userId
+    ) {
+        List<String> terms = SearchTerms.parse(query);
+        Map<String, Object> after = position.getKeys();
+        Float afterRank = (Float) after.get(JobSearchCursor.RANK);
+        Long afterId = (Long) after.get(JobSearchCursor.ID);
+
+        List<JobSearchHit> hits = repository.search(
+                userId, terms, afterRank, afterId, size + 1, fields == JobListFields.ALL);
+        boolean hasNext = hits.size() > size;
+        List<JobSearchHit> page = hasNext ? hits.subList(0, size) : hits;
+        log.debug("Searched jobs for userId={} terms={} size={} hasNext={}", userId, terms.size(), size, hasNext);
+
+        List<JobApplicationResponse> content = page.stream().map(hit -> mapper.toResponse(hit.item())).toList();
+        return Window.from(content, index -> JobSearchCursor.positionAfter(
+                page.get(index).rank(), page.get(index).item().id()), hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> suggestCompanies(String prefix, int limit, Long userId) {
+        return repository.findCompanyNames(userId, prefix.strip(), limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public JobApplicationStatsResponse getStats(Long userId, boolean isAdmin) {
+        if (isAdmin) {
+            JobApplicationStatsResponse stats = statsEngine.globalStats();
+            log.info("Computed global job stats for admin");
+            return stats;
+        }
+
+        JobApplicationStatsResponse stats = statsEngine.userStats(userId);
+        log.info("Computed job stats for userId={}", userId);
+        return stats;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getJobsVersion(Long userId, boolean isAdmin) {
+        return (isAdmin ? jobsVersionRepository.findCurrent() : userRepository.findJobsVersionById(userId)).orElse(0L);
+    }
+
+    @Override
+    public JobApplicationResponse update(
+            Long id,
+            JobApplicationRequest request,
+            Long expectedVersion,
+            Long userId,
+            boolean isAdmin
+    ) {
+        JobApplication existing = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Job application not found with id: " + id));
+
+        enforceOwnership(existing, userId, isAdmin);
+        if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+            throw new PreconditionFailedException("Job application " + id + " has been modified since version "
+                    + expectedVersion);
+        }
+
+        ApplicationStatus previousStatus = existing.getStatus();
+        LocalDate previousAppliedDate = existing.getAppliedDate();
+        mapper.updateEntity(existing, request);
+        // Flushed here so the version check runs now and the response carries the new version.
+        JobApplication saved = repository.saveAndFlush(existing);
+        if (previousStatus != saved.getStatus()) {
+            recordStatusChange(saved.getUser().getId(), previousStatus, saved.getStatus());
+            funnelService.recordTransitions(List.of(
+                    new StatusTransition(saved.getId(), saved.getUser().getId(), previousStatus, saved.getStatus())));
+        }
+        if (previousStatus != saved.getStatus() || !previousAppliedDate.equals(saved.getAppliedDate())) {
+            timeseriesService.recordChanged(List.of(previousAppliedDate, saved.getAppliedDate()));
+        }
+        bumpJobsVersion(Set.of(saved.getUser().getId()));
+        JobApplicationResponse response = mapper.toResponse(saved);
+        publishUpdate(saved, response, previousStatus);
+        log.info("Updated job application id={} by userId={} admin={}", id, userId, isAdmin);
+        return response;
+    }
+
+    @Override
+    public void delete(Long id, Long userId, boolean isAdmin) {
+        JobApplication existing = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Job application not found with id: " + id));
+
+        enforceOwnership(existing, userId, isAdmin);
+
+        repository.delete(existing);
+        syncService.recordDeleted(List.of(existing));
+        statsEngine.record(existing.getUser().getId(), existing.getStatus(), -1);
+        timeseriesService.recordChanged(List.of(existing.getAppliedDate()));
+        bumpJobsVersion(Set.of(existing.getUser().getId()));
+        publishDeleted(existing);
+        log.info("Deleted job application id={} by userId={} admin={}", id, userId, isAdmin);
+    }
+
+    @Override
+    public List<BatchItemResult> updateAll(
+            List<JobApplicationBatchUpdateRequest> requests,
+            Long userId,
+            boolean isAdmin
+    ) {
+        Map<Long, JobApplication> existing = loadAccessible(
+                requests.stream().map(JobApplicationBatchUpdateRequest::getId).toList(), userId, isAdmin);
+
+        Map<Long, Map<ApplicationStatus, Long>> statsDeltas = new TreeMap<>();
+        Set<Long> owners = new TreeSet<>();
+        Map<Long, ApplicationStatus> originalStatuses = new LinkedHashMap<>();
+        List<LocalDate> changedDates = new ArrayList<>();
+        List<StatusTransition> transitions = new ArrayList<>();
+        for (JobApplicationBatchUpdateRequest request : requests) {
+            JobApplication entity = existing.get(request.getId());
+            if (entity == null) {
+                continue;
+            }
+
+            ApplicationStatus previousStatus = entity.getStatus();
+            LocalDate previousAppliedDate = entity.getAppliedDate();
+            originalStatuses.putIfAbsent(entity.getId(), previousStatus);
+            mapper.updateEntity(entity, request);
+            owners.add(entity.getUser().getId());
+            if (previousStatus != entity.getStatus()) {
+                addStatsDelta(statsDeltas, entity.getUser().getId(), previousStatus, -1);
+                addStatsDelta(statsDeltas, entity.getUser().getId(), entity.getStatus(), 1);
+                transitions.add(new StatusTransition(
+                        entity.getId(), entity.getUser().getId(), previousStatus, entity.getStatus()));
+            }
+            if (previousStatus != entity.getStatus() || !previousAppliedDate.equals(entity.getAppliedDate())) {
+                changedDates.add(previousAppliedDate);
+                changedDates.add(entity.getAppliedDate());
+            }
+        }
+        // Flush before mapping so each result carries the version its update was written with.
+        repository.flush();
+
+        Map<Long, JobApplicationResponse> responses = new LinkedHashMap<>();
+        originalStatuses.keySet().forEach(id -> responses.put(id, mapper.toResponse(existing.get(id))));
+        List<BatchItemResult> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Long id = requests.get(i).getId();
+            JobApplicationResponse job = responses.get(id);
+            results.add(!responses.containsKey(id) ? notFound(i, id) : BatchItemResult.builder()
+                    .index(i)
+                    .id(id)
+                    .outcome(BatchItemResult.Outcome.UPDATED)
+                    .job(job)
+                    .build());
+        }
+
+        recordStatsDeltas(statsDeltas);
+        funnelService.recordTransitions(transitions);
+        timeseriesService.recordChanged(changedDates);
+        bumpJobsVersion(owners);
+        // One event per distinct job, from its status before the batch to its final state.
+        originalStatuses.forEach((id, previousStatus) -> publishUpdate(existing.get(id), responses.get(id), previousStatus));
+        log.info("Batch updated {} of {} job applications by userId={} admin={}",
+                existing.size(), requests.size(), userId, isAdmin);
+        return results;
+    }
+
+    @Override
+    public List<BatchItemResult> deleteAll(List<Long> ids, Long userId, boolean isAdmin) {
+        Map<Long, JobApplication> existing = loadAccessible(ids, userId, isAdmin);
+
+        List<BatchItemResult> results = new ArrayList<>(ids.size());
+        List<JobApplication> toDelete = new ArrayList<>(existing.size());
+        Set<Long> seen = new HashSet<>();
+        Map<Long, Map<ApplicationStatus, Long>> statsDeltas = new TreeMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            JobApplication entity = existing.get(id);
+            if (entity == null || !seen.add(id)) {
+                results.add(notFound(i, id));
+                continue;
+            }
+
+            toDelete.add(entity);
+            addStatsDelta(statsDeltas, entity.getUser().getId(), entity.getStatus(), -1);
+            results.add(BatchItemResult.builder()
+                    .index(i)
+                    .id(id)
+                    .outcome(BatchItemResult.Outcome.DELETED)
+                    .build());
+        }
+
+        repository.deleteAll(toDelete);
+        syncService.recordDeleted(toDelete);
+        recordStatsDeltas(statsDeltas);
+        timeseriesService.recordChanged(toDelete.stream().map(JobApplication::getAppliedDate).toList());
+        bumpJobsVersion(statsDeltas.keySet());
+        toDelete.forEach(this::publishDeleted);
+        log.info("Batch deleted {} of {} job applications by userId={} admin={}",
+                toDelete.size(), ids.size(), userId, isAdmin);
+        return results;
+    }
+
+    private Map<Long, JobApplication> loadAccessible(List<Long> ids, Long userId, boolean isAdmin) {
+        // One query for the whole batch; ids owned by other users come back missing and are reported as not found.
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        List<JobApplication> found = isAdmin
+                ? repository.findAllById(distinctIds)
+                : repository.findAllByIdInAndUserId(distinctIds, userId);
+        return found.stream().collect(Collectors.toMap(JobApplication::getId, Function.identity()));
+    }
+
+    private BatchItemResult notFound(int index, Long id) {
+        return BatchItemResult.builder()
+                .index(index)
+                .id(id)
+                .outcome(BatchItemResult.Outcome.NOT_FOUND)
+                .message("Job application not found with id: " + id)
+                .build();
+    }
+
+    private void addStatsDelta(
+            Map<Long, Map<ApplicationStatus, Long>> deltas,
+            Long ownerId,
+            ApplicationStatus status,
+            long delta
+    ) {
+        deltas.computeIfAbsent(ownerId, ignored -> new EnumMap<>(ApplicationStatus.class))
+                .merge(status, delta, Long::sum);
+    }
+
+    private void recordStatsDeltas(Map<Long, Map<ApplicationStatus, Long>> deltas) {
+        // Owners and statuses are visited in sorted order, matching recordStatusChange, so batches cannot deadlock.
+        deltas.forEach((ownerId, byStatus) -> byStatus.forEach((status, delta) -> {
+            if (delta != 0) {
+                statsEngine.record(ownerId, status, delta);
+            }
+        }));
+    }
+
+    private void bumpJobsVersion(Set<Long> ownerIds) {
+        // Runs after the counter rows are touched so every write path takes its row locks in the same order.
+        if (!ownerIds.isEmpty()) {
+            userRepository.incrementJobsVersion(ownerIds);
+            jobsVersionRepository.increment();
+        }
+    }
+
+    private void publishUpdate(JobApplication job, JobApplicationResponse response, ApplicationStatus previousStatus) {
+        Long ownerId = job.getUser().getId();
+        if (previousStatus != job.getStatus()) {
+            publishChange(JobChangeEvent.Type.STATUS_CHANGED, job.getId(), ownerId, response, previousStatus);
+        } else {
+            publishChange(JobChangeEvent.Type.UPDATED, job.getId(), ownerId, response, null);
+        }
+    }
+
+    private void publishChange(
+            JobChangeEvent.Type type,
+            Long jobId,
+            Long ownerId,
+            JobApplicationResponse response,
+            ApplicationStatus previousStatus
+    ) {
+        // Delivered by listeners after commit, so subscribers never see a change that was rolled back.
+        eventPublisher.publishEvent(JobChangeEvent.builder()
+                .type(type)
+                .jobId(jobId)
+                .userId(ownerId)
+                .previousStatus(previousStatus)
+                .job(response)
+                .build());
+    }
+
+    private void publishDeleted(JobApplication job) {
+        eventPublisher.publishEvent(JobChangeEvent.builder()
+                .type(JobChangeEvent.Type.DELETED)
+                .jobId(job.getId())
+                .userId(job.getUser().getId())
+                .build());
+    }
+
+    // Filtered queries end on id as well, so pages are stable across equal applied dates and match the index order.
+    private static Sort withIdTieBreak(Sort sort) {
+        Sort.Direction direction = sort.stream().findFirst().map(Sort.Order::getDirection).orElse(Sort.Direction.DESC);
+        return sort.and(Sort.by(direction, "id"));
+    }
+
+    private static Class<? extends JobApplicationListItem> listItemType(JobListFields fields) {
+        return fields == JobListFields.SUMMARY ? JobApplicationListItem.Summary.class : JobApplicationListItem.Full.class;
+    }
+
+    private void recordStatusChange(Long ownerId, ApplicationStatus from, ApplicationStatus to) {
+        // Touch counter rows in a fixed order so concurrent status changes cannot deadlock.
+        if (from.compareTo(to) < 0) {
+            statsEngine.record(ownerId, from, -1);
+            statsEngine.record(ownerId, to, 1);
+        } else {
+            statsEngine.record(ownerId, to, 1);
+            statsEngine.record(ownerId, from, -1);
+        }
+    }
+
+    private void enforceOwnership(JobApplication application, Long userId, boolean isAdmin) {
+        if (isAdmin) {
+            return;
+        }
+
+        if (application.getUser() == null || !application.getUser().getId().equals(userId)) {
+            throw new AccessDeniedException("You can only access your own job applications");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import java.util.List;
+
+import com.ibrahim.jobtracker.repository.JobApplicationStatsRepository;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Recounts the stats counters from {@code job_applications} one user at a time, each in its own REPEATABLE READ
+ * transaction. A writer that commits a counter change while a user is being recounted makes that recount fail rather
+ * than be overwritten; the user is then recounted from a fresh snapshot, up to {@value #MAX_ATTEMPTS} times. Only runs
+ * for the {@code counter-table} engine: the {@code in-memory} engine would overwrite repaired rows on its next flush.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.stats.engine", havingValue = "counter-table", matchIfMissing = true)
+public class JobApplicationStatsReconciler {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final JobApplicationStatsRepository statsRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public JobApplicationStatsReconciler(
+            JobApplicationStatsRepository statsRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.statsRepository = statsRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.stats.reconcile-interval-ms:3600000}",
+            initialDelayString = "${app.stats.reconcile-interval-ms:3600000}"
+    )
+    public void reconcile() {
+        List<Long> userIds = userRepository.findAllIds();
+        int repaired = 0;
+        for (Long userId : userIds) {
+            repaired += reconcile(userId);
+        }
+        if (repaired > 0) {
+            log.warn("Repaired {} drifted job stats counters", repaired);
+        } else {
+            log.debug("Job stats counters of {} users are in sync", userIds.size());
+        }
+    }
+
+    private int reconcile(Long userId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Integer repaired = transactionTemplate.execute(status -> statsRepository.reconcile(userId));
+                return repaired == null ? 0 : repaired;
+            } catch (ConcurrencyFailureException | DuplicateKeyException ex) {
+                if (attempt == MAX_ATTEMPTS) {
+                    log.warn("Job stats of userId={} kept changing during reconciliation; will retry on the next run",
+                            userId);
+                    return 0;
+                }
+                log.debug("Job stats of userId={} changed during reconciliation, recounting", userId);
+            }
+        }
+    }
+}
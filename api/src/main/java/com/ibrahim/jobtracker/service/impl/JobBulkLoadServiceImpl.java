@@ -0,0 +1,230 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibrahim.jobtracker.dto.ExportFormat;
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
+import com.ibrahim.jobtracker.dto.JobImportResponse;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.JobsVersionRepository;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.service.JobBulkLoadService;
+import com.ibrahim.jobtracker.service.JobStatsEngine;
+import com.ibrahim.jobtracker.service.JobTimeseriesService;
+import com.ibrahim.jobtracker.util.JobApplicationMapper;
+import com.ibrahim.jobtracker.util.JobRecordReader;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class JobBulkLoadServiceImpl implements JobBulkLoadService {
+
+    // COPY is cheap per row, so chunks are larger than for imports while each still commits within a second or so.
+    static final int CHUNK_SIZE = 5_000;
+
+    private final JobApplicationRepository repository;
+    private final UserRepository userRepository;
+    private final JobsVersionRepository jobsVersionRepository;
+    private final JobStatsEngine statsEngine;
+    private final JobTimeseriesService timeseriesService;
+    private final JobApplicationMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public JobImportResponse load(ExportFormat format, InputStream in) throws IOException {
+        long started = System.nanoTime();
+        Path spool = Files.createTempFile("job-bulk-load-", ".ndjson");
+        try {
+            Progress progress = new Progress();
+            Set<String> usernames = spoolValidRows(format, in, spool, progress);
+
+            // One query resolves every owner named in the upload.
+            Map<String, Long> userIds = new HashMap<>();
+            if (!usernames.isEmpty()) {
+                userRepository.findIdentitiesByUsernameIn(usernames)
+                        .forEach(user -> userIds.put(user.getUsername(), user.getId()));
+            }
+
+            try (BufferedReader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+                SpooledJobs jobs = new SpooledJobs(reader, userIds, progress);
+                List<JobApplication> chunk = new ArrayList<>(CHUNK_SIZE);
+                long loaded = 0;
+                while (jobs.hasNext()) {
+                    chunk.add(jobs.next());
+                    if (chunk.size() == CHUNK_SIZE || !jobs.hasNext()) {
+                        loaded += loadChunk(chunk);
+                        chunk.clear();
+                    }
+                }
+
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+                long processed = loaded + progress.failed;
+                long rowsPerSecond = processed * 1_000_000_000L / Math.max(elapsed.toNanos(), 1);
+                log.info("Bulk loaded {} job applications ({} rejected) as {} via {} in {} ms ({} rows/s)",
+                        loaded, progress.failed, format, repository.supportsCopy() ? "COPY" : "JDBC batch",
+                        elapsed.toMillis(), rowsPerSecond);
+                return JobImportResponse.builder()
+                        .imported(loaded)
+                        .failed(progress.failed)
+                        .durationMs(elapsed.toMillis())
+                        .rowsPerSecond(rowsPerSecond)
+                        .errorsTruncated(progress.failed > progress.errors.size())
+                        .errors(progress.errors)
+                        .build();
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } finally {
+            Files.deleteIfExists(spool);
+        }
+    }
+
+    /**
+     * First pass: validates the upload and writes valid rows to {@code spool}, collecting the usernames so owners
+     * can be resolved before anything is inserted.
+     */
+    private Set<String> spoolValidRows(ExportFormat format, InputStream in, Path spool, Progress progress)
+            throws IOException {
+        Set<String> usernames = new HashSet<>();
+        JobRecordReader records = JobRecordReader.open(
+                format, new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), objectMapper, validator);
+        try (Writer writer = new BufferedWriter(Files.newBufferedWriter(spool, StandardCharsets.UTF_8))) {
+            JobRecordReader.JobRecord record;
+            while ((record = records.next()) != null) {
+                if (record.error() != null) {
+                    progress.reject(record.line(), record.error());
+                } else if (record.username() == null || record.username().isBlank()) {
+                    progress.reject(record.line(), "username: Username is required");
+                } else {
+                    String username = record.username().trim();
+                    writer.write(objectMapper.writeValueAsString(new SpooledRow(record.line(), username, record.request())));
+                    writer.write('\n');
+                    usernames.add(username);
+                }
+            }
+        }
+        return usernames;
+    }
+
+    /**
+     * Loads one chunk in its own short transaction, together with its stats, timeseries and version updates, so
+     * rows are stamped and committed close together and earlier chunks stay loaded if a later one fails.
+     */
+    private int loadChunk(List<JobApplication> chunk) {
+        Map<Long, Map<ApplicationStatus, Long>> statsDeltas = new TreeMap<>();
+        Set<LocalDate> appliedDates = new TreeSet<>();
+        for (JobApplication job : chunk) {
+            statsDeltas.computeIfAbsent(job.getUser().getId(), ignored -> new EnumMap<>(ApplicationStatus.class))
+                    .merge(job.getStatus(), 1L, Long::sum);
+            appliedDates.add(job.getAppliedDate());
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            repository.copyIn(chunk.size(), chunk.iterator());
+            recordStats(statsDeltas);
+            timeseriesService.recordChanged(appliedDates);
+            userRepository.incrementJobsVersion(statsDeltas.keySet());
+            jobsVersionRepository.increment();
+        });
+        return chunk.size();
+    }
+
+    private void recordStats(Map<Long, Map<ApplicationStatus, Long>> deltas) {
+        // Sorted by owner and status, like batch writes, so concurrent loads cannot deadlock on counter rows.
+        deltas.forEach((ownerId, byStatus) -> byStatus.forEach((status, count) -> statsEngine.record(ownerId, status, count)));
+    }
+
+    private record SpooledRow(long line, String username, JobApplicationRequest request) {
+    }
+
+    private static final class Progress {
+        private final List<JobImportResponse.LineError> errors = new ArrayList<>();
+        private long failed;
+
+        private void reject(long line, String message) {
+            failed++;
+            if (errors.size() < JobImportServiceImpl.MAX_REPORTED_ERRORS) {
+                errors.add(new JobImportResponse.LineError(line, message));
+            }
+        }
+    }
+
+    /**
+     * Second pass over the spool file. Rows whose username did not resolve are reported and skipped.
+     */
+    private final class SpooledJobs implements Iterator<JobApplication> {
+
+        private final BufferedReader reader;
+        private final Map<String, Long> userIds;
+        private final Progress progress;
+        private JobApplication next;
+
+        private SpooledJobs(BufferedReader reader, Map<String, Long> userIds, Progress progress) {
+            this.reader = reader;
+            this.userIds = userIds;
+            this.progress = progress;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                String line;
+                while (next == null && (line = reader.readLine()) != null) {
+                    SpooledRow row = objectMapper.readValue(line, SpooledRow.class);
+                    Long userId = userIds.get(row.username());
+                    if (userId == null) {
+                        progress.reject(row.line(), "username: unknown user '" + row.username() + "'");
+                        continue;
+                    }
+                    next = mapper.toEntity(row.request());
+                    next.setUser(User.builder().id(userId).build());
+                }
+                return next != null;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public JobApplication next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            JobApplication current = next;
+            next = null;
+            return current;
+        }
+    }
+}
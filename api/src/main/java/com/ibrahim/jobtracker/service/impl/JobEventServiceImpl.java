@@ -0,0 +1,400 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibrahim.jobtracker.dto.JobChangeEvent;
+import com.ibrahim.jobtracker.service.JobEventService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans committed job changes out to SSE subscribers. Streams are asynchronous requests, so an idle subscriber holds a
+ * socket and a small queue but no thread. Each queue is bounded and drops its oldest message when full, and at most
+ * one drain task per subscriber runs on a small shared pool, so a slow client can neither grow memory nor hold up the
+ * request that committed the change. Sends are blocking, so a send that runs past {@code app.events.send-timeout-ms}
+ * is given up on: the stream is dropped and the pool gets an extra thread until the stuck one returns, which keeps
+ * stalled clients from starving everyone else. At most {@code app.events.max-stalled-send-threads} such threads are
+ * added; past that, stalled sends are still dropped but keep their thread until the container fails the write. Each
+ * user may hold {@code app.events.max-streams-per-user} streams; opening another closes the oldest.
+ */
+@Service
+@Slf4j
+public class JobEventServiceImpl implements JobEventService, DisposableBean {
+
+    private static final Set<DataWithMediaType> CONNECTED = message(SseEmitter.event().comment("connected"));
+    private static final Set<DataWithMediaType> HEARTBEAT = message(SseEmitter.event().comment("heartbeat"));
+    private static final long SEND_TIMEOUT_CHECK_MS = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final int queueCapacity;
+    private final long timeoutMs;
+    private final long sendTimeoutMs;
+    private final int maxStreamsPerUser;
+    private final int maxStalledSendThreads;
+    private final ThreadPoolExecutor dispatcher;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private int stalledSendThreads;
+
+    public JobEventServiceImpl(
+            ObjectMapper objectMapper,
+            @Value("${app.events.queue-capacity:32}") int queueCapacity,
+            @Value("${app.events.timeout-ms:1800000}") long timeoutMs,
+            @Value("${app.events.dispatch-threads:4}") int dispatchThreads,
+            @Value("${app.events.send-timeout-ms:10000}") long sendTimeoutMs,
+            @Value("${app.events.max-streams-per-user:5}") int maxStreamsPerUser,
+            @Value("${app.events.max-stalled-send-threads:16}") int maxStalledSendThreads
+    ) {
+        this.objectMapper = objectMapper;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMs = timeoutMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.maxStreamsPerUser = maxStreamsPerUser;
+        this.maxStalledSendThreads = maxStalledSendThreads;
+        AtomicInteger threadIds = new AtomicInteger();
+        this.dispatcher = new ThreadPoolExecutor(
+                dispatchThreads, dispatchThreads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "job-events-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        try {
+            // Buffered until the emitter is initialized, so the request thread commits the response headers itself
+            // before any dispatcher thread can write to it.
+            emitter.send(CONNECTED);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        Subscriber subscriber = new Subscriber(userId, emitter, queueCapacity);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+
+        AtomicReference<Subscriber> evicted = new AtomicReference<>();
+        subscribers.compute(userId, (id, userSubscribers) -> {
+            Set<Subscriber> updated = userSubscribers != null ? userSubscribers : ConcurrentHashMap.newKeySet();
+            if (updated.size() >= maxStreamsPerUser) {
+                Subscriber oldest = updated.stream().min(Comparator.comparingLong(Subscriber::sequence)).orElseThrow();
+                updated.remove(oldest);
+                subscriberCount.decrementAndGet();
+                evicted.set(oldest);
+            }
+            updated.add(subscriber);
+            return updated;
+        });
+        subscriberCount.incrementAndGet();
+        if (evicted.get() != null) {
+            close(evicted.get());
+            log.debug("Closed oldest job event stream for userId={} over the limit of {}", userId, maxStreamsPerUser);
+        }
+        log.debug("Opened job event stream for userId={} ({} open)", userId, subscriberCount.get());
+        return emitter;
+    }
+
+    @Override
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobChanged(JobChangeEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.getUserId());
+        if (targets == null) {
+            return;
+        }
+
+        Set<DataWithMediaType> message;
+        try {
+            // Serialized once and shared by every subscriber of the owner.
+            message = message(SseEmitter.event()
+                    .name(event.getType().eventName())
+                    .data(objectMapper.writeValueAsString(event)));
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not serialize {} event for job id={}", event.getType(), event.getJobId(), ex);
+            return;
+        }
+        targets.forEach(subscriber -> dispatch(subscriber, message));
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        // Keeps proxies from closing idle streams and surfaces dead connections as failed writes.
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            if (subscriber.isIdle()) {
+                dispatch(subscriber, HEARTBEAT);
+            }
+        }));
+    }
+
+    @Scheduled(fixedDelay = SEND_TIMEOUT_CHECK_MS)
+    public void expireStalledSends() {
+        long now = System.nanoTime();
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            // The stuck thread cannot be freed from here (the emitter stays locked until the container gives up on the
+            // write), so a thread stands in for it until its send returns, as long as the cap allows.
+            if (subscriber.abandonIfStalled(now, timeoutNanos, this::addStalledSendThread)) {
+                remove(subscriber);
+                log.info("Dropped job event stream for userId={}: a send blocked for more than {} ms",
+                        subscriber.userId, sendTimeoutMs);
+            }
+        }));
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            try {
+                subscriber.emitter.complete();
+            } catch (IllegalStateException ex) {
+                // The container already recycled the response of a stream that closed during shutdown.
+            }
+        }));
+        dispatcher.shutdownNow();
+    }
+
+    private void dispatch(Subscriber subscriber, Set<DataWithMediaType> message) {
+        if (subscriber.offer(message)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        Set<DataWithMediaType> message;
+        while ((message = subscriber.poll()) != null) {
+            Exception failure = null;
+            subscriber.startSend(System.nanoTime());
+            try {
+                subscriber.emitter.send(message);
+            } catch (IOException | IllegalStateException ex) {
+                failure = ex;
+            }
+            if (subscriber.endSend()) {
+                // Given up on by expireStalledSends, which already removed the stream and may have added a thread.
+                if (subscriber.hasStandIn()) {
+                    removeStalledSendThread();
+                }
+                if (failure == null) {
+                    complete(subscriber);
+                }
+                return;
+            }
+            if (failure != null) {
+                // The client went away or the stream already completed; the container reports the error itself.
+                subscriber.close();
+                remove(subscriber);
+                log.debug("Dropped job event stream for userId={}: {}", subscriber.userId, failure.getMessage());
+                return;
+            }
+        }
+        if (subscriber.isClosed()) {
+            complete(subscriber);
+        }
+    }
+
+    /**
+     * Ends a stream that is no longer registered. If a drain is running it completes the emitter when it finishes,
+     * so this never waits on the emitter lock held by a blocked send.
+     */
+    private void close(Subscriber subscriber) {
+        if (subscriber.close()) {
+            complete(subscriber);
+        }
+    }
+
+    private void complete(Subscriber subscriber) {
+        try {
+            subscriber.emitter.complete();
+        } catch (IllegalStateException ex) {
+            // Already completed by the container.
+        }
+    }
+
+    private synchronized boolean addStalledSendThread() {
+        if (stalledSendThreads == maxStalledSendThreads) {
+            log.warn("{} job event sends are already stalled; not adding another dispatch thread",
+                    stalledSendThreads);
+            return false;
+        }
+        stalledSendThreads++;
+        resizeDispatcher(1);
+        return true;
+    }
+
+    private synchronized void removeStalledSendThread() {
+        stalledSendThreads--;
+        resizeDispatcher(-1);
+    }
+
+    private synchronized void resizeDispatcher(int delta) {
+        int size = dispatcher.getCorePoolSize() + delta;
+        if (delta > 0) {
+            dispatcher.setMaximumPoolSize(size);
+            dispatcher.setCorePoolSize(size);
+        } else {
+            dispatcher.setCorePoolSize(size);
+            dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, userSubscribers) -> {
+            if (userSubscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    private static Set<DataWithMediaType> message(SseEmitter.SseEventBuilder event) {
+        return Collections.unmodifiableSet(event.build());
+    }
+
+    static final class Subscriber {
+
+        private static final AtomicLong SEQUENCE = new AtomicLong();
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final int capacity;
+        private final long sequence = SEQUENCE.incrementAndGet();
+        private final ArrayDeque<Set<DataWithMediaType>> queue;
+        private boolean draining;
+        private boolean closed;
+        private long dropped;
+        private long sendStartedNanos;
+        private boolean sending;
+        private boolean abandoned;
+        private boolean standIn;
+
+        Subscriber(Long userId, SseEmitter emitter, int capacity) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.capacity = capacity;
+            this.queue = new ArrayDeque<>(capacity);
+        }
+
+        /**
+         * Queues a message, dropping the oldest one when full. Returns {@code true} if the caller must schedule a drain.
+         */
+        synchronized boolean offer(Set<DataWithMediaType> message) {
+            if (closed) {
+                return false;
+            }
+            if (queue.size() == capacity) {
+                queue.pollFirst();
+                dropped++;
+            }
+            queue.addLast(message);
+            if (draining) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        synchronized Set<DataWithMediaType> poll() {
+            if (closed) {
+                draining = false;
+                return null;
+            }
+            if (dropped > 0) {
+                // Tell the client it missed changes so it can reload instead of trusting its local state.
+                Set<DataWithMediaType> overflow = message(SseEmitter.event()
+                        .name("overflow")
+                        .data("{\"dropped\":" + dropped + "}"));
+                dropped = 0;
+                return overflow;
+            }
+
+            Set<DataWithMediaType> next = queue.pollFirst();
+            if (next == null) {
+                draining = false;
+            }
+            return next;
+        }
+
+        synchronized boolean isIdle() {
+            return !draining && !closed;
+        }
+
+        /**
+         * Stops accepting messages. Returns {@code true} if no drain is running, i.e. the caller must complete the
+         * emitter itself.
+         */
+        synchronized boolean close() {
+            closed = true;
+            queue.clear();
+            return !draining;
+        }
+
+        synchronized boolean isClosed() {
+            return closed;
+        }
+
+        long sequence() {
+            return sequence;
+        }
+
+        synchronized void startSend(long nanos) {
+            sending = true;
+            sendStartedNanos = nanos;
+        }
+
+        /**
+         * Returns {@code true} if the send was given up on while it was blocked.
+         */
+        synchronized boolean endSend() {
+            sending = false;
+            return abandoned;
+        }
+
+        /**
+         * Closes the subscriber if its current send started more than {@code timeoutNanos} before {@code nowNanos}.
+         * {@code addStandIn} is asked for a thread to stand in for the blocked one while the subscriber is locked, so
+         * the send cannot end before the answer is recorded.
+         */
+        synchronized boolean abandonIfStalled(long nowNanos, long timeoutNanos, BooleanSupplier addStandIn) {
+            if (!sending || abandoned || nowNanos - sendStartedNanos <= timeoutNanos) {
+                return false;
+            }
+            abandoned = true;
+            closed = true;
+            queue.clear();
+            standIn = addStandIn.getAsBoolean();
+            return true;
+        }
+
+        synchronized boolean hasStandIn() {
+            return standIn;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibrahim.jobtracker.dto.ExportFormat;
+import com.ibrahim.jobtracker.dto.JobApplicationResponse;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.service.JobExportService;
+import com.ibrahim.jobtracker.util.CsvFormat;
+import com.ibrahim.jobtracker.util.JobApplicationMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class JobExportServiceImpl implements JobExportService {
+
+    static final String CSV_HEADER = "id,companyName,position,status,appliedDate,notes,createdAt,updatedAt";
+
+    private final JobApplicationRepository repository;
+    private final JobApplicationMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long export(Long userId, ExportFormat format, OutputStream out) throws IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<JobApplication> jobs = repository.streamByUserId(userId)) {
+            Iterator<JobApplication> iterator = jobs.iterator();
+            while (iterator.hasNext()) {
+                JobApplication job = iterator.next();
+                JobApplicationResponse row = mapper.toResponse(job);
+                // Detach each row once written so the persistence context does not grow with the export.
+                entityManager.detach(job);
+                writer.write(format == ExportFormat.CSV ? toCsv(row) : objectMapper.writeValueAsString(row));
+                writer.write('\n');
+                rows++;
+            }
+        }
+
+        writer.flush();
+        log.info("Exported {} job applications as {} for userId={}", rows, format, userId);
+        return rows;
+    }
+
+    private String toCsv(JobApplicationResponse row) {
+        return String.join(",",
+                String.valueOf(row.getId()),
+                CsvFormat.escape(row.getCompanyName()),
+                CsvFormat.escape(row.getPosition()),
+                row.getStatus().name(),
+                String.valueOf(row.getAppliedDate()),
+                CsvFormat.escape(row.getNotes()),
+                row.getCreatedAt() != null ? row.getCreatedAt().toString() : "",
+                row.getUpdatedAt() != null ? row.getUpdatedAt().toString() : "");
+    }
+}
@@ -0,0 +1,96 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.ibrahim.jobtracker.dto.JobFunnelResponse;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.JobApplicationStatusEventRepository;
+import com.ibrahim.jobtracker.repository.JobApplicationTransitionCountRepository;
+import com.ibrahim.jobtracker.repository.StatusCount;
+import com.ibrahim.jobtracker.repository.StatusTransition;
+import com.ibrahim.jobtracker.repository.TransitionCount;
+import com.ibrahim.jobtracker.service.JobFunnelService;
+import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class JobFunnelServiceImpl implements JobFunnelService {
+
+    private static final List<ApplicationStatus> STAGES =
+            List.of(ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW, ApplicationStatus.OFFER);
+
+    // Counter rows are touched in this order, like the stats counters, so concurrent batches cannot deadlock.
+    private static final Comparator<StatusTransition> COUNTER_ORDER = Comparator
+            .comparing(StatusTransition::userId)
+            .thenComparing(StatusTransition::from)
+            .thenComparing(StatusTransition::to);
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final JobApplicationStatusEventRepository eventRepository;
+    private final JobApplicationTransitionCountRepository transitionCountRepository;
+    private final Clock clock;
+
+    @Override
+    @Transactional(readOnly = true)
+    public JobFunnelResponse getFunnel(Long userId, boolean isAdmin) {
+        List<TransitionCount> counts = isAdmin
+                ? transitionCountRepository.countAll()
+                : transitionCountRepository.countForUser(userId);
+        Map<ApplicationStatus, Long> furthest = StatusCount.toMap(isAdmin
+                ? jobApplicationRepository.countByFunnelStage()
+                : jobApplicationRepository.countByFunnelStageForUser(userId));
+
+        List<JobFunnelResponse.Transition> transitions = new ArrayList<>();
+        for (TransitionCount count : counts) {
+            if (count.getCount() == 0) {
+                continue;
+            }
+            transitions.add(new JobFunnelResponse.Transition(count.getFromStatus(), count.getToStatus(), count.getCount()));
+        }
+        transitions.sort(Comparator.comparing(JobFunnelResponse.Transition::getFrom)
+                .thenComparing(JobFunnelResponse.Transition::getTo));
+
+        // A job reached its furthest stage and every stage before it; it advanced past a stage if it reached the next.
+        long[] reached = new long[STAGES.size() + 1];
+        for (int i = STAGES.size() - 1; i >= 0; i--) {
+            reached[i] = reached[i + 1] + furthest.getOrDefault(STAGES.get(i), 0L);
+        }
+        List<JobFunnelResponse.Stage> stages = new ArrayList<>(STAGES.size());
+        for (int i = 0; i < STAGES.size(); i++) {
+            long advanced = reached[i + 1];
+            stages.add(new JobFunnelResponse.Stage(
+                    STAGES.get(i), reached[i], advanced, reached[i] == 0 ? 0 : (double) advanced / reached[i]));
+        }
+        log.debug("Computed job funnel from {} stage and {} transition counts for userId={} admin={}",
+                furthest.size(), counts.size(), userId, isAdmin);
+        return JobFunnelResponse.builder()
+                .stages(stages)
+                .transitions(transitions)
+                .build();
+    }
+
+    @Override
+    public void recordTransitions(List<StatusTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        eventRepository.appendAll(transitions, clock.instant());
+
+        Map<StatusTransition, Long> deltas = new TreeMap<>(COUNTER_ORDER);
+        for (StatusTransition transition : transitions) {
+            deltas.merge(new StatusTransition(null, transition.userId(), transition.from(), transition.to()), 1L, Long::sum);
+        }
+        deltas.forEach((counter, delta) ->
+                transitionCountRepository.increment(counter.userId(), counter.from(), counter.to(), delta));
+    }
+}
@@ -0,0 +1,131 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibrahim.jobtracker.dto.ExportFormat;
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
+import com.ibrahim.jobtracker.dto.JobImportResponse;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.JobsVersionRepository;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.service.JobImportService;
+import com.ibrahim.jobtracker.service.JobStatsEngine;
+import com.ibrahim.jobtracker.service.JobTimeseriesService;
+import com.ibrahim.jobtracker.util.JobApplicationMapper;
+import com.ibrahim.jobtracker.util.JobRecordReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class JobImportServiceImpl implements JobImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final JobApplicationRepository repository;
+    private final UserRepository userRepository;
+    private final JobsVersionRepository jobsVersionRepository;
+    private final JobStatsEngine statsEngine;
+    private final JobTimeseriesService timeseriesService;
+    private final JobApplicationMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public JobImportResponse importJobs(Long userId, ExportFormat format, InputStream in) throws IOException {
+        long started = System.nanoTime();
+        Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        JobRecordReader records = JobRecordReader.open(format, reader, objectMapper, validator);
+
+        List<JobApplicationRequest> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<JobImportResponse.LineError> errors = new ArrayList<>();
+        long imported = 0;
+        long failed = 0;
+
+        JobRecordReader.JobRecord record;
+        while ((record = records.next()) != null) {
+            if (record.error() != null) {
+                failed++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new JobImportResponse.LineError(record.line(), record.error()));
+                }
+                continue;
+            }
+
+            chunk.add(record.request());
+            if (chunk.size() == CHUNK_SIZE) {
+                imported += saveChunk(userId, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += saveChunk(userId, chunk);
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        long processed = imported + failed;
+        long rowsPerSecond = processed * 1_000_000_000L / Math.max(elapsed.toNanos(), 1);
+        log.info("Imported {} job applications ({} rejected) as {} for userId={} in {} ms ({} rows/s)",
+                imported, failed, format, userId, elapsed.toMillis(), rowsPerSecond);
+        return JobImportResponse.builder()
+                .imported(imported)
+                .failed(failed)
+                .durationMs(elapsed.toMillis())
+                .rowsPerSecond(rowsPerSecond)
+                .errorsTruncated(failed > errors.size())
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * Saves one chunk in its own short transaction, together with its stats, timeseries and version updates, so
+     * rows are stamped and committed close together and earlier chunks stay saved if a later one fails.
+     */
+    private int saveChunk(Long userId, List<JobApplicationRequest> requests) {
+        transactionTemplate.executeWithoutResult(status -> {
+            User owner = userRepository.getReferenceById(userId);
+            Map<ApplicationStatus, Long> importedByStatus = new EnumMap<>(ApplicationStatus.class);
+            Set<LocalDate> appliedDates = new TreeSet<>();
+            for (JobApplicationRequest request : requests) {
+                JobApplication entity = mapper.toEntity(request);
+                entity.setUser(owner);
+                repository.save(entity);
+                importedByStatus.merge(entity.getStatus(), 1L, Long::sum);
+                appliedDates.add(entity.getAppliedDate());
+            }
+            // Send the chunk as JDBC batches and drop it from the persistence context to keep memory flat.
+            entityManager.flush();
+            entityManager.clear();
+            importedByStatus.forEach((applicationStatus, count) -> statsEngine.record(userId, applicationStatus, count));
+            timeseriesService.recordChanged(appliedDates);
+            userRepository.incrementJobsVersion(List.of(userId));
+            jobsVersionRepository.increment();
+        });
+        return requests.size();
+    }
+}
@@ -0,0 +1,55 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+import com.ibrahim.jobtracker.repository.JobApplicationStatusEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps monthly {@code job_application_status_events} partitions created ahead of time, so status changes never land
+ * in the default partition. Runs at startup and then every {@code app.status-events.partition-interval-ms}. Each month
+ * is created in its own transaction, so a month that fails is retried on the next run without holding back the others.
+ */
+@Slf4j
+@Component
+public class JobStatusEventPartitioner {
+
+    private final JobApplicationStatusEventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int monthsAhead;
+
+    public JobStatusEventPartitioner(
+            JobApplicationStatusEventRepository eventRepository,
+            TransactionTemplate transactionTemplate,
+            Clock clock,
+            @Value("${app.status-events.partition-months-ahead:3}") int monthsAhead
+    ) {
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Scheduled(fixedDelayString = "${app.status-events.partition-interval-ms:86400000}")
+    public void createPartitions() {
+        YearMonth current = YearMonth.now(clock.withZone(ZoneOffset.UTC));
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(
+                        status -> eventRepository.createMonthlyPartition(month)))) {
+                    log.info("Created job status event partition for {}", month);
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Failed to create job status event partition for {}; will retry", month, ex);
+            }
+        }
+    }
+}
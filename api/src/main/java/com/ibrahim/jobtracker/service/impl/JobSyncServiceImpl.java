@@ -0,0 +1,164 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import com.ibrahim.jobtracker.dto.JobApplicationResponse;
+import com.ibrahim.jobtracker.dto.JobChangesResponse;
+import com.ibrahim.jobtracker.dto.JobFilter;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.entity.JobApplicationTombstone;
+import com.ibrahim.jobtracker.exception.SyncTokenExpiredException;
+import com.ibrahim.jobtracker.repository.JobApplicationListItem;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.JobApplicationSpecifications;
+import com.ibrahim.jobtracker.repository.JobApplicationTombstoneRepository;
+import com.ibrahim.jobtracker.service.JobSyncService;
+import com.ibrahim.jobtracker.util.JobApplicationMapper;
+import com.ibrahim.jobtracker.util.JobSyncToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Incremental sync over {@code (updated_at, id)} of jobs and {@code (deleted_at, job_id)} of tombstones, merged into
+ * one change order. Change times are taken when a write flushes but only become visible when it commits, so the
+ * watermark handed out after the last page never passes the start of the oldest write transaction still open (on
+ * PostgreSQL) or the current time, less {@code commitLag}: changes committed late are sent again on the next call
+ * rather than skipped, and clients apply them idempotently. The lag only has to cover clock skew between the
+ * application and the database and the moment between stamping a row and writing it, not how long writers run.
+ */
+@Service
+@Slf4j
+public class JobSyncServiceImpl implements JobSyncService {
+
+    private static final Sort CHANGE_ORDER = Sort.by(Sort.Direction.ASC, "updatedAt", "id");
+    private static final Comparator<Change> BY_POSITION =
+            Comparator.comparing(Change::changedAt).thenComparing(Change::id);
+
+    private final JobApplicationRepository repository;
+    private final JobApplicationTombstoneRepository tombstoneRepository;
+    private final JobApplicationMapper mapper;
+    private final Clock clock;
+    private final Duration commitLag;
+    private final Duration tombstoneRetention;
+
+    public JobSyncServiceImpl(
+            JobApplicationRepository repository,
+            JobApplicationTombstoneRepository tombstoneRepository,
+            JobApplicationMapper mapper,
+            Clock clock,
+            @Value("${app.sync.commit-lag:10s}") Duration commitLag,
+            @Value("${app.sync.tombstone-retention:90d}") Duration tombstoneRetention
+    ) {
+        this.repository = repository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.mapper = mapper;
+        this.clock = clock;
+        this.commitLag = commitLag;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public JobChangesResponse changesSince(JobSyncToken token, int limit, Long userId) {
+        Instant now = clock.instant();
+        Specification<JobApplication> spec = JobApplicationSpecifications.matching(JobFilter.none(), userId);
+        List<Change> changes = new ArrayList<>();
+        if (token == null) {
+            // A full sync has nothing to delete on the client, so tombstones start at the returned watermark.
+            repository.findListItems(spec, CHANGE_ORDER, 0, limit + 1, JobApplicationListItem.Full.class)
+                    .forEach(job -> changes.add(Change.of(job)));
+        } else {
+            if (token.changedAt().isBefore(now.minus(tombstoneRetention))) {
+                throw new SyncTokenExpiredException("Sync token has expired, sync again without since");
+            }
+            spec = spec.and(JobApplicationSpecifications.changedAfter(token.changedAt(), token.id()));
+            repository.findListItems(spec, CHANGE_ORDER, 0, limit + 1, JobApplicationListItem.Full.class)
+                    .forEach(job -> changes.add(Change.of(job)));
+            tombstoneRepository.findAfter(userId, token.changedAt(), token.id(), Limit.of(limit + 1))
+                    .forEach(tombstone -> changes.add(Change.of(tombstone)));
+            changes.sort(BY_POSITION);
+        }
+
+        boolean hasMore = changes.size() > limit;
+        List<Change> page = hasMore ? changes.subList(0, limit) : changes;
+        List<JobApplicationResponse> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        for (Change change : page) {
+            if (change.job() != null) {
+                changed.add(mapper.toResponse(change.job()));
+            } else {
+                deleted.add(change.id());
+            }
+        }
+
+        JobSyncToken next = token;
+        if (!page.isEmpty()) {
+            Change last = page.get(page.size() - 1);
+            next = new JobSyncToken(last.changedAt(), last.id());
+        }
+        if (!hasMore) {
+            Instant horizon = repository.findOldestOpenWriteStart()
+                    .filter(start -> start.isBefore(now))
+                    .orElse(now)
+                    .minus(commitLag);
+            if (next == null || next.changedAt().isAfter(horizon)) {
+                next = new JobSyncToken(horizon, 0L);
+            }
+        }
+        log.debug("Synced {} changed and {} deleted jobs for userId={} hasMore={}",
+                changed.size(), deleted.size(), userId, hasMore);
+
+        return JobChangesResponse.builder()
+                .changed(changed)
+                .deleted(deleted)
+                .hasMore(hasMore)
+                .nextToken(next.encode())
+                .build();
+    }
+
+    @Override
+    public void recordDeleted(Collection<JobApplication> jobs) {
+        Instant deletedAt = clock.instant().truncatedTo(ChronoUnit.MICROS);
+        tombstoneRepository.saveAll(jobs.stream()
+                .map(job -> JobApplicationTombstone.builder()
+                        .jobId(job.getId())
+                        .userId(job.getUser().getId())
+                        .deletedAt(deletedAt)
+                        .build())
+                .toList());
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.sync.purge-interval-ms:3600000}",
+            initialDelayString = "${app.sync.purge-interval-ms:3600000}"
+    )
+    @Transactional
+    public void purgeTombstones() {
+        int purged = tombstoneRepository.deleteOlderThan(clock.instant().minus(tombstoneRetention));
+        log.debug("Purged {} job tombstones older than {}", purged, tombstoneRetention);
+    }
+
+    private record Change(Instant changedAt, Long id, JobApplicationListItem job) {
+
+        static Change of(JobApplicationListItem job) {
+            return new Change(job.updatedAt(), job.id(), job);
+        }
+
+        static Change of(JobApplicationTombstone tombstone) {
+            return new Change(tombstone.getDeletedAt(), tombstone.getJobId(), null);
+        }
+    }
+}
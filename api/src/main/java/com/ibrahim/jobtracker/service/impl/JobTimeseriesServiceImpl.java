@@ -0,0 +1,123 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import com.ibrahim.jobtracker.dto.JobTimeseriesResponse;
+import com.ibrahim.jobtracker.dto.TimeBucket;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.repository.BucketCount;
+import com.ibrahim.jobtracker.repository.JobApplicationDailyCountRepository;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.service.JobTimeseriesService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Per-user series are counted from {@code job_applications} on each request. The admin series reads
+ * {@code job_application_daily_counts} instead, which writers never update directly: they queue the days they touched
+ * and {@link #refreshRollup()} recounts only those days, so the rollup trails writes by at most one refresh interval.
+ */
+@Service
+@Slf4j
+public class JobTimeseriesServiceImpl implements JobTimeseriesService {
+
+    static final int MAX_BUCKETS = 260;
+    private static final int DEFAULT_BUCKETS = 12;
+
+    private final JobApplicationRepository repository;
+    private final JobApplicationDailyCountRepository dailyCountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int refreshBatchSize;
+
+    public JobTimeseriesServiceImpl(
+            JobApplicationRepository repository,
+            JobApplicationDailyCountRepository dailyCountRepository,
+            TransactionTemplate transactionTemplate,
+            Clock clock,
+            @Value("${app.timeseries.refresh-batch-size:1000}") int refreshBatchSize
+    ) {
+        this.repository = repository;
+        this.dailyCountRepository = dailyCountRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.refreshBatchSize = refreshBatchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public JobTimeseriesResponse getTimeseries(
+            TimeBucket bucket,
+            LocalDate from,
+            LocalDate to,
+            Long userId,
+            boolean isAdmin
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now(clock);
+        LocalDate start = from != null ? from : bucket.plus(bucket.start(end), 1 - DEFAULT_BUCKETS);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        List<LocalDate> bucketStarts = new ArrayList<>();
+        for (LocalDate bucketStart = bucket.start(start); !bucketStart.isAfter(end); bucketStart = bucket.plus(bucketStart, 1)) {
+            if (bucketStarts.size() == MAX_BUCKETS) {
+                throw new IllegalArgumentException("from and to must span at most " + MAX_BUCKETS + " buckets");
+            }
+            bucketStarts.add(bucketStart);
+        }
+
+        List<BucketCount> counts = isAdmin
+                ? dailyCountRepository.countByBucket(bucket, start, end)
+                : repository.countByBucket(userId, bucket, start, end);
+        Map<LocalDate, Map<ApplicationStatus, Long>> countsByBucket = new HashMap<>();
+        for (BucketCount count : counts) {
+            countsByBucket.computeIfAbsent(count.bucketStart(), ignored -> new EnumMap<>(ApplicationStatus.class))
+                    .put(count.status(), count.count());
+        }
+        log.debug("Computed {} {} buckets of job counts for userId={} admin={}", bucketStarts.size(), bucket, userId, isAdmin);
+
+        return JobTimeseriesResponse.builder()
+                .bucket(bucket)
+                .from(start)
+                .to(end)
+                .buckets(bucketStarts.stream()
+                        .map(bucketStart -> JobTimeseriesResponse.Bucket.of(
+                                bucketStart, countsByBucket.getOrDefault(bucketStart, Map.of())))
+                        .toList())
+                .build();
+    }
+
+    @Override
+    public void recordChanged(Collection<LocalDate> appliedDates) {
+        dailyCountRepository.markDirty(new TreeSet<>(appliedDates));
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.timeseries.refresh-interval-ms:30000}",
+            initialDelayString = "${app.timeseries.refresh-interval-ms:30000}"
+    )
+    public void refreshRollup() {
+        // One transaction per batch keeps rollup rows locked only briefly while a large backlog drains.
+        int refreshed = 0;
+        int claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> dailyCountRepository.refreshDirtyDays(refreshBatchSize));
+            refreshed += claimed;
+        } while (claimed == refreshBatchSize);
+        if (refreshed > 0) {
+            log.debug("Refreshed daily job counts for {} queued days", refreshed);
+        }
+    }
+}
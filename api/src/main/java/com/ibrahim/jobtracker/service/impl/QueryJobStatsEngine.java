@@ -0,0 +1,33 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import com.ibrahim.jobtracker.dto.JobApplicationStatsResponse;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.StatusCount;
+import com.ibrahim.jobtracker.service.JobStatsEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.stats.engine", havingValue = "query")
+public class QueryJobStatsEngine implements JobStatsEngine {
+
+    private final JobApplicationRepository repository;
+
+    @Override
+    public void record(Long userId, ApplicationStatus status, long delta) {
+        // Stats are aggregated from job_applications on every read.
+    }
+
+    @Override
+    public JobApplicationStatsResponse userStats(Long userId) {
+        return JobApplicationStatsResponse.from(StatusCount.toMap(repository.countByStatusForUser(userId)));
+    }
+
+    @Override
+    public JobApplicationStatsResponse globalStats() {
+        return JobApplicationStatsResponse.from(StatusCount.toMap(repository.countByStatus()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.ibrahim.jobtracker.util;
+
+public final class CsvFormat {
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final char GUARD = '\'';
+
+    private CsvFormat() {
+    }
+
+    /**
+     * Quotes a field per RFC 4180 and prefixes spreadsheet formula triggers with {@code '} so exported user text
+     * is never evaluated when opened. Text that already starts with {@code '} is prefixed too, so
+     * {@link #unescape(String)} gives it back unchanged.
+     */
+    public static String escape(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        char first = value.charAt(0);
+        String safe = first == GUARD || FORMULA_PREFIXES.indexOf(first) >= 0 ? GUARD + value : value;
+        if (safe.indexOf(',') < 0 && safe.indexOf('"') < 0 && safe.indexOf('\n') < 0 && safe.indexOf('\r') < 0) {
+            return safe;
+        }
+        return '"' + safe.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Reverses the guard added by {@link #escape(String)}: a leading {@code '} is dropped only before a formula
+     * trigger or another {@code '}, so other text starting with {@code '} is kept. Blank fields become {@code null}.
+     */
+    public static String unescape(String field) {
+        if (field == null || field.isEmpty()) {
+            return null;
+        }
+        if (field.length() > 1 && field.charAt(0) == GUARD
+                && (field.charAt(1) == GUARD || FORMULA_PREFIXES.indexOf(field.charAt(1)) >= 0)) {
+            return field.substring(1);
+        }
+        return field;
+    }
+}
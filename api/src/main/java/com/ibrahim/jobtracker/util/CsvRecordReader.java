@@ -0,0 +1,116 @@
+package com.ibrahim.jobtracker.util;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental RFC 4180 reader: quoted fields may contain commas, quotes ({@code ""}) and line breaks.
+ * Only the current record is held in memory, and records longer than {@code maxRecordLength} are rejected.
+ * A rejected record is skipped up to the next line break, so callers can report it and keep reading.
+ */
+public class CsvRecordReader {
+
+    private final PushbackReader reader;
+    private final int maxRecordLength;
+    private long line = 1;
+    private long recordLine;
+
+    public CsvRecordReader(Reader reader, int maxRecordLength) {
+        this.reader = new PushbackReader(reader, 1);
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Returns the next non-blank record, or {@code null} at end of input.
+     */
+    public List<String> next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        boolean quotedField = false;
+        int length = 0;
+        recordLine = line;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (++length > maxRecordLength) {
+                if (c != '\n') {
+                    skipLine();
+                }
+                throw new IllegalArgumentException("Line " + recordLine + " exceeds " + maxRecordLength + " characters");
+            }
+            if (c == '\n') {
+                line++;
+            }
+
+            if (inQuotes) {
+                if (c != '"') {
+                    field.append((char) c);
+                } else if (peek() == '"') {
+                    reader.read();
+                    field.append('"');
+                } else {
+                    inQuotes = false;
+                }
+            } else if (c == '"' && field.isEmpty() && !quotedField) {
+                inQuotes = true;
+                quotedField = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                quotedField = false;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r' && peek() == '\n') {
+                    reader.read();
+                    line++;
+                }
+                if (fields.isEmpty() && field.isEmpty() && !quotedField) {
+                    recordLine = line;
+                    length = 0;
+                    continue;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+
+        if (inQuotes) {
+            throw new IllegalArgumentException("Line " + recordLine + " has an unterminated quoted field");
+        }
+        if (fields.isEmpty() && field.isEmpty() && !quotedField) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Line number on which the record last returned by {@link #next()} started.
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    private void skipLine() throws IOException {
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\n') {
+                line++;
+                return;
+            }
+        }
+    }
+
+    private int peek() throws IOException {
+        int c = reader.read();
+        if (c != -1) {
+            reader.unread(c);
+        }
+        return c;
+    }
+}
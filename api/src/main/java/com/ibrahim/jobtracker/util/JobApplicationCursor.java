@@ -0,0 +1,45 @@
+package com.ibrahim.jobtracker.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+public final class JobApplicationCursor {
+
+    private static final char SEPARATOR = '|';
+    private static final String APPLIED_DATE = "appliedDate";
+    private static final String ID = "id";
+
+    private JobApplicationCursor() {
+    }
+
+    public static KeysetScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            LocalDate appliedDate = LocalDate.parse(decoded.substring(0, separator));
+            Long id = Long.valueOf(decoded.substring(separator + 1));
+            return positionAfter(appliedDate, id);
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public static KeysetScrollPosition positionAfter(LocalDate appliedDate, Long id) {
+        return ScrollPosition.forward(Map.of(APPLIED_DATE, appliedDate, ID, id));
+    }
+
+    public static String encode(ScrollPosition position) {
+        Map<String, Object> keys = ((KeysetScrollPosition) position).getKeys();
+        String raw = keys.get(APPLIED_DATE) + String.valueOf(SEPARATOR) + keys.get(ID);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
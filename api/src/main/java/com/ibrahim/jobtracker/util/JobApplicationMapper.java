@@ -2,10 +2,14 @@ package com.ibrahim.jobtracker.util;
 
 import com.ibrahim.jobtracker.dto.JobApplicationRequest;
 import com.ibrahim.jobtracker.dto.JobApplicationResponse;
+import com.ibrahim.jobtracker.dto.JobApplicationSummaryResponse;
 import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.repository.JobApplicationListItem;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Component;
 
 @Component
+@Timed("jobtracker.mapper")
 public class JobApplicationMapper {
 
     public JobApplication toEntity(JobApplicationRequest request) {
@@ -33,6 +37,35 @@ public class JobApplicationMapper {
                 .userId(entity.getUser() != null ? entity.getUser().getId() : null)
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
+                .version(entity.getVersion())
+                .build();
+    }
+
+    public JobApplicationResponse toResponse(JobApplicationListItem item) {
+        if (item instanceof JobApplicationListItem.Summary summary) {
+            return new JobApplicationSummaryResponse(
+                    summary.id(),
+                    summary.companyName(),
+                    summary.position(),
+                    summary.status(),
+                    summary.appliedDate(),
+                    summary.userId(),
+                    summary.createdAt(),
+                    summary.updatedAt(),
+                    summary.version()
+            );
+        }
+        return JobApplicationResponse.builder()
+                .id(item.id())
+                .companyName(item.companyName())
+                .position(item.position())
+                .status(item.status())
+                .appliedDate(item.appliedDate())
+                .notes(item.notes())
+                .userId(item.userId())
+                .createdAt(item.createdAt())
+                .updatedAt(item.updatedAt())
+                .version(item.version())
                 .build();
     }
 }
@@ -0,0 +1,218 @@
+package com.ibrahim.jobtracker.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.ibrahim.jobtracker.dto.ExportFormat;
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Reads job rows one at a time from a CSV or NDJSON upload and validates them like {@link JobApplicationRequest}.
+ * Besides the request fields a row may carry a {@code username}, used by admin imports.
+ */
+public abstract class JobRecordReader {
+
+    public static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("companyName", "position", "status", "appliedDate");
+
+    private final Validator validator;
+
+    protected JobRecordReader(Validator validator) {
+        this.validator = validator;
+    }
+
+    public static JobRecordReader open(
+            ExportFormat format,
+            Reader reader,
+            ObjectMapper objectMapper,
+            Validator validator
+    ) throws IOException {
+        return format == ExportFormat.CSV
+                ? new Csv(reader, validator)
+                : new Ndjson(reader, objectMapper, validator);
+    }
+
+    /**
+     * Returns the next row, or {@code null} at end of input. Rows that fail parsing or validation carry an error,
+     * as do over-long lines and unterminated quotes, so one bad row does not abort the whole upload.
+     */
+    public JobRecord next() throws IOException {
+        JobRecord record = read();
+        if (record == null || record.error() != null) {
+            return record;
+        }
+
+        Set<ConstraintViolation<JobApplicationRequest>> violations = validator.validate(record.request());
+        if (violations.isEmpty()) {
+            return record;
+        }
+        String error = violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining("; "));
+        return JobRecord.failed(record.line(), error);
+    }
+
+    protected abstract JobRecord read() throws IOException;
+
+    public record JobRecord(long line, JobApplicationRequest request, String username, String error) {
+
+        static JobRecord failed(long line, String error) {
+            return new JobRecord(line, null, null, error);
+        }
+    }
+
+    private static final class Ndjson extends JobRecordReader {
+
+        private final Reader reader;
+        private final ObjectMapper objectMapper;
+        private final StringBuilder buffer = new StringBuilder();
+        private long line;
+
+        private Ndjson(Reader reader, ObjectMapper objectMapper, Validator validator) {
+            super(validator);
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected JobRecord read() throws IOException {
+            while (true) {
+                String text;
+                try {
+                    text = readLine();
+                } catch (IllegalArgumentException ex) {
+                    line++;
+                    return JobRecord.failed(line, ex.getMessage());
+                }
+                if (text == null) {
+                    return null;
+                }
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                try {
+                    JsonNode node = objectMapper.readTree(text);
+                    JobApplicationRequest request = objectMapper.treeToValue(node, JobApplicationRequest.class);
+                    return new JobRecord(line, request, node.path("username").asText(null), null);
+                } catch (MismatchedInputException ex) {
+                    return JobRecord.failed(line, describe(ex));
+                } catch (JsonProcessingException ex) {
+                    return JobRecord.failed(line, "Malformed JSON");
+                }
+            }
+        }
+
+        private String readLine() throws IOException {
+            buffer.setLength(0);
+            int c;
+            while ((c = reader.read()) != -1 && c != '\n') {
+                if (buffer.length() == MAX_LINE_LENGTH) {
+                    skipRestOfLine();
+                    throw new IllegalArgumentException("Line " + (line + 1) + " exceeds " + MAX_LINE_LENGTH + " characters");
+                }
+                buffer.append((char) c);
+            }
+            if (c == -1 && buffer.isEmpty()) {
+                return null;
+            }
+            return buffer.toString();
+        }
+
+        private void skipRestOfLine() throws IOException {
+            int c;
+            do {
+                c = reader.read();
+            } while (c != -1 && c != '\n');
+        }
+
+        private String describe(MismatchedInputException ex) {
+            String field = ex.getPath().stream()
+                    .map(JsonMappingException.Reference::getFieldName)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.joining("."));
+            return field.isEmpty() ? "Malformed JSON" : field + ": invalid value";
+        }
+    }
+
+    private static final class Csv extends JobRecordReader {
+
+        private final CsvRecordReader records;
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        private Csv(Reader reader, Validator validator) throws IOException {
+            super(validator);
+            this.records = new CsvRecordReader(reader, MAX_LINE_LENGTH);
+            List<String> header = records.next();
+            if (header != null) {
+                for (int i = 0; i < header.size(); i++) {
+                    columns.putIfAbsent(header.get(i).trim(), i);
+                }
+            }
+            if (!columns.keySet().containsAll(REQUIRED_CSV_COLUMNS)) {
+                throw new IllegalArgumentException("CSV header must include: " + String.join(", ", REQUIRED_CSV_COLUMNS));
+            }
+        }
+
+        @Override
+        protected JobRecord read() throws IOException {
+            List<String> fields;
+            try {
+                fields = records.next();
+            } catch (IllegalArgumentException ex) {
+                return JobRecord.failed(records.getRecordLine(), ex.getMessage());
+            }
+            if (fields == null) {
+                return null;
+            }
+
+            long line = records.getRecordLine();
+            JobApplicationRequest request = new JobApplicationRequest();
+            request.setCompanyName(field(fields, "companyName"));
+            request.setPosition(field(fields, "position"));
+            request.setNotes(field(fields, "notes"));
+
+            String status = field(fields, "status");
+            if (status != null) {
+                try {
+                    request.setStatus(ApplicationStatus.valueOf(status.trim().toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException ex) {
+                    return JobRecord.failed(line, "status: invalid value '" + status + "'");
+                }
+            }
+            String appliedDate = field(fields, "appliedDate");
+            if (appliedDate != null) {
+                try {
+                    request.setAppliedDate(LocalDate.parse(appliedDate.trim()));
+                } catch (DateTimeParseException ex) {
+                    return JobRecord.failed(line, "appliedDate: invalid date '" + appliedDate + "'");
+                }
+            }
+            return new JobRecord(line, request, field(fields, "username"), null);
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            return index != null && index < fields.size() ? CsvFormat.unescape(fields.get(index)) : null;
+        }
+    }
+}
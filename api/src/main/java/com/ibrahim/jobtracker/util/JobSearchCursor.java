@@ -0,0 +1,49 @@
+package com.ibrahim.jobtracker.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+/**
+ * Opaque cursor for ranked search results: the rank and id of the last hit returned. {@code rank} is a PostgreSQL
+ * {@code real}; {@link Float#toString} round-trips it exactly, so the next page starts right after that hit.
+ */
+public final class JobSearchCursor {
+
+    public static final String RANK = "rank";
+    public static final String ID = "id";
+
+    private static final char SEPARATOR = '|';
+
+    private JobSearchCursor() {
+    }
+
+    public static KeysetScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            float rank = Float.parseFloat(decoded.substring(0, separator));
+            Long id = Long.valueOf(decoded.substring(separator + 1));
+            return positionAfter(rank, id);
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public static KeysetScrollPosition positionAfter(float rank, Long id) {
+        return ScrollPosition.forward(Map.of(RANK, rank, ID, id));
+    }
+
+    public static String encode(ScrollPosition position) {
+        Map<String, Object> keys = ((KeysetScrollPosition) position).getKeys();
+        String raw = keys.get(RANK) + String.valueOf(SEPARATOR) + keys.get(ID);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,37 @@
+package com.ibrahim.jobtracker.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque incremental sync watermark: the change time and id of the last job or tombstone a client has seen.
+ */
+public record JobSyncToken(Instant changedAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Returns {@code null} for an absent token, i.e. a full sync.
+     */
+    public static JobSyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new JobSyncToken(
+                    Instant.parse(decoded.substring(0, separator)),
+                    Long.valueOf(decoded.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid sync token");
+        }
+    }
+
+    public String encode() {
+        String raw = changedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,42 @@
+package com.ibrahim.jobtracker.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits free-text search input into lower-case terms of letters and digits. Everything else separates terms, so the
+ * result is safe to splice into a {@code tsquery} or a {@code LIKE} pattern.
+ */
+public final class SearchTerms {
+
+    private static final int MAX_TERMS = 8;
+
+    private SearchTerms() {
+    }
+
+    public static List<String> parse(String query) {
+        List<String> terms = new ArrayList<>();
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i <= query.length(); i++) {
+            char c = i < query.length() ? query.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                term.append(c);
+            } else if (!term.isEmpty()) {
+                String next = term.toString().toLowerCase(Locale.ROOT);
+                if (!terms.contains(next)) {
+                    terms.add(next);
+                }
+                term.setLength(0);
+            }
+        }
+
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("q must contain at least one letter or digit");
+        }
+        if (terms.size() > MAX_TERMS) {
+            throw new IllegalArgumentException("q must contain at most " + MAX_TERMS + " terms");
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,17 @@
+-- One row per deleted job so GET /api/jobs/changes can report deletes; purged after app.sync.tombstone-retention.
+CREATE SEQUENCE job_application_tombstones_id_seq INCREMENT BY 50;
+
+CREATE TABLE job_application_tombstones (
+    id BIGINT NOT NULL,
+    job_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    deleted_at TIMESTAMPTZ NOT NULL,
+    CONSTRAINT pk_job_application_tombstones PRIMARY KEY (id),
+    CONSTRAINT fk_job_application_tombstones_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Keyset order of the sync endpoint: (user_id, deleted_at, job_id) for deletes, (user_id, updated_at, id) for jobs.
+CREATE INDEX idx_job_application_tombstones_user_deleted_at_job_id
+    ON job_application_tombstones (user_id, deleted_at, job_id);
+CREATE INDEX idx_job_application_tombstones_deleted_at ON job_application_tombstones (deleted_at);
+CREATE INDEX idx_job_applications_user_updated_at_id ON job_applications (user_id, updated_at, id);
@@ -0,0 +1,31 @@
+-- Carry status in the applied-date indexes so per-bucket counts for GET /api/jobs/stats/timeseries are index-only
+-- scans, without adding another index to maintain on every write.
+DROP INDEX idx_job_applications_user_applied_date_id;
+CREATE INDEX idx_job_applications_user_applied_date_id
+    ON job_applications (user_id, applied_date DESC, id DESC) INCLUDE (status);
+DROP INDEX idx_job_applications_applied_date_id;
+CREATE INDEX idx_job_applications_applied_date_id
+    ON job_applications (applied_date DESC, id DESC) INCLUDE (status);
+
+-- Admin-wide rollup: jobs per applied day and status.
+CREATE TABLE job_application_daily_counts (
+    applied_date DATE NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    application_count BIGINT NOT NULL,
+    CONSTRAINT pk_job_application_daily_counts PRIMARY KEY (applied_date, status),
+    CONSTRAINT ck_job_application_daily_counts_status CHECK (status IN ('APPLIED', 'INTERVIEW', 'REJECTED', 'OFFER'))
+);
+
+-- Days whose rollup rows are stale; writers append, the refresh job recounts and removes them.
+CREATE SEQUENCE job_application_dirty_days_id_seq;
+
+CREATE TABLE job_application_dirty_days (
+    id BIGINT NOT NULL,
+    applied_date DATE NOT NULL,
+    CONSTRAINT pk_job_application_dirty_days PRIMARY KEY (id)
+);
+
+INSERT INTO job_application_daily_counts (applied_date, status, application_count)
+SELECT applied_date, status, COUNT(*)
+FROM job_applications
+GROUP BY applied_date, status;
@@ -0,0 +1,62 @@
+-- Append-only history of job status changes, written in the same transaction as the change. Partitioned by month of
+-- occurred_at so old months can be detached or dropped without deleting rows from a live table.
+CREATE SEQUENCE job_application_status_events_id_seq;
+
+CREATE TABLE job_application_status_events (
+    id BIGINT NOT NULL,
+    job_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    from_status VARCHAR(32) NOT NULL,
+    to_status VARCHAR(32) NOT NULL,
+    occurred_at TIMESTAMPTZ NOT NULL,
+    CONSTRAINT pk_job_application_status_events PRIMARY KEY (id, occurred_at),
+    CONSTRAINT fk_job_application_status_events_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT ck_job_application_status_events_from_status
+        CHECK (from_status IN ('APPLIED', 'INTERVIEW', 'REJECTED', 'OFFER')),
+    CONSTRAINT ck_job_application_status_events_to_status
+        CHECK (to_status IN ('APPLIED', 'INTERVIEW', 'REJECTED', 'OFFER'))
+) PARTITION BY RANGE (occurred_at);
+
+-- Per-job history in time order, e.g. for time spent in each stage.
+CREATE INDEX idx_job_application_status_events_job_occurred_at
+    ON job_application_status_events (job_id, occurred_at);
+
+-- Creates the partition for the UTC month containing for_month unless it exists; returns whether it was created.
+CREATE FUNCTION create_job_application_status_events_partition(for_month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    month_start DATE := date_trunc('month', for_month);
+    partition_name TEXT := 'job_application_status_events_' || to_char(month_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format(
+        'CREATE TABLE %I PARTITION OF job_application_status_events FOR VALUES FROM (%L) TO (%L)',
+        partition_name,
+        month_start::timestamp AT TIME ZONE 'UTC',
+        (month_start + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC');
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Months ahead are created by the application on a schedule; the default partition only catches writes that outrun
+-- it and should stay empty.
+CREATE TABLE job_application_status_events_default PARTITION OF job_application_status_events DEFAULT;
+
+SELECT create_job_application_status_events_partition((CURRENT_DATE + n * INTERVAL '1 month')::date)
+FROM generate_series(0, 2) AS n;
+
+-- Per-user counters of status transitions, adjusted in the same transaction as each event, for the funnel endpoint.
+-- There is no history before this migration, so counting starts empty.
+CREATE TABLE job_application_transition_counts (
+    user_id BIGINT NOT NULL,
+    from_status VARCHAR(32) NOT NULL,
+    to_status VARCHAR(32) NOT NULL,
+    transition_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_job_application_transition_counts PRIMARY KEY (user_id, from_status, to_status),
+    CONSTRAINT fk_job_application_transition_counts_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT ck_job_application_transition_counts_from_status
+        CHECK (from_status IN ('APPLIED', 'INTERVIEW', 'REJECTED', 'OFFER')),
+    CONSTRAINT ck_job_application_transition_counts_to_status
+        CHECK (to_status IN ('APPLIED', 'INTERVIEW', 'REJECTED', 'OFFER'))
+);
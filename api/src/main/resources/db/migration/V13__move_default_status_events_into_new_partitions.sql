@@ -0,0 +1,44 @@
+-- Creating a month's partition fails while the default partition holds rows for that month, which happens once a
+-- write outruns the scheduled partitioning. In that case the default partition is detached, the month is created and
+-- its rows are moved out of the default before the default is attached again.
+CREATE OR REPLACE FUNCTION create_job_application_status_events_partition(for_month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    month_start DATE := date_trunc('month', for_month);
+    month_from TIMESTAMPTZ := month_start::timestamp AT TIME ZONE 'UTC';
+    month_to TIMESTAMPTZ := (month_start + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC';
+    partition_name TEXT := 'job_application_status_events_' || to_char(month_start, 'YYYY_MM');
+    create_sql TEXT := format(
+        'CREATE TABLE %I PARTITION OF job_application_status_events FOR VALUES FROM (%L) TO (%L)',
+        partition_name, month_from, month_to);
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    -- Taken up front, as creating the partition would anyway, so no row can reach the default between the check
+    -- below and the CREATE.
+    LOCK TABLE job_application_status_events IN ACCESS EXCLUSIVE MODE;
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    IF NOT EXISTS (
+        SELECT 1 FROM job_application_status_events_default
+        WHERE occurred_at >= month_from AND occurred_at < month_to
+    ) THEN
+        EXECUTE create_sql;
+        RETURN TRUE;
+    END IF;
+
+    ALTER TABLE job_application_status_events DETACH PARTITION job_application_status_events_default;
+    EXECUTE create_sql;
+    WITH moved AS (
+        DELETE FROM job_application_status_events_default
+        WHERE occurred_at >= month_from AND occurred_at < month_to
+        RETURNING id, job_id, user_id, from_status, to_status, occurred_at
+    )
+    INSERT INTO job_application_status_events (id, job_id, user_id, from_status, to_status, occurred_at)
+    SELECT id, job_id, user_id, from_status, to_status, occurred_at FROM moved;
+    ALTER TABLE job_application_status_events ATTACH PARTITION job_application_status_events_default DEFAULT;
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
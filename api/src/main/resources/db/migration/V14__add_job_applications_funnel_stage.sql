@@ -0,0 +1,40 @@
+-- Furthest of APPLIED, INTERVIEW and OFFER each job has been in, kept by the application on every write. The funnel
+-- counts jobs per stage from it, so repeated status changes count a job once and deleted jobs drop out.
+ALTER TABLE job_applications ADD COLUMN funnel_stage VARCHAR(32);
+
+-- Backfilled from the current status and the recorded status history; REJECTED counts as APPLIED.
+UPDATE job_applications j
+SET funnel_stage = CASE GREATEST(
+        CASE j.status WHEN 'OFFER' THEN 3 WHEN 'INTERVIEW' THEN 2 ELSE 1 END,
+        (
+            SELECT max(GREATEST(
+                CASE e.from_status WHEN 'OFFER' THEN 3 WHEN 'INTERVIEW' THEN 2 ELSE 1 END,
+                CASE e.to_status WHEN 'OFFER' THEN 3 WHEN 'INTERVIEW' THEN 2 ELSE 1 END))
+            FROM job_application_status_events e
+            WHERE e.job_id = j.id
+        ))
+    WHEN 3 THEN 'OFFER'
+    WHEN 2 THEN 'INTERVIEW'
+    ELSE 'APPLIED'
+END;
+
+ALTER TABLE job_applications
+    ALTER COLUMN funnel_stage SET NOT NULL,
+    ADD CONSTRAINT ck_job_applications_funnel_stage CHECK (funnel_stage IN ('APPLIED', 'INTERVIEW', 'OFFER'));
+
+CREATE INDEX idx_job_applications_user_funnel_stage ON job_applications (user_id, funnel_stage);
+
+-- The application sets funnel_stage on every write; rows inserted without it, e.g. by SQL scripts, start at the stage
+-- of their status.
+CREATE FUNCTION default_job_applications_funnel_stage() RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.funnel_stage IS NULL THEN
+        NEW.funnel_stage := CASE NEW.status WHEN 'REJECTED' THEN 'APPLIED' ELSE NEW.status END;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_job_applications_funnel_stage
+    BEFORE INSERT ON job_applications
+    FOR EACH ROW EXECUTE FUNCTION default_job_applications_funnel_stage();
@@ -0,0 +1,8 @@
+-- Single row bumped together with users.jobs_version by every job write, so the all-users listing and stats ETags
+-- are read from one row instead of summing every user's counter.
+CREATE TABLE jobs_version (
+    id      SMALLINT PRIMARY KEY CHECK (id = 1),
+    version BIGINT   NOT NULL
+);
+
+INSERT INTO jobs_version (id, version) SELECT 1, COALESCE(SUM(jobs_version), 0) FROM users;
@@ -0,0 +1,2 @@
+CREATE INDEX idx_job_applications_user_applied_date_id ON job_applications (user_id, applied_date DESC, id DESC);
+CREATE INDEX idx_job_applications_applied_date_id ON job_applications (applied_date DESC, id DESC);
@@ -0,0 +1,20 @@
+CREATE INDEX idx_job_applications_user_status_applied_date_id
+    ON job_applications (user_id, status, applied_date DESC, id DESC);
+
+CREATE INDEX idx_job_applications_applied_by_date
+    ON job_applications (applied_date DESC, id DESC) WHERE status = 'APPLIED';
+CREATE INDEX idx_job_applications_interview_by_date
+    ON job_applications (applied_date DESC, id DESC) WHERE status = 'INTERVIEW';
+CREATE INDEX idx_job_applications_rejected_by_date
+    ON job_applications (applied_date DESC, id DESC) WHERE status = 'REJECTED';
+CREATE INDEX idx_job_applications_offer_by_date
+    ON job_applications (applied_date DESC, id DESC) WHERE status = 'OFFER';
+
+-- Served by the composite and per-status partial indexes above and in V3.
+DROP INDEX IF EXISTS idx_job_applications_user_id;
+DROP INDEX IF EXISTS idx_job_applications_applied_date;
+DROP INDEX IF EXISTS idx_job_applications_status;
+
+-- Duplicates of the unique constraint indexes uk_users_username / uk_users_email.
+DROP INDEX IF EXISTS idx_users_username;
+DROP INDEX IF EXISTS idx_users_email;
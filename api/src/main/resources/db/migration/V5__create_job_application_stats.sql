@@ -0,0 +1,13 @@
+CREATE TABLE job_application_stats (
+    user_id BIGINT NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    application_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_job_application_stats PRIMARY KEY (user_id, status),
+    CONSTRAINT fk_job_application_stats_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT ck_job_application_stats_status CHECK (status IN ('APPLIED', 'INTERVIEW', 'REJECTED', 'OFFER'))
+);
+
+INSERT INTO job_application_stats (user_id, status, application_count)
+SELECT user_id, status, COUNT(*)
+FROM job_applications
+GROUP BY user_id, status;
@@ -0,0 +1,4 @@
+-- Hibernate now assigns ids from these sequences in blocks of 50 (pooled optimizer) so inserts can be batched.
+-- The increment must match allocationSize on the entities.
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE job_applications_id_seq INCREMENT BY 50;
@@ -0,0 +1,5 @@
+-- Optimistic locking for job updates (JPA @Version), exposed to clients as the job's ETag.
+ALTER TABLE job_applications ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Bumped by every job write so listing and stats ETags can be checked without querying job_applications.
+ALTER TABLE users ADD COLUMN jobs_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,16 @@
+-- Full-text search over company, position and notes, weighted in that order. Maintained by PostgreSQL on every
+-- insert and update (including COPY), so the application never writes it and the entity does not map it.
+ALTER TABLE job_applications ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', company_name), 'A')
+        || setweight(to_tsvector('english', position), 'B')
+        || setweight(to_tsvector('english', COALESCE(notes, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_job_applications_search ON job_applications USING GIN (search_vector);
+
+-- Trigram index for company autocomplete: serves both prefix ILIKE and similarity (typo) matches.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_job_applications_company_name_trgm ON job_applications USING GIN (company_name gin_trgm_ops);
+
+-- Nothing filters or sorts on exact company names; the trigram index covers company lookups.
+DROP INDEX IF EXISTS idx_job_applications_company_name;
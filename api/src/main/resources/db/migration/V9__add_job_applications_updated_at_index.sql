@@ -0,0 +1,2 @@
+-- Serves updatedSince filters across all users (admin listings); per-user filters lead with user_id instead.
+CREATE INDEX idx_job_applications_updated_at ON job_applications (updated_at);
@@ -0,0 +1,78 @@
+package com.ibrahim.jobtracker;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@AutoConfigureObservability(tracing = false)
+class MetricsEndpointTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalServerPort
+    private int serverPort;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    void shouldExposeHotPathHistogramsOnManagementPortOnly() {
+        restTemplate.postForEntity(apiUrl("/api/auth/register"), Map.of(
+                "username", "metrics",
+                "email", "metrics@example.com",
+                "password", "StrongPass123"
+        ), String.class);
+        ResponseEntity<Map> login = restTemplate.postForEntity(apiUrl("/api/auth/login"), Map.of(
+                "username", "metrics",
+                "password", "StrongPass123"
+        ), Map.class);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth((String) login.getBody().get("token"));
+        ResponseEntity<String> created = restTemplate.exchange(apiUrl("/api/jobs"), HttpMethod.POST, new HttpEntity<>(Map.of(
+                "companyName", "Acme",
+                "position", "Developer",
+                "status", "APPLIED",
+                "appliedDate", "2026-01-15"
+        ), headers), String.class);
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        ResponseEntity<String> scrape = restTemplate.getForEntity(
+                "http://localhost:" + managementPort + "/actuator/prometheus", String.class);
+
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(scrape.getBody())
+                .contains("jobtracker_jwt_verify_seconds_bucket")
+                .contains("jobtracker_jwt_sign_seconds_count")
+                .contains("jobtracker_users_load_seconds_bucket")
+                .contains("jobtracker_mapper_seconds_bucket")
+                .contains("jobtracker_password_seconds_count{application=\"job-application-tracker-api\",operation=\"encode\"")
+                .contains("jobtracker_users_cache_gets_total")
+                .contains("spring_data_repository_invocations_seconds_bucket")
+                .contains("hikaricp_connections_acquire_seconds_bucket")
+                .contains("hibernate_statements_total")
+                .contains("http_server_requests_seconds_bucket");
+        assertThat(restTemplate.getForEntity(apiUrl("/actuator/prometheus"), String.class).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    private String apiUrl(String path) {
+        return "http://localhost:" + serverPort + path;
+    }
+}
@@ -0,0 +1,182 @@
+package com.ibrahim.jobtracker.benchmark;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.ibrahim.jobtracker.JobApplicationTrackerApiApplication;
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.security.JwtService;
+import com.ibrahim.jobtracker.service.JobApplicationService;
+import com.ibrahim.jobtracker.service.JobEventService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+/**
+ * Load test for {@code GET /api/jobs/events}: starts the application on a random port (test profile), opens
+ * {@code subscribers} real SSE connections for one user from a single NIO selector thread, then measures the time from
+ * committing a job write until every subscriber has received its {@code created} event. Setup prints the heap retained
+ * per open stream (server and client side together).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class JobEventStreamBenchmark {
+
+    private static final byte[] PATTERN = "event:created".getBytes(StandardCharsets.US_ASCII);
+
+    @Param("10000")
+    public int subscribers;
+
+    private ConfigurableApplicationContext context;
+    private JobApplicationService jobApplicationService;
+    private Long ownerId;
+    private Selector selector;
+    private Thread reader;
+    private final List<SocketChannel> channels = new ArrayList<>();
+    private final AtomicLong delivered = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void openStreams() throws Exception {
+        context = new SpringApplicationBuilder(JobApplicationTrackerApiApplication.class)
+                .profiles("test")
+                .run("--server.port=0", "--app.events.heartbeat-interval-ms=3600000",
+                        "--app.events.max-streams-per-user=" + Integer.MAX_VALUE, "--logging.level.root=WARN");
+        jobApplicationService = context.getBean(JobApplicationService.class);
+        JobEventService eventService = context.getBean(JobEventService.class);
+        ownerId = context.getBean(UserRepository.class).save(User.builder()
+                .username("bench")
+                .email("bench@example.com")
+                .password("hashed")
+                .role(Role.USER)
+                .build()).getId();
+        String token = context.getBean(JwtService.class)
+                .generateToken(context.getBean(UserDetailsService.class).loadUserByUsername("bench"));
+        int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+        byte[] request = ("GET /api/jobs/events HTTP/1.1\r\nHost: localhost\r\nAccept: text/event-stream\r\n"
+                + "Authorization: Bearer " + token + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+
+        long heapBefore = usedHeap();
+        selector = Selector.open();
+        for (int i = 0; i < subscribers; i++) {
+            SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", port));
+            channel.write(ByteBuffer.wrap(request));
+            channel.configureBlocking(false);
+            channel.register(selector, SelectionKey.OP_READ, new int[1]);
+            channels.add(channel);
+        }
+        reader = new Thread(this::readEvents, "sse-bench-reader");
+        reader.setDaemon(true);
+        reader.start();
+
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+        while (eventService.subscriberCount() < subscribers) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Only " + eventService.subscriberCount() + " streams opened");
+            }
+            Thread.sleep(100);
+        }
+        System.out.printf("%n%d open streams retain about %.1f KB of heap each (server and client)%n",
+                subscribers, (usedHeap() - heapBefore) / 1024.0 / subscribers);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeStreams() throws IOException {
+        selector.close();
+        for (SocketChannel channel : channels) {
+            channel.close();
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public void fanOutCreatedEvent() {
+        long target = delivered.get() + subscribers;
+        JobApplicationRequest request = new JobApplicationRequest();
+        request.setCompanyName("Acme");
+        request.setPosition("Developer");
+        request.setStatus(ApplicationStatus.APPLIED);
+        request.setAppliedDate(LocalDate.now());
+        jobApplicationService.create(request, ownerId);
+        while (delivered.get() < target) {
+            LockSupport.parkNanos(50_000);
+        }
+    }
+
+    private void readEvents() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        try {
+            while (selector.isOpen()) {
+                selector.select();
+                for (SelectionKey key : selector.selectedKeys()) {
+                    buffer.clear();
+                    if (((SocketChannel) key.channel()).read(buffer) < 0) {
+                        key.cancel();
+                        continue;
+                    }
+                    buffer.flip();
+                    countMatches(buffer, (int[]) key.attachment());
+                }
+                selector.selectedKeys().clear();
+            }
+        } catch (IOException | ClosedSelectorException ignored) {
+            // Selector closed by tear-down.
+        }
+    }
+
+    private void countMatches(ByteBuffer buffer, int[] matched) {
+        // matched[0] carries a partial match across reads, since an event can be split between two reads.
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (b == PATTERN[matched[0]]) {
+                if (++matched[0] == PATTERN.length) {
+                    delivered.incrementAndGet();
+                    matched[0] = 0;
+                }
+            } else {
+                matched[0] = b == PATTERN[0] ? 1 : 0;
+            }
+        }
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,138 @@
+package com.ibrahim.jobtracker.benchmark;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.JobApplicationRepositoryImpl;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Time to load {@value #ROWS} jobs into an embedded PostgreSQL. {@code batchedInserts} issues what Hibernate sends
+ * for {@code saveAll} with {@code hibernate.jdbc.batch_size=50} (one {@code nextval} per 50 ids, batched
+ * {@code INSERT}s); {@code copy} uses {@link JobApplicationRepositoryImpl#copyIn}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobImportBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int BATCH_SIZE = 50;
+    private static final String INSERT_SQL = """
+            INSERT INTO job_applications (company_name, position, status, applied_date, notes, user_id, id)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private EmbeddedPostgres postgres;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private JobApplicationRepositoryImpl repository;
+    private User owner;
+
+    @Setup(Level.Trial)
+    public void startPostgres() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        repository = new JobApplicationRepositoryImpl(jdbcTemplate);
+        Long ownerId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (id, username, email, password, role)
+                VALUES (nextval('users_id_seq'), 'bench', 'bench@example.com', 'hashed', 'USER')
+                RETURNING id
+                """, Long.class);
+        owner = User.builder().id(ownerId).build();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws Exception {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE job_applications");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopPostgres() throws Exception {
+        postgres.close();
+    }
+
+    @Benchmark
+    public long batchedInserts() {
+        List<JobApplication> jobs = jobs();
+        return transactionTemplate.execute(status -> {
+            long nextId = 0;
+            long blockEnd = -1;
+            for (JobApplication job : jobs) {
+                if (nextId > blockEnd) {
+                    blockEnd = jdbcTemplate.queryForObject("SELECT nextval('job_applications_id_seq')", Long.class);
+                    nextId = blockEnd - BATCH_SIZE + 1;
+                }
+                job.setId(nextId++);
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, jobs, BATCH_SIZE, (statement, job) -> {
+                statement.setString(1, job.getCompanyName());
+                statement.setString(2, job.getPosition());
+                statement.setString(3, job.getStatus().name());
+                statement.setDate(4, Date.valueOf(job.getAppliedDate()));
+                statement.setString(5, job.getNotes());
+                statement.setLong(6, job.getUser().getId());
+                statement.setLong(7, job.getId());
+            });
+            return (long) jobs.size();
+        });
+    }
+
+    @Benchmark
+    public long copy() {
+        List<JobApplication> jobs = jobs();
+        return transactionTemplate.execute(status -> repository.copyIn(jobs.size(), jobs.iterator()));
+    }
+
+    private List<JobApplication> jobs() {
+        List<JobApplication> jobs = new ArrayList<>(ROWS);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < ROWS; i++) {
+            jobs.add(JobApplication.builder()
+                    .companyName("Company " + i)
+                    .position("Developer")
+                    .status(ApplicationStatus.values()[i % ApplicationStatus.values().length])
+                    .appliedDate(today.minusDays(i % 365))
+                    .notes(i % 3 == 0 ? "Referral, follow up in two weeks" : null)
+                    .user(owner)
+                    .build());
+        }
+        return jobs;
+    }
+}
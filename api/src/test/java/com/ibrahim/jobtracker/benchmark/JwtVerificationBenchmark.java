@@ -0,0 +1,81 @@
+package com.ibrahim.jobtracker.benchmark;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.crypto.SecretKey;
+
+import com.ibrahim.jobtracker.security.JwtService;
+import com.ibrahim.jobtracker.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Per-request token verification cost as seen by {@code JwtAuthenticationFilter}.
+ * {@code legacy} replays the previous three-parse flow, {@code singleParse} the current one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "VGhpc0lzQVNlY3VyZVNlY3JldEtleUZvckpXVFRva2VuMTIzNDU2Nzg5MDEyMw==";
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 3600000L);
+        userDetails = new User("alice", "hashed", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        String username = extractClaim(token, Claims::getSubject);
+        return username != null
+                && extractClaim(token, Claims::getSubject).equals(userDetails.getUsername())
+                && !extractClaim(token, Claims::getExpiration).before(new Date());
+    }
+
+    @Benchmark
+    public boolean singleParse() {
+        VerifiedToken verified = jwtService.verify(token);
+        return jwtService.isTokenValid(verified, userDetails);
+    }
+
+    private static <T> T extractClaim(String token, Function<Claims, T> resolver) {
+        Claims claims = Jwts.parser()
+                .verifyWith(legacySigningKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        return resolver.apply(claims);
+    }
+
+    private static SecretKey legacySigningKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+}
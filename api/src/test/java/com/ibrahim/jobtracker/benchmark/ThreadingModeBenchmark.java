@@ -0,0 +1,233 @@
+package com.ibrahim.jobtracker.benchmark;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.ibrahim.jobtracker.JobApplicationTrackerApiApplication;
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.security.JwtService;
+import com.ibrahim.jobtracker.service.JobApplicationService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+/**
+ * Closed-loop load test of {@code GET /api/jobs?size=20} from 400 concurrent clients, comparing Tomcat's platform
+ * worker pool ({@code threads=platform}, 200 threads) with the {@code virtual-threads} profile. The application
+ * talks to an embedded PostgreSQL through a proxy that delays traffic by {@code dbLatencyMs} in each direction, so
+ * requests spend most of their time waiting on the database as they would against a networked one. Both modes use
+ * the same fixed pool of 20 connections and a 30 second connection timeout, so only the threading model differs;
+ * override the client count with {@code -t}. Run on Java 21.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 4, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(400)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class ThreadingModeBenchmark {
+
+    private static final int JOBS = 200;
+    private static final int POOL_SIZE = 20;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param("2")
+    public int dbLatencyMs;
+
+    private EmbeddedPostgres postgres;
+    private LatencyProxy proxy;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest listJobs;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        proxy = new LatencyProxy(postgres.getPort(), dbLatencyMs);
+        context = new SpringApplicationBuilder(JobApplicationTrackerApiApplication.class)
+                .profiles(threads.equals("virtual") ? new String[] {"virtual-threads"} : new String[0])
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:postgresql://localhost:" + proxy.port() + "/postgres",
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=postgres",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.datasource.hikari.minimum-idle=" + POOL_SIZE,
+                        "--spring.datasource.hikari.connection-timeout=30000",
+                        "--logging.level.root=WARN");
+
+        Long ownerId = context.getBean(UserRepository.class).save(User.builder()
+                .username("bench")
+                .email("bench@example.com")
+                .password("hashed")
+                .role(Role.USER)
+                .build()).getId();
+        List<JobApplicationRequest> requests = new ArrayList<>(JOBS);
+        for (int i = 0; i < JOBS; i++) {
+            JobApplicationRequest request = new JobApplicationRequest();
+            request.setCompanyName("Company " + i);
+            request.setPosition("Developer");
+            request.setStatus(ApplicationStatus.values()[i % ApplicationStatus.values().length]);
+            request.setAppliedDate(LocalDate.now().minusDays(i));
+            requests.add(request);
+        }
+        context.getBean(JobApplicationService.class).createAll(requests, ownerId);
+
+        String token = context.getBean(JwtService.class)
+                .generateToken(context.getBean(UserDetailsService.class).loadUserByUsername("bench"));
+        int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        listJobs = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/jobs?size=20"))
+                .header("Authorization", "Bearer " + token)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() throws IOException {
+        context.close();
+        proxy.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public int listJobs() throws Exception {
+        HttpResponse<byte[]> response = client.send(listJobs, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /api/jobs returned " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+    /**
+     * TCP proxy that forwards each chunk {@code delayMs} after it was read, preserving order per direction.
+     */
+    private static final class LatencyProxy implements Closeable {
+
+        private static final byte[] EOF = new byte[0];
+
+        private final ServerSocket server;
+        private final int targetPort;
+        private final long delayNanos;
+        private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+
+        LatencyProxy(int targetPort, long delayMs) throws IOException {
+            this.server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            this.targetPort = targetPort;
+            this.delayNanos = TimeUnit.MILLISECONDS.toNanos(delayMs);
+            start("latency-proxy-accept", this::accept);
+        }
+
+        int port() {
+            return server.getLocalPort();
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+
+        private void accept() {
+            try {
+                while (true) {
+                    Socket downstream = server.accept();
+                    Socket upstream = new Socket(InetAddress.getLoopbackAddress(), targetPort);
+                    downstream.setTcpNoDelay(true);
+                    upstream.setTcpNoDelay(true);
+                    sockets.add(downstream);
+                    sockets.add(upstream);
+                    forward(downstream, upstream);
+                    forward(upstream, downstream);
+                }
+            } catch (IOException ignored) {
+                // Server socket closed by tear-down.
+            }
+        }
+
+        private void forward(Socket from, Socket to) throws IOException {
+            BlockingQueue<Chunk> chunks = new LinkedBlockingQueue<>();
+            InputStream in = from.getInputStream();
+            OutputStream out = to.getOutputStream();
+            start("latency-proxy-read", () -> {
+                byte[] buffer = new byte[16 * 1024];
+                try {
+                    int read;
+                    while ((read = in.read(buffer)) > 0) {
+                        chunks.add(new Chunk(System.nanoTime() + delayNanos, Arrays.copyOf(buffer, read)));
+                    }
+                } catch (IOException ignored) {
+                    // Connection closed.
+                }
+                chunks.add(new Chunk(System.nanoTime() + delayNanos, EOF));
+            });
+            start("latency-proxy-write", () -> {
+                try {
+                    while (true) {
+                        Chunk chunk = chunks.take();
+                        long wait = chunk.due() - System.nanoTime();
+                        if (wait > 0) {
+                            TimeUnit.NANOSECONDS.sleep(wait);
+                        }
+                        if (chunk.bytes() == EOF) {
+                            to.shutdownOutput();
+                            return;
+                        }
+                        out.write(chunk.bytes());
+                        out.flush();
+                    }
+                } catch (IOException | InterruptedException ignored) {
+                    // Connection closed.
+                }
+            });
+        }
+
+        private static void start(String name, Runnable task) {
+            Thread thread = new Thread(task, name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private record Chunk(long due, byte[] bytes) {
+        }
+    }
+}
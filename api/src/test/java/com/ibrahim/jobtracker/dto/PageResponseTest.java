@@ -0,0 +1,41 @@
+package com.ibrahim.jobtracker.dto;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageResponseTest {
+
+    @Test
+    void approximateShouldUseTheEstimateWhileMorePagesFollow() {
+        PageResponse<String> response = PageResponse.approximate(
+                new SliceImpl<>(List.of("a", "b"), PageRequest.of(1, 2), true), 40);
+
+        assertThat(response.getTotalElements()).isEqualTo(40);
+        assertThat(response.getTotalPages()).isEqualTo(20);
+        assertThat(response.getTotalApproximate()).isTrue();
+    }
+
+    @Test
+    void approximateShouldCountTheLastPageExactly() {
+        PageResponse<String> response = PageResponse.approximate(
+                new SliceImpl<>(List.of("a"), PageRequest.of(2, 2), false), 40);
+
+        assertThat(response.getTotalElements()).isEqualTo(5);
+        assertThat(response.getTotalPages()).isEqualTo(3);
+        assertThat(response.getTotalApproximate()).isNull();
+    }
+
+    @Test
+    void approximateShouldKeepTheEstimateForAnEmptyPagePastTheEnd() {
+        PageResponse<String> response = PageResponse.approximate(
+                new SliceImpl<>(List.of(), PageRequest.of(9, 2), false), 7);
+
+        assertThat(response.getTotalElements()).isEqualTo(7);
+        assertThat(response.getTotalApproximate()).isTrue();
+    }
+}
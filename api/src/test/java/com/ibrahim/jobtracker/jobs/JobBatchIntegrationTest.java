@@ -0,0 +1,180 @@
+package com.ibrahim.jobtracker.jobs;
+
+import java.time.LocalDate;
+
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
+import com.ibrahim.jobtracker.dto.JobApplicationResponse;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.service.JobApplicationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class JobBatchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void userShouldCreateJobsInBatch() throws Exception {
+        User john = saveUser("john", "john@example.com");
+
+        String body = """
+                [
+                  {"companyName": "Acme", "position": "Developer", "status": "APPLIED", "appliedDate": "2026-02-10"},
+                  {"companyName": "Globex", "position": "Engineer", "status": "INTERVIEW", "appliedDate": "2026-02-11"}
+                ]
+                """;
+
+        mockMvc.perform(post("/api/jobs/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.results[0].index").value(0))
+                .andExpect(jsonPath("$.results[0].outcome").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].job.companyName").value("Globex"))
+                .andExpect(jsonPath("$.results[1].job.userId").value(john.getId()));
+
+        assertThat(jobApplicationRepository.findByUserId(john.getId())).hasSize(2);
+        mockMvc.perform(get("/api/jobs/stats"))
+                .andExpect(jsonPath("$.totalApplications").value(2))
+                .andExpect(jsonPath("$.interviews").value(1));
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void userShouldUpdateOwnJobsAndGetNotFoundForOthers() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        User mary = saveUser("mary", "mary@example.com");
+        JobApplicationResponse johnJob = saveJob(john, "Acme");
+        JobApplicationResponse maryJob = saveJob(mary, "Initech");
+
+        String body = """
+                [
+                  {"id": %d, "companyName": "Acme", "position": "Lead", "status": "OFFER", "appliedDate": "2026-02-10"},
+                  {"id": %d, "companyName": "Hijacked", "position": "Lead", "status": "OFFER", "appliedDate": "2026-02-10"},
+                  {"id": 999999, "companyName": "Ghost", "position": "Lead", "status": "OFFER", "appliedDate": "2026-02-10"}
+                ]
+                """.formatted(johnJob.getId(), maryJob.getId());
+
+        mockMvc.perform(put("/api/jobs/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.results[0].job.position").value("Lead"))
+                .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.results[1].id").value(maryJob.getId()))
+                .andExpect(jsonPath("$.results[2].outcome").value("NOT_FOUND"));
+
+        assertThat(jobApplicationRepository.findById(maryJob.getId()).orElseThrow().getCompanyName())
+                .isEqualTo("Initech");
+        mockMvc.perform(get("/api/jobs/stats"))
+                .andExpect(jsonPath("$.totalApplications").value(1))
+                .andExpect(jsonPath("$.offers").value(1));
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void userShouldDeleteOwnJobsInBatch() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        User mary = saveUser("mary", "mary@example.com");
+        JobApplicationResponse first = saveJob(john, "Acme");
+        JobApplicationResponse second = saveJob(john, "Globex");
+        JobApplicationResponse maryJob = saveJob(mary, "Initech");
+
+        mockMvc.perform(delete("/api/jobs/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[%d, %d, %d, %d]".formatted(
+                                first.getId(), second.getId(), maryJob.getId(), first.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[1].outcome").value("DELETED"))
+                .andExpect(jsonPath("$.results[2].outcome").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.results[3].outcome").value("NOT_FOUND"));
+
+        assertThat(jobApplicationRepository.findByUserId(john.getId())).isEmpty();
+        assertThat(jobApplicationRepository.findById(maryJob.getId())).isPresent();
+        mockMvc.perform(get("/api/jobs/stats"))
+                .andExpect(jsonPath("$.totalApplications").value(0));
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void batchShouldBeRejectedWhenAnyItemIsInvalid() throws Exception {
+        User john = saveUser("john", "john@example.com");
+
+        String body = """
+                [
+                  {"companyName": "Acme", "position": "Developer", "status": "APPLIED", "appliedDate": "2026-02-10"},
+                  {"companyName": "", "position": "Developer", "status": "APPLIED", "appliedDate": "2026-02-10"}
+                ]
+                """;
+
+        mockMvc.perform(post("/api/jobs/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/jobs/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(jobApplicationRepository.findByUserId(john.getId())).isEmpty();
+    }
+
+    private User saveUser(String username, String email) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(email)
+                .password("hashed")
+                .role(Role.USER)
+                .build());
+    }
+
+    private JobApplicationResponse saveJob(User user, String companyName) {
+        JobApplicationRequest request = new JobApplicationRequest();
+        request.setCompanyName(companyName);
+        request.setPosition("Developer");
+        request.setStatus(ApplicationStatus.APPLIED);
+        request.setAppliedDate(LocalDate.now().minusDays(1));
+        return jobApplicationService.create(request, user.getId());
+    }
+}
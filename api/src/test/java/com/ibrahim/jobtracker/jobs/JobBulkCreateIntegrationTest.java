@@ -0,0 +1,81 @@
+package com.ibrahim.jobtracker.jobs;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
+import com.ibrahim.jobtracker.dto.JobApplicationResponse;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.service.JobApplicationService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@ActiveProfiles("test")
+@Transactional
+class JobBulkCreateIntegrationTest {
+
+    private static final int JOBS = 120;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void shouldInsertJobsInJdbcBatches() {
+        User john = userRepository.saveAndFlush(User.builder()
+                .username("john")
+                .email("john@example.com")
+                .password("hashed")
+                .role(Role.USER)
+                .build());
+        List<JobApplicationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < JOBS; i++) {
+            requests.add(request(i));
+        }
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<JobApplicationResponse> created = jobApplicationService.createAll(requests, john.getId());
+        entityManager.flush();
+
+        long insertBatches = (JOBS + BATCH_SIZE - 1) / BATCH_SIZE;
+        long sequenceCalls = (JOBS + BATCH_SIZE - 1) / BATCH_SIZE + 1;
+        assertThat(created).hasSize(JOBS).allSatisfy(job -> assertThat(job.getId()).isNotNull());
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(JOBS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(insertBatches + sequenceCalls);
+    }
+
+    private JobApplicationRequest request(int index) {
+        JobApplicationRequest request = new JobApplicationRequest();
+        request.setCompanyName("Company-" + index);
+        request.setPosition("Developer");
+        request.setStatus(index % 2 == 0 ? ApplicationStatus.APPLIED : ApplicationStatus.INTERVIEW);
+        request.setAppliedDate(LocalDate.now().minusDays(index % 30));
+        return request;
+    }
+}
@@ -0,0 +1,171 @@
+package com.ibrahim.jobtracker.jobs;
+
+import java.time.LocalDate;
+
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
+import com.ibrahim.jobtracker.dto.JobApplicationResponse;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.service.JobApplicationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class JobConditionalRequestIntegrationTest {
+
+    private static final String UPDATE_BODY = """
+            {"companyName": "Acme", "position": "Lead", "status": "OFFER", "appliedDate": "2026-02-10"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @SpyBean
+    private JobApplicationService jobApplicationService;
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void listingShouldReturnNotModifiedWithoutQueryingJobsUntilTheyChange() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        saveJob(john, "Acme");
+
+        String etag = mockMvc.perform(get("/api/jobs"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank().doesNotStartWith("W/");
+
+        clearInvocations(jobApplicationService);
+        mockMvc.perform(get("/api/jobs").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        verify(jobApplicationService, never()).getJobs(any(), any(), any(), any(), anyBoolean());
+
+        saveJob(john, "Globex");
+
+        mockMvc.perform(get("/api/jobs").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void statsShouldReturnNotModifiedUntilAnotherJobIsWritten() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        User mary = saveUser("mary", "mary@example.com");
+        saveJob(john, "Acme");
+
+        String etag = mockMvc.perform(get("/api/jobs/stats"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        clearInvocations(jobApplicationService);
+        saveJob(mary, "Initech");
+        mockMvc.perform(get("/api/jobs/stats").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(jobApplicationService, never()).getStats(any(), anyBoolean());
+
+        saveJob(john, "Globex");
+        mockMvc.perform(get("/api/jobs/stats").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalApplications").value(2));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void adminListingShouldReturnNotModifiedUntilAnyUsersJobsChange() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        User mary = saveUser("mary", "mary@example.com");
+        saveJob(john, "Acme");
+
+        String etag = mockMvc.perform(get("/api/jobs"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/jobs").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        saveJob(mary, "Initech");
+        mockMvc.perform(get("/api/jobs").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void updateShouldHonourIfMatch() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        JobApplicationResponse job = saveJob(john, "Acme");
+        String etag = "\"" + job.getVersion() + "\"";
+
+        String updatedTag = mockMvc.perform(put("/api/jobs/{id}", job.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(UPDATE_BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.position").value("Lead"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updatedTag).isNotEqualTo(etag);
+
+        mockMvc.perform(put("/api/jobs/{id}", job.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(UPDATE_BODY))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/api/jobs/{id}", job.getId())
+                        .header(HttpHeaders.IF_MATCH, "W/" + updatedTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(UPDATE_BODY))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/api/jobs/{id}", job.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(UPDATE_BODY))
+                .andExpect(status().isOk());
+    }
+
+    private User saveUser(String username, String email) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(email)
+                .password("hashed")
+                .role(Role.USER)
+                .build());
+    }
+
+    private JobApplicationResponse saveJob(User user, String companyName) {
+        JobApplicationRequest request = new JobApplicationRequest();
+        request.setCompanyName(companyName);
+        request.setPosition("Developer");
+        request.setStatus(ApplicationStatus.APPLIED);
+        request.setAppliedDate(LocalDate.now().minusDays(1));
+        return jobApplicationService.create(request, user.getId());
+    }
+}
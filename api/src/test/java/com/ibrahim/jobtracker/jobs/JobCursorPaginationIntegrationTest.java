@@ -0,0 +1,137 @@
+package com.ibrahim.jobtracker.jobs;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class JobCursorPaginationIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldWalkOwnJobsByCursorWithoutGapsOrDuplicates() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        User mary = saveUser("mary", "mary@example.com");
+        Long newest = saveJob(john, ApplicationStatus.APPLIED, 1).getId();
+        Long tiedLow = saveJob(john, ApplicationStatus.INTERVIEW, 2).getId();
+        Long tiedHigh = saveJob(john, ApplicationStatus.APPLIED, 2).getId();
+        Long older = saveJob(john, ApplicationStatus.OFFER, 3).getId();
+        Long oldest = saveJob(john, ApplicationStatus.REJECTED, 4).getId();
+        saveJob(mary, ApplicationStatus.APPLIED, 1);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/jobs")
+                    .param("pagination", "cursor")
+                    .param("size", "2");
+            if (cursor != null) {
+                request.param("after", cursor);
+            }
+
+            JsonNode body = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").doesNotExist())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString());
+            body.get("content").forEach(item -> seen.add(item.get("id").asLong()));
+            cursor = body.get("hasNext").asBoolean() ? body.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactly(newest, tiedHigh, tiedLow, older, oldest);
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldFilterByStatusInCursorMode() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        saveJob(john, ApplicationStatus.APPLIED, 1);
+        saveJob(john, ApplicationStatus.INTERVIEW, 2);
+        saveJob(john, ApplicationStatus.APPLIED, 3);
+
+        mockMvc.perform(get("/api/jobs")
+                        .param("pagination", "cursor")
+                        .param("status", "APPLIED")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.numberOfElements").value(2))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldRejectMalformedCursor() throws Exception {
+        saveUser("john", "john@example.com");
+
+        mockMvc.perform(get("/api/jobs")
+                        .param("pagination", "cursor")
+                        .param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+    }
+
+    private User saveUser(String username, String email) {
+        User user = User.builder()
+                .username(username)
+                .email(email)
+                .password("hashed")
+                .role(Role.USER)
+                .build();
+        return userRepository.save(user);
+    }
+
+    private JobApplication saveJob(User user, ApplicationStatus status, int dayOffset) {
+        JobApplication application = JobApplication.builder()
+                .companyName("Company-" + dayOffset)
+                .position("Developer")
+                .status(status)
+                .appliedDate(LocalDate.now().minusDays(dayOffset))
+                .notes("notes")
+                .user(user)
+                .build();
+        return jobApplicationRepository.save(application);
+    }
+}
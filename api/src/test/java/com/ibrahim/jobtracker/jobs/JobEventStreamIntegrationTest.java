@@ -0,0 +1,128 @@
+package com.ibrahim.jobtracker.jobs;
+
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
+import com.ibrahim.jobtracker.dto.JobApplicationResponse;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.exception.PreconditionFailedException;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.service.JobApplicationService;
+import com.ibrahim.jobtracker.service.JobEventService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Not transactional: events are only delivered after the writing transaction commits.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JobEventStreamIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private JobEventService jobEventService;
+
+    @AfterEach
+    void cleanUp() {
+        jobApplicationRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void shouldStreamCommittedChangesToTheOwnerOnly() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        saveUser("mary", "mary@example.com");
+        MockHttpServletResponse johnStream = subscribe("john");
+        MockHttpServletResponse maryStream = subscribe("mary");
+
+        JobApplicationResponse job = saveJob(john);
+        awaitContent(johnStream, content -> content.contains("event:created"));
+        assertThat(johnStream.getContentType()).startsWith("text/event-stream");
+        assertThat(johnStream.getContentAsString()).contains("\"jobId\":" + job.getId());
+
+        jobApplicationService.update(job.getId(), jobRequest(ApplicationStatus.INTERVIEW), null, john.getId(), false);
+        awaitContent(johnStream, content -> content.contains("event:status-changed"));
+        assertThat(johnStream.getContentAsString()).contains("\"previousStatus\":\"APPLIED\"");
+
+        assertThatThrownBy(() -> jobApplicationService.update(
+                job.getId(), jobRequest(ApplicationStatus.OFFER), 0L, john.getId(), false))
+                .isInstanceOf(PreconditionFailedException.class);
+
+        jobApplicationService.delete(job.getId(), john.getId(), false);
+        String content = awaitContent(johnStream, text -> text.contains("event:deleted"));
+        assertThat(content).doesNotContain("OFFER");
+        assertThat(maryStream.getContentAsString()).doesNotContain("event:");
+    }
+
+    private MockHttpServletResponse subscribe(String username) throws Exception {
+        int before = jobEventService.subscriberCount();
+        MvcResult result = mockMvc.perform(get("/api/jobs/events").with(user(username).roles("USER")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(jobEventService.subscriberCount()).isEqualTo(before + 1);
+        return result.getResponse();
+    }
+
+    private String awaitContent(MockHttpServletResponse response, Predicate<String> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = response.getContentAsString();
+        while (!condition.test(content) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        assertThat(content).matches(condition::test, "expected event in stream");
+        return content;
+    }
+
+    private User saveUser(String username, String email) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(email)
+                .password("hashed")
+                .role(Role.USER)
+                .build());
+    }
+
+    private JobApplicationResponse saveJob(User user) {
+        return jobApplicationService.create(jobRequest(ApplicationStatus.APPLIED), user.getId());
+    }
+
+    private JobApplicationRequest jobRequest(ApplicationStatus status) {
+        JobApplicationRequest request = new JobApplicationRequest();
+        request.setCompanyName("Acme");
+        request.setPosition("Developer");
+        request.setStatus(status);
+        request.setAppliedDate(LocalDate.now().minusDays(1));
+        return request;
+    }
+}
@@ -0,0 +1,166 @@
+package com.ibrahim.jobtracker.jobs;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibrahim.jobtracker.dto.ExportFormat;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.service.JobExportService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not transactional as a whole: the export body is written on an async thread and only sees committed rows.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JobExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private JobExportService exportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @AfterEach
+    void cleanUp() {
+        jobApplicationRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldExportOwnJobsAsNdjson() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        User mary = saveUser("mary", "mary@example.com");
+        saveJob(john, "Acme", "first", 2);
+        saveJob(john, "Globex", "second", 1);
+        saveJob(mary, "Initech", "other", 1);
+
+        MvcResult started = mockMvc.perform(get("/api/jobs/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"job-applications.ndjson\""))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode newest = objectMapper.readTree(lines[0]);
+        assertThat(newest.get("companyName").asText()).isEqualTo("Globex");
+        assertThat(newest.get("userId").asLong()).isEqualTo(john.getId());
+        assertThat(objectMapper.readTree(lines[1]).get("companyName").asText()).isEqualTo("Acme");
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldExportCsvWithEscapedFields() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        saveJob(john, "Acme, Inc.", "said \"hi\"", 1);
+        saveJob(john, "=HYPERLINK(\"x\")", null, 2);
+
+        MvcResult started = mockMvc.perform(get("/api/jobs/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("id,companyName,position,status,appliedDate,notes,createdAt,updatedAt");
+        assertThat(lines[1]).contains(",\"Acme, Inc.\",Developer,APPLIED,").contains(",\"said \"\"hi\"\"\",");
+        assertThat(lines[2]).contains(",\"'=HYPERLINK(\"\"x\"\")\",Developer,");
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldRejectUnknownFormat() throws Exception {
+        saveUser("john", "john@example.com");
+
+        mockMvc.perform(get("/api/jobs/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("format must be one of: ndjson, csv"));
+    }
+
+    @Test
+    @Transactional
+    void shouldNotRetainExportedEntitiesInPersistenceContext() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        for (int i = 0; i < 120; i++) {
+            saveJob(john, "Company-" + i, null, i % 30);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.export(john.getId(), ExportFormat.NDJSON, out);
+
+        assertThat(rows).isEqualTo(120);
+        assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize(120);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    private User saveUser(String username, String email) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(email)
+                .password("hashed")
+                .role(Role.USER)
+                .build());
+    }
+
+    private void saveJob(User user, String companyName, String notes, int daysAgo) {
+        jobApplicationRepository.save(JobApplication.builder()
+                .companyName(companyName)
+                .position("Developer")
+                .status(ApplicationStatus.APPLIED)
+                .appliedDate(LocalDate.now().minusDays(daysAgo))
+                .notes(notes)
+                .user(user)
+                .build());
+    }
+}
@@ -0,0 +1,171 @@
+package com.ibrahim.jobtracker.jobs;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class JobFilterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldCombineStatusesDateRangeAndCompanyPrefix() throws Exception {
+        User john = saveUser("john");
+        User mary = saveUser("mary");
+        Long match = saveJob(john, "Acme Corp", ApplicationStatus.INTERVIEW, 5).getId();
+        Long otherMatch = saveJob(john, "acme labs", ApplicationStatus.OFFER, 10).getId();
+        saveJob(john, "Acme Corp", ApplicationStatus.REJECTED, 5);
+        saveJob(john, "Acme Corp", ApplicationStatus.INTERVIEW, 40);
+        saveJob(john, "Globex Acme", ApplicationStatus.INTERVIEW, 5);
+        saveJob(mary, "Acme Corp", ApplicationStatus.INTERVIEW, 5);
+
+        mockMvc.perform(get("/api/jobs")
+                        .param("status", "INTERVIEW,OFFER")
+                        .param("appliedFrom", LocalDate.now().minusDays(30).toString())
+                        .param("appliedTo", LocalDate.now().toString())
+                        .param("company", "ACME"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(match))
+                .andExpect(jsonPath("$.content[1].id").value(otherMatch));
+
+        mockMvc.perform(get("/api/jobs")
+                        .param("status", "INTERVIEW")
+                        .param("status", "OFFER")
+                        .param("company", "acme")
+                        .param("withTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.numberOfElements").value(3))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldTreatCompanyPrefixLiterallyAndFilterByUpdatedSince() throws Exception {
+        User john = saveUser("john");
+        saveJob(john, "100% Remote", ApplicationStatus.APPLIED, 1);
+        saveJob(john, "100 Tech", ApplicationStatus.APPLIED, 1);
+
+        mockMvc.perform(get("/api/jobs").param("company", "100%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].companyName").value("100% Remote"));
+        mockMvc.perform(get("/api/jobs")
+                        .param("updatedSince", Instant.now().minus(1, ChronoUnit.HOURS).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2));
+        mockMvc.perform(get("/api/jobs")
+                        .param("updatedSince", Instant.now().plus(1, ChronoUnit.HOURS).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldWalkFilteredJobsByCursor() throws Exception {
+        User john = saveUser("john");
+        List<Long> expected = new ArrayList<>();
+        for (int day = 1; day <= 5; day++) {
+            expected.add(saveJob(john, "Acme", ApplicationStatus.APPLIED, day).getId());
+            saveJob(john, "Acme", ApplicationStatus.REJECTED, day);
+        }
+        expected.add(0, saveJob(john, "Acme", ApplicationStatus.OFFER, 1).getId());
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/jobs")
+                    .param("pagination", "cursor")
+                    .param("status", "APPLIED,OFFER")
+                    .param("size", "2");
+            if (cursor != null) {
+                request.param("after", cursor);
+            }
+
+            JsonNode body = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString());
+            body.get("content").forEach(item -> seen.add(item.get("id").asLong()));
+            cursor = body.get("hasNext").asBoolean() ? body.get("nextCursor").asText() : null;
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldRejectInvalidFilters() throws Exception {
+        saveUser("john");
+
+        mockMvc.perform(get("/api/jobs")
+                        .param("appliedFrom", "2026-02-10")
+                        .param("appliedTo", "2026-02-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("appliedFrom must not be after appliedTo"));
+        mockMvc.perform(get("/api/jobs").param("status", "APPLIED,HIRED"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/jobs").param("updatedSince", "yesterday"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private User saveUser(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("hashed")
+                .role(Role.USER)
+                .build());
+    }
+
+    private JobApplication saveJob(User user, String companyName, ApplicationStatus status, int dayOffset) {
+        return jobApplicationRepository.save(JobApplication.builder()
+                .companyName(companyName)
+                .position("Developer")
+                .status(status)
+                .appliedDate(LocalDate.now().minusDays(dayOffset))
+                .user(user)
+                .build());
+    }
+}
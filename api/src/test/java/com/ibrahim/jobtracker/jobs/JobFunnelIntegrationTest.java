@@ -0,0 +1,191 @@
+package com.ibrahim.jobtracker.jobs;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.ibrahim.jobtracker.dto.JobApplicationBatchUpdateRequest;
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
+import com.ibrahim.jobtracker.dto.JobFunnelResponse;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplicationStatusEvent;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.JobApplicationStatusEventRepository;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.service.JobApplicationService;
+import com.ibrahim.jobtracker.service.JobFunnelService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class JobFunnelIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private JobFunnelService funnelService;
+
+    @Autowired
+    private JobApplicationStatusEventRepository eventRepository;
+
+    @Test
+    @WithMockUser(username = "alice", roles = {"USER"})
+    void shouldCountOwnStatusTransitionsIntoTheFunnel() throws Exception {
+        User alice = saveUser("alice");
+        User bob = saveUser("bob");
+        Long hired = saveJob(alice, ApplicationStatus.APPLIED);
+        Long interviewed = saveJob(alice, ApplicationStatus.APPLIED);
+        Long rejected = saveJob(alice, ApplicationStatus.APPLIED);
+        saveJob(alice, ApplicationStatus.APPLIED);
+        Long other = saveJob(bob, ApplicationStatus.APPLIED);
+
+        jobApplicationService.update(hired, request(ApplicationStatus.INTERVIEW), null, null, true);
+        jobApplicationService.update(hired, request(ApplicationStatus.OFFER), null, null, true);
+        jobApplicationService.updateAll(List.of(
+                batchRequest(interviewed, ApplicationStatus.INTERVIEW),
+                batchRequest(rejected, ApplicationStatus.REJECTED),
+                batchRequest(other, ApplicationStatus.OFFER)
+        ), null, true);
+        // Same status: not a transition.
+        jobApplicationService.update(interviewed, request(ApplicationStatus.INTERVIEW), null, null, true);
+
+        assertThat(eventRepository.findByJobIdOrderByOccurredAtAscIdAsc(hired))
+                .extracting(JobApplicationStatusEvent::getFromStatus, JobApplicationStatusEvent::getToStatus)
+                .containsExactly(
+                        tuple(ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW),
+                        tuple(ApplicationStatus.INTERVIEW, ApplicationStatus.OFFER));
+
+        mockMvc.perform(get("/api/jobs/stats/funnel"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stages", hasSize(3)))
+                .andExpect(jsonPath("$.stages[0].status").value("APPLIED"))
+                .andExpect(jsonPath("$.stages[0].reached").value(4))
+                .andExpect(jsonPath("$.stages[0].advanced").value(2))
+                .andExpect(jsonPath("$.stages[0].conversionRate").value(0.5))
+                .andExpect(jsonPath("$.stages[1].status").value("INTERVIEW"))
+                .andExpect(jsonPath("$.stages[1].reached").value(2))
+                .andExpect(jsonPath("$.stages[1].advanced").value(1))
+                .andExpect(jsonPath("$.stages[2].status").value("OFFER"))
+                .andExpect(jsonPath("$.stages[2].reached").value(1))
+                .andExpect(jsonPath("$.stages[2].conversionRate").value(0.0))
+                .andExpect(jsonPath("$.transitions", hasSize(3)))
+                .andExpect(jsonPath("$.transitions[0].from").value("APPLIED"))
+                .andExpect(jsonPath("$.transitions[0].to").value("INTERVIEW"))
+                .andExpect(jsonPath("$.transitions[0].count").value(2))
+                .andExpect(jsonPath("$.transitions[1].to").value("REJECTED"))
+                .andExpect(jsonPath("$.transitions[2].from").value("INTERVIEW"));
+    }
+
+    @Test
+    @WithMockUser(username = "carol", roles = {"USER"})
+    void shouldCountEachJobOnceAndDropDeletedJobs() throws Exception {
+        User carol = saveUser("carol");
+        Long wavering = saveJob(carol, ApplicationStatus.APPLIED);
+        Long deleted = saveJob(carol, ApplicationStatus.APPLIED);
+        saveJob(carol, ApplicationStatus.OFFER);
+
+        jobApplicationService.update(wavering, request(ApplicationStatus.INTERVIEW), null, null, true);
+        jobApplicationService.update(wavering, request(ApplicationStatus.APPLIED), null, null, true);
+        jobApplicationService.update(wavering, request(ApplicationStatus.INTERVIEW), null, null, true);
+        jobApplicationService.update(wavering, request(ApplicationStatus.REJECTED), null, null, true);
+        jobApplicationService.update(deleted, request(ApplicationStatus.INTERVIEW), null, null, true);
+        jobApplicationService.delete(deleted, carol.getId(), false);
+
+        // Created as OFFER: reached every stage. Wavering: reached INTERVIEW once, then was rejected.
+        mockMvc.perform(get("/api/jobs/stats/funnel"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stages[0].reached").value(2))
+                .andExpect(jsonPath("$.stages[0].advanced").value(2))
+                .andExpect(jsonPath("$.stages[0].conversionRate").value(1.0))
+                .andExpect(jsonPath("$.stages[1].reached").value(2))
+                .andExpect(jsonPath("$.stages[1].advanced").value(1))
+                .andExpect(jsonPath("$.stages[1].conversionRate").value(0.5))
+                .andExpect(jsonPath("$.stages[2].reached").value(1))
+                .andExpect(jsonPath("$.stages[2].advanced").value(0))
+                .andExpect(jsonPath("$.transitions[0].from").value("APPLIED"))
+                .andExpect(jsonPath("$.transitions[0].to").value("INTERVIEW"))
+                .andExpect(jsonPath("$.transitions[0].count").value(3));
+    }
+
+    @Test
+    void adminFunnelShouldSumAllUsers() {
+        User alice = saveUser("alice");
+        User bob = saveUser("bob");
+        Long first = saveJob(alice, ApplicationStatus.APPLIED);
+        Long second = saveJob(bob, ApplicationStatus.APPLIED);
+        // Other test classes may have committed jobs, so compare against the funnel before the status changes.
+        JobFunnelResponse before = funnelService.getFunnel(null, true);
+
+        jobApplicationService.update(first, request(ApplicationStatus.INTERVIEW), null, null, true);
+        jobApplicationService.update(second, request(ApplicationStatus.INTERVIEW), null, null, true);
+        JobFunnelResponse after = funnelService.getFunnel(null, true);
+
+        assertThat(after.getStages().get(0).getReached()).isEqualTo(before.getStages().get(0).getReached());
+        assertThat(after.getStages().get(0).getAdvanced()).isEqualTo(before.getStages().get(0).getAdvanced() + 2);
+        assertThat(after.getStages().get(1).getReached()).isEqualTo(before.getStages().get(1).getReached() + 2);
+        assertThat(transitionCount(after, ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW))
+                .isEqualTo(transitionCount(before, ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW) + 2);
+    }
+
+    private static long transitionCount(JobFunnelResponse funnel, ApplicationStatus from, ApplicationStatus to) {
+        return funnel.getTransitions().stream()
+                .filter(transition -> transition.getFrom() == from && transition.getTo() == to)
+                .mapToLong(JobFunnelResponse.Transition::getCount)
+                .sum();
+    }
+
+    private User saveUser(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("hashed")
+                .role(Role.USER)
+                .build());
+    }
+
+    private Long saveJob(User user, ApplicationStatus status) {
+        return jobApplicationService.create(request(status), user.getId()).getId();
+    }
+
+    private static JobApplicationRequest request(ApplicationStatus status) {
+        JobApplicationRequest request = new JobApplicationRequest();
+        request.setCompanyName("Acme");
+        request.setPosition("Developer");
+        request.setStatus(status);
+        request.setAppliedDate(LocalDate.of(2024, 3, 4));
+        return request;
+    }
+
+    private static JobApplicationBatchUpdateRequest batchRequest(Long id, ApplicationStatus status) {
+        JobApplicationBatchUpdateRequest request = new JobApplicationBatchUpdateRequest();
+        request.setId(id);
+        request.setCompanyName("Acme");
+        request.setPosition("Developer");
+        request.setStatus(status);
+        request.setAppliedDate(LocalDate.of(2024, 3, 4));
+        return request;
+    }
+}
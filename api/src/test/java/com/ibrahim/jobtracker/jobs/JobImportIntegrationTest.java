@@ -0,0 +1,243 @@
+package com.ibrahim.jobtracker.jobs;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import com.ibrahim.jobtracker.dto.ExportFormat;
+import com.ibrahim.jobtracker.dto.JobImportResponse;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.service.JobImportService;
+import com.ibrahim.jobtracker.util.JobRecordReader;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class JobImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private JobImportService importService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldImportValidCsvRowsAndReportInvalidOnesByLine() throws Exception {
+        User john = saveUser("john", "john@example.com");
+
+        String csv = """
+                companyName,position,status,appliedDate,notes
+                Acme,Developer,APPLIED,2026-02-10,"first, with comma"
+                Globex,Engineer,INTERVIEW,2026-02-11,"spans
+                two lines"
+                ,Developer,APPLIED,2026-02-12,
+                Initech,Developer,HIRED,2026-02-12,
+                Umbrella,Developer,OFFER,not-a-date,
+                "'=Formula Co",Developer,OFFER,2026-02-13,
+                """;
+
+        mockMvc.perform(post("/api/jobs/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.rowsPerSecond").isNumber())
+                .andExpect(jsonPath("$.errorsTruncated").value(false))
+                .andExpect(jsonPath("$.errors[0].line").value(5))
+                .andExpect(jsonPath("$.errors[0].message").value("companyName: Company name is required"))
+                .andExpect(jsonPath("$.errors[1].line").value(6))
+                .andExpect(jsonPath("$.errors[1].message").value("status: invalid value 'HIRED'"))
+                .andExpect(jsonPath("$.errors[2].line").value(7));
+
+        assertThat(jobApplicationRepository.findByUserId(john.getId()))
+                .extracting("companyName")
+                .containsExactlyInAnyOrder("Acme", "Globex", "=Formula Co");
+        mockMvc.perform(get("/api/jobs/stats"))
+                .andExpect(jsonPath("$.totalApplications").value(3))
+                .andExpect(jsonPath("$.offers").value(1));
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldImportNdjson() throws Exception {
+        User john = saveUser("john", "john@example.com");
+
+        String ndjson = """
+                {"companyName": "Acme", "position": "Developer", "status": "APPLIED", "appliedDate": "2026-02-10"}
+
+                {"companyName": "Globex", "position": "Engineer", "status": "UNKNOWN", "appliedDate": "2026-02-11"}
+                {not json
+                {"companyName": "Initech", "position": "Engineer", "status": "OFFER", "appliedDate": "2026-02-11", "id": 7}
+                """;
+
+        mockMvc.perform(post("/api/jobs/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].message").value("status: invalid value"))
+                .andExpect(jsonPath("$.errors[1].line").value(4))
+                .andExpect(jsonPath("$.errors[1].message").value("Malformed JSON"));
+
+        assertThat(jobApplicationRepository.findByUserId(john.getId())).hasSize(2);
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldReportOverlongLinesAndUnterminatedQuotesWithoutDroppingOtherRows() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        String longNotes = "x".repeat(JobRecordReader.MAX_LINE_LENGTH);
+
+        String csv = "companyName,position,status,appliedDate,notes\n"
+                + "Acme,Developer,APPLIED,2026-02-10,\n"
+                + "Globex,Engineer,APPLIED,2026-02-11," + longNotes + "\n"
+                + "Initech,Engineer,OFFER,2026-02-12,\n"
+                + "Umbrella,Engineer,OFFER,2026-02-13,\"never closed\n";
+
+        mockMvc.perform(post("/api/jobs/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].message").value("Line 3 exceeds 65536 characters"))
+                .andExpect(jsonPath("$.errors[1].line").value(5))
+                .andExpect(jsonPath("$.errors[1].message").value("Line 5 has an unterminated quoted field"));
+
+        String ndjson = "{\"companyName\": \"" + longNotes + "\"}\n"
+                + "{\"companyName\": \"Hooli\", \"position\": \"Engineer\", \"status\": \"APPLIED\", \"appliedDate\": \"2026-02-14\"}\n";
+
+        mockMvc.perform(post("/api/jobs/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(1))
+                .andExpect(jsonPath("$.errors[0].message").value("Line 1 exceeds 65536 characters"));
+
+        assertThat(jobApplicationRepository.findByUserId(john.getId()))
+                .extracting("companyName")
+                .containsExactlyInAnyOrder("Acme", "Initech", "Hooli");
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldRejectCsvWithoutRequiredColumnsAndUnsupportedContentType() throws Exception {
+        saveUser("john", "john@example.com");
+
+        mockMvc.perform(post("/api/jobs/import")
+                        .contentType("text/csv")
+                        .content("companyName,position\nAcme,Developer\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("CSV header must include: companyName, position, status, appliedDate"));
+        mockMvc.perform(post("/api/jobs/import")
+                        .contentType("application/xml")
+                        .content("<jobs/>"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void adminCopyImportShouldResolveOwnersByUsernameAndFallBackToJdbcBatchOnH2() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        User mary = saveUser("mary", "mary@example.com");
+
+        String csv = """
+                username,companyName,position,status,appliedDate
+                john,Acme,Developer,APPLIED,2026-02-10
+                mary,Globex,Engineer,OFFER,2026-02-11
+                ghost,Initech,Engineer,OFFER,2026-02-11
+                ,Umbrella,Engineer,OFFER,2026-02-11
+                mary,Hooli,Engineer,OFFER,2026-02-12
+                """;
+
+        mockMvc.perform(post("/api/jobs/import")
+                        .param("mode", "copy")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(5))
+                .andExpect(jsonPath("$.errors[0].message").value("username: Username is required"))
+                .andExpect(jsonPath("$.errors[1].line").value(4))
+                .andExpect(jsonPath("$.errors[1].message").value("username: unknown user 'ghost'"));
+
+        assertThat(jobApplicationRepository.findByUserId(john.getId())).hasSize(1);
+        assertThat(jobApplicationRepository.findByUserId(mary.getId())).hasSize(2);
+        mockMvc.perform(get("/api/jobs/stats"))
+                .andExpect(jsonPath("$.totalApplications").value(3))
+                .andExpect(jsonPath("$.offers").value(2));
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void copyImportShouldBeAdminOnly() throws Exception {
+        saveUser("john", "john@example.com");
+
+        mockMvc.perform(post("/api/jobs/import")
+                        .param("mode", "copy")
+                        .contentType("text/csv")
+                        .content("username,companyName,position,status,appliedDate\n"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldClearPersistenceContextBetweenChunks() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        StringBuilder csv = new StringBuilder("companyName,position,status,appliedDate\n");
+        for (int i = 0; i < 1_200; i++) {
+            csv.append("Company-").append(i).append(",Developer,APPLIED,").append(LocalDate.now().minusDays(i % 30)).append('\n');
+        }
+
+        JobImportResponse response = importService.importJobs(john.getId(), ExportFormat.CSV,
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(response.getImported()).isEqualTo(1_200);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isLessThanOrEqualTo(500);
+        assertThat(jobApplicationRepository.countByStatusForUser(john.getId())).hasSize(1);
+    }
+
+    private User saveUser(String username, String email) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(email)
+                .password("hashed")
+                .role(Role.USER)
+                .build());
+    }
+}
@@ -0,0 +1,143 @@
+package com.ibrahim.jobtracker.jobs;
+
+import java.time.LocalDate;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class JobListingTotalsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldOmitTotalsWhenNotRequested() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        saveJob(john, ApplicationStatus.APPLIED, 1);
+        saveJob(john, ApplicationStatus.APPLIED, 2);
+        saveJob(john, ApplicationStatus.INTERVIEW, 3);
+
+        mockMvc.perform(get("/api/jobs")
+                        .param("size", "2")
+                        .param("withTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.numberOfElements").value(2))
+                .andExpect(jsonPath("$.first").value(true))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
+
+        mockMvc.perform(get("/api/jobs")
+                        .param("page", "1")
+                        .param("size", "2")
+                        .param("withTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.numberOfElements").value(1))
+                .andExpect(jsonPath("$.last").value(true));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void shouldFallBackToExactTotalWhenNoEstimateIsAvailable() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        saveJob(john, ApplicationStatus.APPLIED, 1);
+        saveJob(john, ApplicationStatus.OFFER, 2);
+
+        mockMvc.perform(get("/api/jobs")
+                        .param("withTotal", "approximate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.totalPages").value(1))
+                .andExpect(jsonPath("$.totalApproximate").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldRejectUnknownTotalMode() throws Exception {
+        saveUser("john", "john@example.com");
+
+        mockMvc.perform(get("/api/jobs")
+                        .param("withTotal", "sometimes"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("withTotal must be one of: true, false, approximate"));
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldOmitNotesFromSummaryListings() throws Exception {
+        User john = saveUser("john", "john@example.com");
+        saveJob(john, ApplicationStatus.APPLIED, 1);
+
+        mockMvc.perform(get("/api/jobs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].notes").value("notes"))
+                .andExpect(jsonPath("$.content[0].userId").value(john.getId()));
+
+        mockMvc.perform(get("/api/jobs")
+                        .param("fields", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].companyName").value("Company-1"))
+                .andExpect(jsonPath("$.content[0].userId").value(john.getId()))
+                .andExpect(jsonPath("$.content[0].notes").doesNotExist());
+
+        mockMvc.perform(get("/api/jobs")
+                        .param("pagination", "cursor")
+                        .param("fields", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].notes").doesNotExist());
+
+        mockMvc.perform(get("/api/jobs")
+                        .param("fields", "everything"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("fields must be one of: all, summary"));
+    }
+
+    private User saveUser(String username, String email) {
+        User user = User.builder()
+                .username(username)
+                .email(email)
+                .password("hashed")
+                .role(Role.USER)
+                .build();
+        return userRepository.save(user);
+    }
+
+    private JobApplication saveJob(User user, ApplicationStatus status, int dayOffset) {
+        JobApplication application = JobApplication.builder()
+                .companyName("Company-" + dayOffset)
+                .position("Developer")
+                .status(status)
+                .appliedDate(LocalDate.now().minusDays(dayOffset))
+                .notes("notes")
+                .user(user)
+                .build();
+        return jobApplicationRepository.save(application);
+    }
+}
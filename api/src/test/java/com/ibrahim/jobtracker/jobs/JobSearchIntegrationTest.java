@@ -0,0 +1,157 @@
+package com.ibrahim.jobtracker.jobs;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs against H2, which uses the substring fallback; ranking on PostgreSQL is covered by
+ * {@code JobApplicationSearchTest}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class JobSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldRankCompanyMatchesAboveNotesMatchesAndOnlySearchOwnJobs() throws Exception {
+        User john = saveUser("john");
+        User mary = saveUser("mary");
+        Long inNotes = saveJob(john, "Initech", "Developer", "Referred by someone at Acme").getId();
+        Long inCompany = saveJob(john, "Acme Corp", "Developer", null).getId();
+        saveJob(john, "Globex", "Developer", null);
+        saveJob(mary, "Acme Corp", "Developer", null);
+
+        mockMvc.perform(get("/api/jobs/search").param("q", "acme"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.numberOfElements").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(inCompany))
+                .andExpect(jsonPath("$.content[1].id").value(inNotes))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldRequireEveryTermAndWalkResultsByCursor() throws Exception {
+        User john = saveUser("john");
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(0, saveJob(john, "Company " + i, "Backend Engineer", null).getId());
+        }
+        saveJob(john, "Company 9", "Frontend Engineer", null);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/jobs/search")
+                    .param("q", "backend, ENGINEER")
+                    .param("size", "2")
+                    .param("fields", "summary");
+            if (cursor != null) {
+                request.param("after", cursor);
+            }
+
+            JsonNode body = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].notes").doesNotExist())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString());
+            body.get("content").forEach(item -> seen.add(item.get("id").asLong()));
+            cursor = body.get("hasNext").asBoolean() ? body.get("nextCursor").asText() : null;
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldSuggestOwnCompaniesByPrefix() throws Exception {
+        User john = saveUser("john");
+        User mary = saveUser("mary");
+        saveJob(john, "Acme Corp", "Developer", null);
+        saveJob(john, "Acme Corp", "Tester", null);
+        saveJob(john, "Acorn Labs", "Developer", null);
+        saveJob(john, "Globex", "Developer", null);
+        saveJob(mary, "Acme Holdings", "Developer", null);
+
+        mockMvc.perform(get("/api/jobs/search/companies").param("q", "ac"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0]").value("Acme Corp"))
+                .andExpect(jsonPath("$[1]").value("Acorn Labs"));
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldRejectQueriesWithoutSearchableTerms() throws Exception {
+        saveUser("john");
+
+        mockMvc.perform(get("/api/jobs/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/jobs/search").param("q", "%&!"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("q must contain at least one letter or digit"));
+        mockMvc.perform(get("/api/jobs/search").param("q", "acme").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+    }
+
+    private User saveUser(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("hashed")
+                .role(Role.USER)
+                .build());
+    }
+
+    // Flushed because search reads through JDBC rather than the persistence context.
+    private JobApplication saveJob(User user, String companyName, String position, String notes) {
+        return jobApplicationRepository.saveAndFlush(JobApplication.builder()
+                .companyName(companyName)
+                .position(position)
+                .status(ApplicationStatus.APPLIED)
+                .appliedDate(LocalDate.now())
+                .notes(notes)
+                .user(user)
+                .build());
+    }
+}
@@ -2,22 +2,28 @@ package com.ibrahim.jobtracker.jobs;
 
 import java.time.LocalDate;
 
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
 import com.ibrahim.jobtracker.entity.ApplicationStatus;
 import com.ibrahim.jobtracker.entity.JobApplication;
 import com.ibrahim.jobtracker.entity.Role;
 import com.ibrahim.jobtracker.entity.User;
 import com.ibrahim.jobtracker.repository.JobApplicationRepository;
 import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.service.JobApplicationService;
+import com.ibrahim.jobtracker.service.impl.JobApplicationStatsReconciler;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,6 +42,12 @@ class JobStatsIntegrationTest {
     @Autowired
     private JobApplicationRepository jobApplicationRepository;
 
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private JobApplicationStatsReconciler statsReconciler;
+
     @Test
     @WithMockUser(username = "alice", roles = {"USER"})
     void shouldReturnStatsForCurrentUserOnly() throws Exception {
@@ -77,6 +89,59 @@ class JobStatsIntegrationTest {
                 .andExpect(jsonPath("$.rejected").value(1));
     }
 
+    @Test
+    @WithMockUser(username = "alice", roles = {"USER"})
+    void shouldKeepCountersInSyncWhenJobsChangeStatusOrAreDeleted() throws Exception {
+        User alice = saveUser("alice", "alice@example.com", Role.USER);
+        Long interview = saveJob(alice, ApplicationStatus.INTERVIEW, 1);
+        Long applied = saveJob(alice, ApplicationStatus.APPLIED, 2);
+
+        mockMvc.perform(put("/api/jobs/{id}", interview)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "companyName": "Company-1",
+                                  "position": "Position-1",
+                                  "status": "OFFER",
+                                  "appliedDate": "%s"
+                                }
+                                """.formatted(LocalDate.now().minusDays(1))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/jobs/{id}", applied))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/jobs/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalApplications").value(1))
+                .andExpect(jsonPath("$.interviews").value(0))
+                .andExpect(jsonPath("$.offers").value(1));
+    }
+
+    @Test
+    @WithMockUser(username = "alice", roles = {"USER"})
+    void reconciliationShouldRepairCountersForJobsWrittenOutsideTheService() throws Exception {
+        User alice = saveUser("alice", "alice@example.com", Role.USER);
+        saveJob(alice, ApplicationStatus.APPLIED, 1);
+        jobApplicationRepository.saveAndFlush(JobApplication.builder()
+                .companyName("Imported")
+                .position("Developer")
+                .status(ApplicationStatus.REJECTED)
+                .appliedDate(LocalDate.now())
+                .user(alice)
+                .build());
+
+        mockMvc.perform(get("/api/jobs/stats"))
+                .andExpect(jsonPath("$.totalApplications").value(1))
+                .andExpect(jsonPath("$.rejected").value(0));
+
+        statsReconciler.reconcile();
+
+        mockMvc.perform(get("/api/jobs/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalApplications").value(2))
+                .andExpect(jsonPath("$.rejected").value(1));
+    }
+
     private User saveUser(String username, String email, Role role) {
         User user = User.builder()
                 .username(username)
@@ -87,15 +152,13 @@ class JobStatsIntegrationTest {
         return userRepository.save(user);
     }
 
-    private void saveJob(User user, ApplicationStatus status, int dayOffset) {
-        JobApplication application = JobApplication.builder()
-                .companyName("Company-" + dayOffset)
-                .position("Position-" + dayOffset)
-                .status(status)
-                .appliedDate(LocalDate.now().minusDays(dayOffset))
-                .notes("Notes-" + dayOffset)
-                .user(user)
-                .build();
-        jobApplicationRepository.save(application);
+    private Long saveJob(User user, ApplicationStatus status, int dayOffset) {
+        JobApplicationRequest request = new JobApplicationRequest();
+        request.setCompanyName("Company-" + dayOffset);
+        request.setPosition("Position-" + dayOffset);
+        request.setStatus(status);
+        request.setAppliedDate(LocalDate.now().minusDays(dayOffset));
+        request.setNotes("Notes-" + dayOffset);
+        return jobApplicationService.create(request, user.getId()).getId();
     }
 }
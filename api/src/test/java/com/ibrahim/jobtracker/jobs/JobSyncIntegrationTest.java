@@ -0,0 +1,165 @@
+package com.ibrahim.jobtracker.jobs;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.util.JobSyncToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Without a commit lag the watermark follows the last change exactly, which this test relies on.
+@SpringBootTest(properties = "app.sync.commit-lag=0s")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class JobSyncIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldReturnOnlyUpdatesAndDeletesSinceTheToken() throws Exception {
+        User john = saveUser("john");
+        User mary = saveUser("mary");
+        Long kept = saveJob(john, "Acme").getId();
+        Long updated = saveJob(john, "Globex").getId();
+        Long deleted = saveJob(john, "Initech").getId();
+        Long othersDeleted = saveJob(mary, "Hooli").getId();
+
+        JsonNode full = sync(null, 100);
+        assertThat(ids(full.get("changed"))).containsExactly(kept, updated, deleted);
+        assertThat(full.get("deleted")).isEmpty();
+        assertThat(full.get("hasMore").asBoolean()).isFalse();
+
+        mockMvc.perform(put("/api/jobs/{id}", updated)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"companyName":"Globex","position":"Developer","status":"INTERVIEW","appliedDate":"%s"}
+                                """.formatted(LocalDate.now())))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/jobs/{id}", deleted))
+                .andExpect(status().isNoContent());
+        jobApplicationRepository.deleteById(othersDeleted);
+
+        JsonNode incremental = sync(full.get("nextToken").asText(), 100);
+        assertThat(ids(incremental.get("changed"))).containsExactly(updated);
+        assertThat(incremental.get("changed").get(0).get("status").asText()).isEqualTo("INTERVIEW");
+        assertThat(ids(incremental.get("deleted"))).containsExactly(deleted);
+
+        JsonNode quiet = sync(incremental.get("nextToken").asText(), 100);
+        assertThat(quiet.get("changed")).isEmpty();
+        assertThat(quiet.get("deleted")).isEmpty();
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldPageThroughChangesInOrder() throws Exception {
+        User john = saveUser("john");
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(saveJob(john, "Company " + i).getId());
+        }
+
+        List<Long> seen = new ArrayList<>();
+        String token = null;
+        int pages = 0;
+        JsonNode page;
+        do {
+            page = sync(token, 2);
+            seen.addAll(ids(page.get("changed")));
+            token = page.get("nextToken").asText();
+            pages++;
+        } while (page.get("hasMore").asBoolean());
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = {"USER"})
+    void shouldRejectInvalidAndExpiredTokens() throws Exception {
+        saveUser("john");
+        String expired = new JobSyncToken(Instant.now().minus(Duration.ofDays(91)), 1L).encode();
+
+        mockMvc.perform(get("/api/jobs/changes").param("since", "not-a-token"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid sync token"));
+        mockMvc.perform(get("/api/jobs/changes").param("since", expired))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.message").value("Sync token has expired, sync again without since"));
+    }
+
+    private JsonNode sync(String token, int limit) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/jobs/changes").param("limit", String.valueOf(limit));
+        if (token != null) {
+            request.param("since", token);
+        }
+        return objectMapper.readTree(mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextToken").isNotEmpty())
+                .andReturn()
+                .getResponse()
+                .getContentAsString());
+    }
+
+    private static List<Long> ids(JsonNode items) {
+        List<Long> ids = new ArrayList<>();
+        items.forEach(item -> ids.add(item.isObject() ? item.get("id").asLong() : item.asLong()));
+        return ids;
+    }
+
+    private User saveUser(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("hashed")
+                .role(Role.USER)
+                .build());
+    }
+
+    private JobApplication saveJob(User user, String companyName) {
+        return jobApplicationRepository.save(JobApplication.builder()
+                .companyName(companyName)
+                .position("Developer")
+                .status(ApplicationStatus.APPLIED)
+                .appliedDate(LocalDate.now())
+                .user(user)
+                .build());
+    }
+}
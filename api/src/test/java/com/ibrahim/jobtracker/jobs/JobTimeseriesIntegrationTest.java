@@ -0,0 +1,183 @@
+package com.ibrahim.jobtracker.jobs;
+
+import java.time.LocalDate;
+
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.service.JobApplicationService;
+import com.ibrahim.jobtracker.service.impl.JobTimeseriesServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class JobTimeseriesIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private JobTimeseriesServiceImpl timeseriesService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @WithMockUser(username = "alice", roles = {"USER"})
+    void shouldCountOwnJobsPerWeekIncludingEmptyWeeks() throws Exception {
+        User alice = saveUser("alice");
+        User bob = saveUser("bob");
+        saveJob(alice, ApplicationStatus.APPLIED, "2024-03-04");
+        saveJob(alice, ApplicationStatus.INTERVIEW, "2024-03-10");
+        saveJob(alice, ApplicationStatus.OFFER, "2024-03-11");
+        saveJob(bob, ApplicationStatus.APPLIED, "2024-03-05");
+
+        mockMvc.perform(get("/api/jobs/stats/timeseries")
+                        .param("bucket", "week")
+                        .param("from", "2024-03-01")
+                        .param("to", "2024-03-20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bucket").value("WEEK"))
+                .andExpect(jsonPath("$.buckets", hasSize(4)))
+                .andExpect(jsonPath("$.buckets[0].start").value("2024-02-26"))
+                .andExpect(jsonPath("$.buckets[0].total").value(0))
+                .andExpect(jsonPath("$.buckets[1].start").value("2024-03-04"))
+                .andExpect(jsonPath("$.buckets[1].total").value(2))
+                .andExpect(jsonPath("$.buckets[1].counts.APPLIED").value(1))
+                .andExpect(jsonPath("$.buckets[1].counts.INTERVIEW").value(1))
+                .andExpect(jsonPath("$.buckets[1].counts.OFFER").value(0))
+                .andExpect(jsonPath("$.buckets[2].start").value("2024-03-11"))
+                .andExpect(jsonPath("$.buckets[2].counts.OFFER").value(1))
+                .andExpect(jsonPath("$.buckets[3].total").value(0));
+
+        mockMvc.perform(get("/api/jobs/stats/timeseries")
+                        .param("bucket", "month")
+                        .param("from", "2024-01-15")
+                        .param("to", "2024-03-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buckets", hasSize(3)))
+                .andExpect(jsonPath("$.buckets[2].start").value("2024-03-01"))
+                .andExpect(jsonPath("$.buckets[2].total").value(3));
+    }
+
+    @Test
+    @WithMockUser(username = "alice", roles = {"USER"})
+    void shouldDefaultToTheLastTwelveBuckets() throws Exception {
+        saveUser("alice");
+        LocalDate today = LocalDate.now();
+
+        mockMvc.perform(get("/api/jobs/stats/timeseries").param("bucket", "month"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.to").value(today.toString()))
+                .andExpect(jsonPath("$.buckets", hasSize(12)))
+                .andExpect(jsonPath("$.buckets[11].start").value(today.withDayOfMonth(1).toString()));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void adminSeriesShouldFollowWritesOnceTheRollupIsRefreshed() throws Exception {
+        User alice = saveUser("alice");
+        User bob = saveUser("bob");
+        Long moved = saveJob(alice, ApplicationStatus.APPLIED, "2024-03-04");
+        Long deleted = saveJob(bob, ApplicationStatus.REJECTED, "2024-03-05");
+        saveJob(bob, ApplicationStatus.APPLIED, "2024-04-01");
+        refreshRollup();
+
+        mockMvc.perform(get("/api/jobs/stats/timeseries")
+                        .param("bucket", "month")
+                        .param("from", "2024-03-01")
+                        .param("to", "2024-04-30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buckets[0].total").value(2))
+                .andExpect(jsonPath("$.buckets[0].counts.REJECTED").value(1))
+                .andExpect(jsonPath("$.buckets[1].total").value(1));
+
+        JobApplicationRequest update = request(ApplicationStatus.INTERVIEW, "2024-04-02");
+        jobApplicationService.update(moved, update, null, null, true);
+        jobApplicationService.delete(deleted, null, true);
+        refreshRollup();
+
+        mockMvc.perform(get("/api/jobs/stats/timeseries")
+                        .param("bucket", "month")
+                        .param("from", "2024-03-01")
+                        .param("to", "2024-04-30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buckets[0].total").value(0))
+                .andExpect(jsonPath("$.buckets[1].total").value(2))
+                .andExpect(jsonPath("$.buckets[1].counts.APPLIED").value(1))
+                .andExpect(jsonPath("$.buckets[1].counts.INTERVIEW").value(1));
+    }
+
+    @Test
+    @WithMockUser(username = "alice", roles = {"USER"})
+    void shouldRejectInvalidRanges() throws Exception {
+        saveUser("alice");
+
+        mockMvc.perform(get("/api/jobs/stats/timeseries").param("bucket", "day"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("bucket must be one of: week, month"));
+        mockMvc.perform(get("/api/jobs/stats/timeseries")
+                        .param("from", "2024-03-02")
+                        .param("to", "2024-03-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("from must not be after to"));
+        mockMvc.perform(get("/api/jobs/stats/timeseries")
+                        .param("bucket", "week")
+                        .param("from", "2015-01-01")
+                        .param("to", "2024-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void refreshRollup() {
+        entityManager.flush();
+        timeseriesService.refreshRollup();
+    }
+
+    private User saveUser(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("hashed")
+                .role(Role.USER)
+                .build());
+    }
+
+    private Long saveJob(User user, ApplicationStatus status, String appliedDate) {
+        Long id = jobApplicationService.create(request(status, appliedDate), user.getId()).getId();
+        // Series are read with plain JDBC, which does not flush pending writes of the surrounding test transaction.
+        entityManager.flush();
+        return id;
+    }
+
+    private static JobApplicationRequest request(ApplicationStatus status, String appliedDate) {
+        JobApplicationRequest request = new JobApplicationRequest();
+        request.setCompanyName("Acme");
+        request.setPosition("Developer");
+        request.setStatus(status);
+        request.setAppliedDate(LocalDate.parse(appliedDate));
+        return request;
+    }
+}
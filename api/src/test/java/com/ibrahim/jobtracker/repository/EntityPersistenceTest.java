@@ -7,14 +7,17 @@ import com.ibrahim.jobtracker.entity.ApplicationStatus;
 import com.ibrahim.jobtracker.entity.JobApplication;
 import com.ibrahim.jobtracker.entity.Role;
 import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.security.TokenRevocationRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -30,6 +33,9 @@ class EntityPersistenceTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @MockBean
+    private TokenRevocationRegistry revocationRegistry;
+
     @Test
     void shouldSaveUserAndJobApplicationUsingCascade() {
         User user = User.builder()
@@ -64,6 +70,48 @@ class EntityPersistenceTest {
         assertThat(applicationsByUser.get(0).getPosition()).isEqualTo("Backend Engineer");
     }
 
+    @Test
+    void shouldBumpTokenVersionWhenCredentialsChange() {
+        User user = userRepository.saveAndFlush(User.builder()
+                .username("versioned")
+                .email("versioned@example.com")
+                .password("hashed-password")
+                .role(Role.USER)
+                .build());
+        assertThat(user.getTokenVersion()).isZero();
+
+        user.setEmail("versioned-updated@example.com");
+        userRepository.saveAndFlush(user);
+        assertThat(user.getTokenVersion()).isZero();
+
+        user.setPassword("rehashed-password");
+        userRepository.saveAndFlush(user);
+        user.setRole(Role.ADMIN);
+        userRepository.saveAndFlush(user);
+
+        Integer storedVersion = jdbcTemplate.queryForObject(
+                "SELECT token_version FROM users WHERE id = ?",
+                Integer.class,
+                user.getId()
+        );
+        assertThat(storedVersion).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotifyUserChangeListenerRegisteredInOrmXml() {
+        User user = userRepository.saveAndFlush(User.builder()
+                .username("listened")
+                .email("listened@example.com")
+                .password("hashed-password")
+                .role(Role.USER)
+                .build());
+
+        user.setPassword("rehashed-password");
+        userRepository.saveAndFlush(user);
+
+        verify(revocationRegistry).record(user.getId(), 1);
+    }
+
     @Test
     void shouldGenerateExpectedTablesAndColumns() {
         assertThat(tableExists("users")).isTrue();
@@ -74,7 +122,7 @@ class EntityPersistenceTest {
                 String.class
         );
         assertThat(userColumns).contains(
-                "ID", "USERNAME", "EMAIL", "PASSWORD", "ROLE", "CREATED_AT", "UPDATED_AT"
+                "ID", "USERNAME", "EMAIL", "PASSWORD", "ROLE", "TOKEN_VERSION", "CREATED_AT", "UPDATED_AT"
         );
 
         List<String> jobApplicationColumns = jdbcTemplate.queryForList(
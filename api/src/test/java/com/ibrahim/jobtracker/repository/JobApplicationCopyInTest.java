@@ -0,0 +1,193 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exercises {@code COPY ... FROM STDIN}, the per-status row estimate and the open write transaction lookup that sync
+ * watermarks rely on against a migrated PostgreSQL schema.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JobApplicationCopyInTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeAll
+    static void startPostgres() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .load()
+                .migrate();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws Exception {
+        postgres.close();
+    }
+
+    @Test
+    void shouldCopyRowsWithReservedIdsThatDoNotCollideWithJpaInserts() {
+        User owner = saveUser("john");
+        List<JobApplication> jobs = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            jobs.add(job(owner, "Company " + i, i == 0 ? "quoted \"notes\", with comma\nand newline" : null));
+        }
+        jobs.add(job(owner, "Empty notes", ""));
+
+        long copied = jobApplicationRepository.copyIn(jobs.size(), jobs.iterator());
+        JobApplication saved = jobApplicationRepository.saveAndFlush(job(owner, "Saved through JPA", null));
+        entityManager.clear();
+
+        assertThat(copied).isEqualTo(121);
+        assertThat(jobs).extracting(JobApplication::getId).doesNotHaveDuplicates().doesNotContain(saved.getId());
+        assertThat(jobApplicationRepository.findByUserId(owner.getId())).hasSize(122);
+        assertThat(jobApplicationRepository.findById(jobs.get(0).getId()).orElseThrow().getNotes())
+                .isEqualTo("quoted \"notes\", with comma\nand newline");
+        assertThat(jobApplicationRepository.findById(jobs.get(1).getId()).orElseThrow().getNotes()).isNull();
+        assertThat(jobApplicationRepository.findById(jobs.get(120).getId()).orElseThrow().getNotes()).isEmpty();
+        JobApplication first = jobApplicationRepository.findById(jobs.get(0).getId()).orElseThrow();
+        assertThat(first.getCreatedAt()).isNotNull();
+        assertThat(first.getUpdatedAt()).isEqualTo(jobs.get(0).getUpdatedAt());
+    }
+
+    @Test
+    void shouldStartAtOneOnAnUnusedSequence() {
+        // As on a new database, where V6 only changed the increment of a sequence nothing has drawn from yet.
+        entityManager.createNativeQuery("ALTER SEQUENCE job_applications_id_seq RESTART").executeUpdate();
+        User owner = saveUser("kate");
+        List<JobApplication> jobs = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            jobs.add(job(owner, "Company " + i, null));
+        }
+
+        jobApplicationRepository.copyIn(jobs.size(), jobs.iterator());
+
+        assertThat(jobs).extracting(JobApplication::getId)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 60).boxed().toList());
+        assertThat(jobApplicationRepository.findByUserId(owner.getId())).hasSize(60);
+    }
+
+    @Test
+    void shouldEstimateStatusesOutsideTheMostCommonValues() {
+        User owner = saveUser("lena");
+        List<JobApplication> jobs = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            JobApplication job = job(owner, "Company " + i, null);
+            job.setStatus(i < 90 ? ApplicationStatus.APPLIED : i < 110 ? ApplicationStatus.INTERVIEW
+                    : ApplicationStatus.OFFER);
+            jobs.add(job);
+        }
+        jobApplicationRepository.copyIn(jobs.size(), jobs.iterator());
+        // Keeps only APPLIED in the most common values.
+        entityManager.createNativeQuery("ALTER TABLE job_applications ALTER COLUMN status SET STATISTICS 1")
+                .executeUpdate();
+        entityManager.createNativeQuery("ANALYZE job_applications").executeUpdate();
+
+        assertThat(jobApplicationRepository.estimateCount(ApplicationStatus.APPLIED)).hasValue(90);
+        // The 30 other rows shared evenly by the two other statuses in the statistics.
+        assertThat(jobApplicationRepository.estimateCount(ApplicationStatus.INTERVIEW)).hasValue(15);
+        assertThat(jobApplicationRepository.estimateCount(ApplicationStatus.OFFER)).hasValue(15);
+    }
+
+    @Test
+    void shouldRejectSourceLongerThanReservedRows() {
+        User owner = saveUser("mary");
+        List<JobApplication> jobs = List.of(job(owner, "One", null), job(owner, "Two", null));
+
+        assertThatThrownBy(() -> jobApplicationRepository.copyIn(1, jobs.iterator()))
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("more than 1 rows");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldReportTheStartOfTheOldestOpenWriteTransaction() throws Exception {
+        assertThat(jobApplicationRepository.findOldestOpenWriteStart()).isEmpty();
+
+        try (Connection writer = postgres.getPostgresDatabase().getConnection();
+             Statement statement = writer.createStatement()) {
+            writer.setAutoCommit(false);
+            // Reading without writing does not count.
+            statement.execute("SELECT count(*) FROM job_applications");
+            assertThat(jobApplicationRepository.findOldestOpenWriteStart()).isEmpty();
+
+            Instant beforeWrite = Instant.now();
+            statement.execute("SELECT txid_current()");
+            assertThat(jobApplicationRepository.findOldestOpenWriteStart())
+                    .hasValueSatisfying(start -> assertThat(start).isBefore(beforeWrite.plusSeconds(1)));
+            writer.rollback();
+        }
+        assertThat(jobApplicationRepository.findOldestOpenWriteStart()).isEmpty();
+    }
+
+    private User saveUser(String username) {
+        return userRepository.saveAndFlush(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("hashed")
+                .role(Role.USER)
+                .build());
+    }
+
+    private JobApplication job(User owner, String companyName, String notes) {
+        return JobApplication.builder()
+                .companyName(companyName)
+                .position("Developer")
+                .status(ApplicationStatus.APPLIED)
+                .appliedDate(LocalDate.now())
+                .notes(notes)
+                .user(owner)
+                .build();
+    }
+
+    @TestConfiguration
+    static class PostgresDataSourceConfig {
+
+        @Bean
+        DataSource dataSource() {
+            return postgres.getPostgresDatabase();
+        }
+    }
+}
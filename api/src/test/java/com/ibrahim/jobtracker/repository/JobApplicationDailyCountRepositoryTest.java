@@ -0,0 +1,127 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.ibrahim.jobtracker.dto.TimeBucket;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exercises the incremental refresh of the daily rollup against a migrated PostgreSQL schema.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JobApplicationDailyCountRepositoryTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2024, 3, 4);
+    private static final LocalDate NEXT_WEEK = LocalDate.of(2024, 3, 12);
+    private static final LocalDate LATER = LocalDate.of(2024, 3, 20);
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private JobApplicationDailyCountRepository dailyCountRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeAll
+    static void startPostgres() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .load()
+                .migrate();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws Exception {
+        postgres.close();
+    }
+
+    @Test
+    void shouldRecountOnlyQueuedDays() {
+        User owner = saveUser("john");
+        JobApplication first = saveJob(owner, ApplicationStatus.APPLIED, MONDAY);
+        JobApplication second = saveJob(owner, ApplicationStatus.APPLIED, MONDAY);
+        saveJob(owner, ApplicationStatus.OFFER, NEXT_WEEK);
+        queue(MONDAY, NEXT_WEEK, MONDAY);
+
+        assertThat(dailyCountRepository.refreshDirtyDays(2)).isEqualTo(2);
+        assertThat(dailyCountRepository.refreshDirtyDays(10)).isEqualTo(1);
+        assertThat(dailyCountRepository.refreshDirtyDays(10)).isZero();
+        assertThat(weeklyCounts()).containsExactly(
+                new BucketCount(MONDAY, ApplicationStatus.APPLIED, 2),
+                new BucketCount(MONDAY.plusWeeks(1), ApplicationStatus.OFFER, 1));
+
+        first.setStatus(ApplicationStatus.REJECTED);
+        second.setStatus(ApplicationStatus.REJECTED);
+        jobApplicationRepository.saveAllAndFlush(List.of(first, second));
+        saveJob(owner, ApplicationStatus.INTERVIEW, LATER);
+        queue(MONDAY);
+
+        assertThat(dailyCountRepository.refreshDirtyDays(10)).isEqualTo(1);
+        assertThat(weeklyCounts()).containsExactly(
+                new BucketCount(MONDAY, ApplicationStatus.REJECTED, 2),
+                new BucketCount(MONDAY.plusWeeks(1), ApplicationStatus.OFFER, 1));
+    }
+
+    private List<BucketCount> weeklyCounts() {
+        return dailyCountRepository.countByBucket(TimeBucket.WEEK, MONDAY, LATER);
+    }
+
+    private void queue(LocalDate... appliedDates) {
+        dailyCountRepository.markDirty(List.of(appliedDates));
+    }
+
+    private User saveUser(String username) {
+        return userRepository.saveAndFlush(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("hashed")
+                .role(Role.USER)
+                .build());
+    }
+
+    private JobApplication saveJob(User owner, ApplicationStatus status, LocalDate appliedDate) {
+        return jobApplicationRepository.saveAndFlush(JobApplication.builder()
+                .companyName("Acme")
+                .position("Developer")
+                .status(status)
+                .appliedDate(appliedDate)
+                .user(owner)
+                .build());
+    }
+
+    @TestConfiguration
+    static class PostgresDataSourceConfig {
+
+        @Bean
+        DataSource dataSource() {
+            return postgres.getPostgresDatabase();
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibrahim.jobtracker.dto.JobFilter;
+import com.ibrahim.jobtracker.dto.TimeBucket;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs each listing query against PostgreSQL with a seeded, analyzed table and checks the planner picks an index
+ * that resolves the status predicate. Admin listings must also take their order from the index instead of sorting.
+ * {@code findByStatus}, {@code countByStatus} and unfiltered admin page counts read a large share of the table, where a sequential scan is
+ * the right plan, so they are not covered here.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JobApplicationIndexUsageTest {
+
+    private static final long USER_ID = 42L;
+    private static final int USERS = 2_000;
+    private static final int JOBS = 50_000;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "appliedDate", "id");
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "appliedDate"));
+    private static final PageRequest DEEP_PAGE = PageRequest.of(3, 10, Sort.by(Sort.Direction.ASC, "appliedDate"));
+    private static final ScrollPosition NEXT_WINDOW = ScrollPosition.forward(Map.of(
+            "appliedDate", LocalDate.now().minusDays(100),
+            "id", 25_000L
+    ));
+
+    private static final Class<JobApplicationListItem.Full> ROW = JobApplicationListItem.Full.class;
+    private static final Class<JobApplicationListItem.Summary> SUMMARY = JobApplicationListItem.Summary.class;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final List<CapturedQuery> CAPTURED = new CopyOnWriteArrayList<>();
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private JobApplicationRepository repository;
+
+    @BeforeAll
+    static void startPostgres() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .load()
+                .migrate();
+
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO users (id, username, email, password, role)
+                    SELECT g, 'user' || g, 'user' || g || '@example.com', 'hashed', 'USER'
+                    FROM generate_series(1, %d) g
+                    """.formatted(USERS));
+            statement.execute("""
+                    INSERT INTO job_applications (id, company_name, position, status, applied_date, user_id, updated_at)
+                    SELECT g,
+                           'Company ' || (g %% 500),
+                           'Developer',
+                           CASE
+                               WHEN (g / %1$d) %% 20 < 12 THEN 'APPLIED'
+                               WHEN (g / %1$d) %% 20 < 16 THEN 'INTERVIEW'
+                               WHEN (g / %1$d) %% 20 < 19 THEN 'REJECTED'
+                               ELSE 'OFFER'
+                           END,
+                           CURRENT_DATE - (g * 7 %% 730),
+                           (g %% %1$d) + 1,
+                           CURRENT_TIMESTAMP - (g * 13 %% 2000) * INTERVAL '1 hour'
+                    FROM generate_series(1, %2$d) g
+                    """.formatted(USERS, JOBS));
+            statement.execute("VACUUM ANALYZE users");
+            statement.execute("VACUUM ANALYZE job_applications");
+        }
+    }
+
+    @AfterAll
+    static void stopPostgres() throws Exception {
+        postgres.close();
+    }
+
+    static Stream<Arguments> userScopedQueries() {
+        return Stream.of(
+                query("findAllByUserId", r -> r.findAllByUserId(USER_ID, FIRST_PAGE, ROW)),
+                query("findAllByUserId deep page", r -> r.findAllByUserId(USER_ID, DEEP_PAGE, ROW)),
+                query("findAllByUserIdAndStatus", r -> r.findAllByUserIdAndStatus(USER_ID, ApplicationStatus.APPLIED, FIRST_PAGE, ROW)),
+                query("findSliceByUserId", r -> r.findSliceByUserId(USER_ID, FIRST_PAGE, ROW)),
+                query("findSliceByUserIdAndStatus", r -> r.findSliceByUserIdAndStatus(USER_ID, ApplicationStatus.OFFER, DEEP_PAGE, SUMMARY)),
+                query("findWindowByUserId", r -> r.findWindowByUserId(USER_ID, ScrollPosition.keyset(), Limit.of(10), NEWEST_FIRST, ROW)),
+                query("findWindowByUserId next", r -> r.findWindowByUserId(USER_ID, NEXT_WINDOW, Limit.of(10), NEWEST_FIRST, ROW)),
+                query("findWindowByUserIdAndStatus", r -> r.findWindowByUserIdAndStatus(
+                        USER_ID, ApplicationStatus.INTERVIEW, NEXT_WINDOW, Limit.of(10), NEWEST_FIRST, ROW)),
+                query("findByIdAndUserId", r -> r.findByIdAndUserId(USER_ID, USER_ID)),
+                query("findByUserId", r -> r.findByUserId(USER_ID)),
+                query("countByStatusForUser", r -> r.countByStatusForUser(USER_ID)),
+                query("search", r -> r.search(USER_ID, List.of("company"), null, null, 11, true)),
+                query("search next", r -> r.search(USER_ID, List.of("company", "develop"), 0.5f, 25_000L, 11, false)),
+                query("findCompanyNames", r -> r.findCompanyNames(USER_ID, "Compny 4", 10)),
+                query("countByBucket", r -> r.countByBucket(
+                        USER_ID, TimeBucket.WEEK, LocalDate.now().minusYears(1), LocalDate.now())),
+                query("findListItems changedAfter", r -> r.findListItems(
+                        JobApplicationSpecifications.matching(JobFilter.none(), USER_ID)
+                                .and(JobApplicationSpecifications.changedAfter(Instant.now().minus(Duration.ofDays(2)), 0L)),
+                        Sort.by(Sort.Direction.ASC, "updatedAt", "id"), 0, 101, ROW))
+        );
+    }
+
+    static Stream<Arguments> adminListingQueries() {
+        List<Arguments> queries = new ArrayList<>(List.of(
+                query("findAllBy", r -> r.findAllBy(FIRST_PAGE, ROW)),
+                query("findSliceBy", r -> r.findSliceBy(DEEP_PAGE, ROW)),
+                query("findWindowBy", r -> r.findWindowBy(NEXT_WINDOW, Limit.of(10), NEWEST_FIRST, ROW))
+        ));
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            queries.add(query("findAllByStatus " + status, r -> r.findAllByStatus(status, FIRST_PAGE, ROW)));
+            queries.add(query("findSliceByStatus " + status, r -> r.findSliceByStatus(status, DEEP_PAGE, SUMMARY)));
+            queries.add(query("findWindowByStatus " + status,
+                    r -> r.findWindowByStatus(status, ScrollPosition.keyset(), Limit.of(10), NEWEST_FIRST, ROW)));
+        }
+        return queries.stream();
+    }
+
+    /**
+     * Every combination of {@link JobFilter} criteria, per user and across users, as both page query and count.
+     */
+    static Stream<Arguments> filteredListingQueries() {
+        List<Arguments> queries = new ArrayList<>();
+        for (int criteria = 1; criteria < 1 << 4; criteria++) {
+            JobFilter.JobFilterBuilder filter = JobFilter.builder();
+            List<String> names = new ArrayList<>();
+            if ((criteria & 1) != 0) {
+                filter.statuses(Set.of(ApplicationStatus.INTERVIEW, ApplicationStatus.OFFER));
+                names.add("statuses");
+            }
+            if ((criteria & 2) != 0) {
+                filter.appliedFrom(LocalDate.now().minusDays(100)).appliedTo(LocalDate.now().minusDays(90));
+                names.add("applied range");
+            }
+            if ((criteria & 4) != 0) {
+                filter.companyPrefix("company 42");
+                names.add("company prefix");
+            }
+            if ((criteria & 8) != 0) {
+                filter.updatedSince(Instant.now().minus(Duration.ofDays(1)));
+                names.add("updated since");
+            }
+            JobFilter built = filter.build();
+            for (Long userId : Arrays.asList(USER_ID, null)) {
+                Specification<JobApplication> spec = JobApplicationSpecifications.matching(built, userId);
+                String name = String.join(" + ", names) + (userId == null ? " (all users)" : "");
+                // Counting a quarter of the table by status alone is a sequential scan, like countByStatus.
+                boolean countable = userId != null || criteria != 1;
+                queries.add(query(name, r -> {
+                    r.findListItems(spec, NEWEST_FIRST, 0, 10, ROW);
+                    if (countable) {
+                        r.count(spec);
+                    }
+                }));
+            }
+        }
+        return queries.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("userScopedQueries")
+    void userScopedQueriesShouldUseIndexes(Consumer<JobApplicationRepository> call) throws Exception {
+        for (CapturedQuery query : capture(call)) {
+            assertThat(planNodes(query))
+                    .as("plan for %s", query.sql())
+                    .noneMatch(node -> "Seq Scan".equals(node.path("Node Type").asText()))
+                    .noneMatch(node -> node.path("Filter").asText().contains("status"))
+                    .anyMatch(node -> node.has("Index Name"));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("adminListingQueries")
+    void adminListingQueriesShouldUseIndexes(Consumer<JobApplicationRepository> call) throws Exception {
+        for (CapturedQuery query : capture(call)) {
+            if (query.sql().startsWith("select count(")) {
+                continue;
+            }
+            assertThat(planNodes(query))
+                    .as("plan for %s", query.sql())
+                    .noneMatch(node -> "Seq Scan".equals(node.path("Node Type").asText()))
+                    .noneMatch(node -> "Sort".equals(node.path("Node Type").asText()))
+                    .noneMatch(node -> node.path("Filter").asText().contains("status"))
+                    .anyMatch(node -> node.has("Index Name"));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("filteredListingQueries")
+    void filteredListingQueriesShouldNotScanSequentially(Consumer<JobApplicationRepository> call) throws Exception {
+        for (CapturedQuery query : capture(call)) {
+            assertThat(planNodes(query))
+                    .as("plan for %s", query.sql())
+                    .noneMatch(node -> "Seq Scan".equals(node.path("Node Type").asText()))
+                    .anyMatch(node -> node.has("Index Name"));
+        }
+    }
+
+    private List<CapturedQuery> capture(Consumer<JobApplicationRepository> call) {
+        CAPTURED.clear();
+        call.accept(repository);
+        assertThat(CAPTURED).isNotEmpty();
+        return List.copyOf(CAPTURED);
+    }
+
+    private List<JsonNode> planNodes(CapturedQuery query) throws Exception {
+        List<JsonNode> nodes = new ArrayList<>();
+        collectPlanNodes(explain(query).get(0).get("Plan"), nodes);
+        return nodes;
+    }
+
+    private JsonNode explain(CapturedQuery query) throws Exception {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + query.sql())) {
+            for (ParameterSetOperation parameter : query.parameters()) {
+                parameter.getMethod().invoke(statement, parameter.getArgs());
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return OBJECT_MAPPER.readTree(resultSet.getString(1));
+            }
+        }
+    }
+
+    private static void collectPlanNodes(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        node.path("Plans").forEach(child -> collectPlanNodes(child, nodes));
+    }
+
+    private static Arguments query(String name, Consumer<JobApplicationRepository> call) {
+        return Arguments.of(Named.of(name, call));
+    }
+
+    private record CapturedQuery(String sql, List<ParameterSetOperation> parameters) {
+    }
+
+    @TestConfiguration
+    static class ProxyDataSourceConfig {
+
+        @Bean
+        DataSource dataSource() {
+            return ProxyDataSourceBuilder.create(postgres.getPostgresDatabase())
+                    .listener(new QueryExecutionListener() {
+                        @Override
+                        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                        }
+
+                        @Override
+                        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                            for (QueryInfo queryInfo : queryInfoList) {
+                                List<ParameterSetOperation> parameters = queryInfo.getParametersList().isEmpty()
+                                        ? List.of()
+                                        : queryInfo.getParametersList().get(0);
+                                CAPTURED.add(new CapturedQuery(queryInfo.getQuery().strip(), parameters));
+                            }
+                        }
+                    })
+                    .build();
+        }
+    }
+}
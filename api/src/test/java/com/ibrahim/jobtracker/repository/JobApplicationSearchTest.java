@@ -0,0 +1,135 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exercises full-text search and trigram company suggestions against a migrated PostgreSQL schema.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JobApplicationSearchTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeAll
+    static void startPostgres() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .load()
+                .migrate();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws Exception {
+        postgres.close();
+    }
+
+    @Test
+    void shouldMatchStemsAndPrefixesRankedByField() {
+        User owner = saveUser("john");
+        User other = saveUser("mary");
+        Long inNotes = saveJob(owner, "Initech", "Analyst", "Talked to their engineering manager").getId();
+        Long inPosition = saveJob(owner, "Globex", "Senior Engineer", null).getId();
+        Long inCompany = saveJob(owner, "Engineering Partners", "Analyst", null).getId();
+        saveJob(owner, "Hooli", "Designer", null);
+        saveJob(other, "Engineering Partners", "Analyst", null);
+
+        List<JobSearchHit> hits = jobApplicationRepository.search(owner.getId(), List.of("engin"), null, null, 10, true);
+
+        assertThat(hits).extracting(hit -> hit.item().id()).containsExactly(inCompany, inPosition, inNotes);
+        assertThat(hits.get(2).item().notes()).isEqualTo("Talked to their engineering manager");
+        assertThat(jobApplicationRepository.search(owner.getId(), List.of("engineers", "senior"), null, null, 10, false))
+                .extracting(hit -> hit.item().id())
+                .containsExactly(inPosition);
+    }
+
+    @Test
+    void shouldContinueAfterRankAndId() {
+        User owner = saveUser("kate");
+        Long first = saveJob(owner, "Acme", "Developer", null).getId();
+        Long second = saveJob(owner, "Acme", "Developer", null).getId();
+        Long third = saveJob(owner, "Initech", "Developer", "Acme referral").getId();
+
+        List<JobSearchHit> firstPage = jobApplicationRepository.search(owner.getId(), List.of("acme"), null, null, 1, false);
+        JobSearchHit last = firstPage.get(0);
+        List<JobSearchHit> rest = jobApplicationRepository.search(
+                owner.getId(), List.of("acme"), last.rank(), last.item().id(), 10, false);
+
+        assertThat(firstPage).extracting(hit -> hit.item().id()).containsExactly(second);
+        assertThat(rest).extracting(hit -> hit.item().id()).containsExactly(first, third);
+    }
+
+    @Test
+    void shouldSuggestCompaniesByPrefixThenSimilarity() {
+        User owner = saveUser("paul");
+        saveJob(owner, "Acme Corporation", "Developer", null);
+        saveJob(owner, "Acme Corporation", "Tester", null);
+        saveJob(owner, "Acorn Labs", "Developer", null);
+        saveJob(owner, "Globex", "Developer", null);
+
+        assertThat(jobApplicationRepository.findCompanyNames(owner.getId(), "ac", 10))
+                .containsExactlyInAnyOrder("Acme Corporation", "Acorn Labs");
+        assertThat(jobApplicationRepository.findCompanyNames(owner.getId(), "Acne Corporation", 10))
+                .containsExactly("Acme Corporation");
+        assertThat(jobApplicationRepository.findCompanyNames(owner.getId(), "100%", 10)).isEmpty();
+    }
+
+    private User saveUser(String username) {
+        return userRepository.saveAndFlush(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("hashed")
+                .role(Role.USER)
+                .build());
+    }
+
+    private JobApplication saveJob(User owner, String companyName, String position, String notes) {
+        return jobApplicationRepository.saveAndFlush(JobApplication.builder()
+                .companyName(companyName)
+                .position(position)
+                .status(ApplicationStatus.APPLIED)
+                .appliedDate(LocalDate.now())
+                .notes(notes)
+                .user(owner)
+                .build());
+    }
+
+    @TestConfiguration
+    static class PostgresDataSourceConfig {
+
+        @Bean
+        DataSource dataSource() {
+            return postgres.getPostgresDatabase();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.service.impl.JobApplicationStatsReconciler;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exercises counter reconciliation against a migrated PostgreSQL schema while other transactions write.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobApplicationStatsRepositoryTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private JobApplicationStatsRepository statsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startPostgres() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .load()
+                .migrate();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws Exception {
+        postgres.close();
+    }
+
+    @Test
+    void reconciliationShouldNotOverwriteIncrementsCommittedWhileItCounts() {
+        Long userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, password, role)
+                VALUES ('john', 'john@example.com', 'hashed', 'USER')
+                RETURNING id
+                """, Long.class);
+        insertJob(userId);
+        insertJob(userId);
+        // Drifted: two jobs, one counted.
+        statsRepository.increment(userId, ApplicationStatus.APPLIED, 1);
+
+        TransactionTemplate repeatableRead = new TransactionTemplate(transactionManager);
+        repeatableRead.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        assertThatThrownBy(() -> repeatableRead.executeWithoutResult(status -> {
+            // Takes the snapshot the recount will read from.
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_applications", Long.class);
+            writeJobFromAnotherConnection(userId);
+            statsRepository.reconcile(userId);
+        })).isInstanceOf(ConcurrencyFailureException.class);
+        assertThat(appliedCount(userId)).isEqualTo(2);
+
+        new JobApplicationStatsReconciler(statsRepository, userRepository, transactionManager).reconcile();
+
+        assertThat(appliedCount(userId)).isEqualTo(3);
+    }
+
+    private void writeJobFromAnotherConnection(Long userId) {
+        // A service write: the job and its counter increment commit together, outside the reconciling transaction.
+        try (Connection connection = postgres.getPostgresDatabase().getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement("""
+                    INSERT INTO job_applications (company_name, position, status, applied_date, user_id)
+                    VALUES ('Concurrent', 'Developer', 'APPLIED', CURRENT_DATE, ?)
+                    """);
+                 PreparedStatement increment = connection.prepareStatement("""
+                         UPDATE job_application_stats SET application_count = application_count + 1
+                         WHERE user_id = ? AND status = 'APPLIED'
+                         """)) {
+                insert.setLong(1, userId);
+                insert.executeUpdate();
+                increment.setLong(1, userId);
+                increment.executeUpdate();
+            }
+            connection.commit();
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void insertJob(Long userId) {
+        jdbcTemplate.update("""
+                INSERT INTO job_applications (company_name, position, status, applied_date, user_id)
+                VALUES ('Acme', 'Developer', 'APPLIED', CURRENT_DATE, ?)
+                """, userId);
+    }
+
+    private long appliedCount(Long userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT application_count FROM job_application_stats WHERE user_id = ? AND status = 'APPLIED'",
+                Long.class, userId);
+    }
+
+    @TestConfiguration
+    static class PostgresDataSourceConfig {
+
+        @Bean
+        DataSource dataSource() {
+            return postgres.getPostgresDatabase();
+        }
+    }
+}
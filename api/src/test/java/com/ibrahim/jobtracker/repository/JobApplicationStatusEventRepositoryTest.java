@@ -0,0 +1,157 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplicationStatusEvent;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Exercises the monthly partitions of the status event table and the transition counters against a migrated
+ * PostgreSQL schema.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JobApplicationStatusEventRepositoryTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2031, 5);
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private JobApplicationStatusEventRepository eventRepository;
+
+    @Autowired
+    private JobApplicationTransitionCountRepository transitionCountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startPostgres() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .load()
+                .migrate();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws Exception {
+        postgres.close();
+    }
+
+    @Test
+    void shouldRouteEventsToMonthlyPartitions() {
+        Long ownerId = saveUser("john").getId();
+
+        assertThat(eventRepository.createMonthlyPartition(MONTH)).isTrue();
+        assertThat(eventRepository.createMonthlyPartition(MONTH)).isFalse();
+        eventRepository.appendAll(List.of(
+                new StatusTransition(7L, ownerId, ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW),
+                new StatusTransition(8L, ownerId, ApplicationStatus.APPLIED, ApplicationStatus.REJECTED)
+        ), Instant.parse("2031-05-31T23:59:59Z"));
+        eventRepository.appendAll(List.of(
+                new StatusTransition(7L, ownerId, ApplicationStatus.INTERVIEW, ApplicationStatus.OFFER)
+        ), Instant.parse("2031-06-01T00:00:00Z"));
+
+        assertThat(partitionsOf(7L)).containsExactly(
+                "job_application_status_events_2031_05", "job_application_status_events_default");
+        assertThat(eventRepository.findByJobIdOrderByOccurredAtAscIdAsc(7L))
+                .extracting(JobApplicationStatusEvent::getToStatus)
+                .containsExactly(ApplicationStatus.INTERVIEW, ApplicationStatus.OFFER);
+    }
+
+    @Test
+    void shouldMoveRowsOutOfTheDefaultPartitionWhenTheirMonthIsCreated() {
+        Long ownerId = saveUser("jane").getId();
+        YearMonth late = YearMonth.of(2032, 2);
+        eventRepository.appendAll(List.of(
+                new StatusTransition(9L, ownerId, ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW)
+        ), Instant.parse("2032-02-10T12:00:00Z"));
+        eventRepository.appendAll(List.of(
+                new StatusTransition(9L, ownerId, ApplicationStatus.INTERVIEW, ApplicationStatus.OFFER)
+        ), Instant.parse("2032-03-01T00:00:00Z"));
+        assertThat(partitionsOf(9L)).containsOnly("job_application_status_events_default");
+
+        assertThat(eventRepository.createMonthlyPartition(late)).isTrue();
+
+        assertThat(partitionsOf(9L)).containsExactly(
+                "job_application_status_events_2032_02", "job_application_status_events_default");
+        assertThat(eventRepository.findByJobIdOrderByOccurredAtAscIdAsc(9L))
+                .extracting(JobApplicationStatusEvent::getToStatus)
+                .containsExactly(ApplicationStatus.INTERVIEW, ApplicationStatus.OFFER);
+    }
+
+    @Test
+    void shouldAccumulateTransitionCountersPerUser() {
+        Long john = saveUser("john").getId();
+        Long jane = saveUser("jane").getId();
+
+        transitionCountRepository.increment(john, ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW, 1);
+        transitionCountRepository.increment(john, ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW, 2);
+        transitionCountRepository.increment(jane, ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW, 1);
+        transitionCountRepository.increment(jane, ApplicationStatus.INTERVIEW, ApplicationStatus.OFFER, 1);
+
+        assertThat(transitionCountRepository.countForUser(john))
+                .extracting(TransitionCount::getFromStatus, TransitionCount::getToStatus, TransitionCount::getCount)
+                .containsExactly(tuple(ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW, 3L));
+        assertThat(transitionCountRepository.countAll())
+                .extracting(TransitionCount::getFromStatus, TransitionCount::getToStatus, TransitionCount::getCount)
+                .containsExactlyInAnyOrder(
+                        tuple(ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW, 4L),
+                        tuple(ApplicationStatus.INTERVIEW, ApplicationStatus.OFFER, 1L));
+    }
+
+    private List<String> partitionsOf(Long jobId) {
+        return jdbcTemplate.queryForList("""
+                SELECT tableoid::regclass::text
+                FROM job_application_status_events
+                WHERE job_id = ?
+                ORDER BY occurred_at
+                """, String.class, jobId);
+    }
+
+    private User saveUser(String username) {
+        return userRepository.saveAndFlush(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("hashed")
+                .role(Role.USER)
+                .build());
+    }
+
+    @TestConfiguration
+    static class PostgresDataSourceConfig {
+
+        @Bean
+        DataSource dataSource() {
+            return postgres.getPostgresDatabase();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.ibrahim.jobtracker.security;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.ibrahim.jobtracker.exception.ResourceNotFoundException;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CurrentUserResolverTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CurrentUserResolver resolver = new CurrentUserResolver(userRepository);
+
+    @Test
+    void shouldReadUserIdFromAuthenticatedUserPrincipal() {
+        AuthenticatedUser principal = new AuthenticatedUser(
+                9L,
+                "alice",
+                "alice@example.com",
+                null,
+                0,
+                "ROLE_USER"
+        );
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                principal,
+                null,
+                principal.getAuthorities()
+        );
+
+        assertThat(resolver.resolveUserId(authentication)).isEqualTo(9L);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldFallBackToUsernameLookupForOtherPrincipals() {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                "bob",
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))
+        );
+        when(userRepository.findIdByUsername("bob")).thenReturn(Optional.of(3L));
+
+        assertThat(resolver.resolveUserId(authentication)).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldThrowNotFoundWhenUsernameIsUnknown() {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                "ghost",
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))
+        );
+        when(userRepository.findIdByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> resolver.resolveUserId(authentication))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("ghost");
+    }
+}
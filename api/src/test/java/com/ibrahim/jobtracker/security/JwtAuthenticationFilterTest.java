@@ -0,0 +1,194 @@
+package com.ibrahim.jobtracker.security;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldSkipWhenAuthorizationHeaderMissing() throws ServletException, IOException {
+        JwtService jwtService = mock(JwtService.class);
+        UserDetailsCache userDetailsCache = mock(UserDetailsCache.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+                jwtService,
+                userDetailsCache,
+                mock(TokenRevocationRegistry.class),
+                false
+        );
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void shouldAuthenticateWhenTokenIsValid() throws ServletException, IOException {
+        JwtService jwtService = mock(JwtService.class);
+        UserDetailsCache userDetailsCache = mock(UserDetailsCache.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+                jwtService,
+                userDetailsCache,
+                mock(TokenRevocationRegistry.class),
+                false
+        );
+
+        UserDetails userDetails = new User(
+                "alice",
+                "hashed",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))
+        );
+
+        VerifiedToken token = new VerifiedToken(
+                "alice",
+                "ROLE_USER",
+                null,
+                null,
+                Instant.now(),
+                Instant.now().plusSeconds(60)
+        );
+
+        when(jwtService.verify("valid-token")).thenReturn(token);
+        when(userDetailsCache.loadUserByUsername("alice")).thenReturn(userDetails);
+        when(jwtService.isTokenValid(token, userDetails)).thenReturn(true);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer valid-token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("alice");
+        verify(userDetailsCache).loadUserByUsername("alice");
+        verify(jwtService, times(1)).verify("valid-token");
+    }
+
+    @Test
+    void shouldIgnoreMalformedTokenAndContinueFilterChain() throws ServletException, IOException {
+        JwtService jwtService = mock(JwtService.class);
+        UserDetailsCache userDetailsCache = mock(UserDetailsCache.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+                jwtService,
+                userDetailsCache,
+                mock(TokenRevocationRegistry.class),
+                false
+        );
+
+        when(jwtService.verify("bad-token")).thenThrow(new RuntimeException("bad token"));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer bad-token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void shouldBuildPrincipalFromClaimsInStatelessMode() throws ServletException, IOException {
+        JwtService jwtService = mock(JwtService.class);
+        UserDetailsCache userDetailsCache = mock(UserDetailsCache.class);
+        TokenRevocationRegistry revocationRegistry = mock(TokenRevocationRegistry.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+                jwtService,
+                userDetailsCache,
+                revocationRegistry,
+                true
+        );
+
+        VerifiedToken token = new VerifiedToken(
+                "alice",
+                "ROLE_ADMIN",
+                7L,
+                2,
+                Instant.now(),
+                Instant.now().plusSeconds(60)
+        );
+
+        when(jwtService.verify("stateless-token")).thenReturn(token);
+        when(jwtService.isTokenValid(eq(token), any())).thenReturn(true);
+        when(revocationRegistry.isRevoked(7L, 2)).thenReturn(false);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer stateless-token");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isInstanceOf(AuthenticatedUser.class);
+        assertThat(((AuthenticatedUser) authentication.getPrincipal()).getId()).isEqualTo(7L);
+        assertThat(authentication.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+        verifyNoInteractions(userDetailsCache);
+    }
+
+    @Test
+    void shouldRejectRevokedTokenInStatelessMode() throws ServletException, IOException {
+        JwtService jwtService = mock(JwtService.class);
+        UserDetailsCache userDetailsCache = mock(UserDetailsCache.class);
+        TokenRevocationRegistry revocationRegistry = mock(TokenRevocationRegistry.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+                jwtService,
+                userDetailsCache,
+                revocationRegistry,
+                true
+        );
+
+        VerifiedToken token = new VerifiedToken(
+                "alice",
+                "ROLE_USER",
+                7L,
+                1,
+                Instant.now(),
+                Instant.now().plusSeconds(60)
+        );
+
+        when(jwtService.verify("revoked-token")).thenReturn(token);
+        when(revocationRegistry.isRevoked(7L, 1)).thenReturn(true);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer revoked-token");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userDetailsCache);
+    }
+}
@@ -0,0 +1,117 @@
+package com.ibrahim.jobtracker.security;
+
+import java.util.List;
+
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(
+                "VGhpc0lzQVNlY3VyZVNlY3JldEtleUZvckpXVFRva2VuMTIzNDU2Nzg5MDEyMw==",
+                3600000L
+        );
+    }
+
+    @Test
+    void shouldGenerateAndValidateToken() {
+        UserDetails userDetails = new User(
+                "alice",
+                "hashed",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))
+        );
+
+        String token = jwtService.generateToken(userDetails);
+
+        assertThat(token).isNotBlank();
+        assertThat(jwtService.extractUsername(token)).isEqualTo("alice");
+        assertThat(jwtService.isTokenValid(token, userDetails)).isTrue();
+        assertThat(jwtService.getExpirationMs()).isEqualTo(3600000L);
+    }
+
+    @Test
+    void shouldReturnInvalidForDifferentUser() {
+        UserDetails sourceUser = new User(
+                "alice",
+                "hashed",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))
+        );
+        UserDetails otherUser = new User(
+                "bob",
+                "hashed",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))
+        );
+
+        String token = jwtService.generateToken(sourceUser);
+
+        assertThat(jwtService.isTokenValid(token, otherUser)).isFalse();
+    }
+
+    @Test
+    void shouldVerifyTokenOnceAndExposeClaims() {
+        UserDetails userDetails = new User(
+                "alice",
+                "hashed",
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))
+        );
+
+        VerifiedToken token = jwtService.verify(jwtService.generateToken(userDetails));
+
+        assertThat(token.subject()).isEqualTo("alice");
+        assertThat(token.role()).isEqualTo("ROLE_ADMIN");
+        assertThat(token.issuedAt()).isNotNull();
+        assertThat(token.expiresAt()).isAfter(token.issuedAt());
+        assertThat(jwtService.isTokenValid(token, userDetails)).isTrue();
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithDifferentKey() {
+        JwtService otherService = new JwtService(
+                "T3RoZXJTZWNyZXRLZXlGb3JKV1RUb2tlblNpZ25pbmcxMjM0NTY3ODkwMTI=",
+                3600000L
+        );
+        UserDetails userDetails = new User(
+                "alice",
+                "hashed",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))
+        );
+
+        String foreignToken = otherService.generateToken(userDetails);
+
+        assertThatThrownBy(() -> jwtService.verify(foreignToken))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void shouldEmbedUserIdAndTokenVersionForAuthenticatedUser() {
+        AuthenticatedUser principal = new AuthenticatedUser(42L, "alice", "alice@example.com", "hashed", 3, "ROLE_USER");
+
+        VerifiedToken token = jwtService.verify(jwtService.generateToken(principal));
+
+        assertThat(token.userId()).isEqualTo(42L);
+        assertThat(token.tokenVersion()).isEqualTo(3);
+        assertThat(token.hasPrincipalClaims()).isTrue();
+        assertThat(jwtService.isTokenValid(token, principal)).isTrue();
+    }
+
+    @Test
+    void shouldRejectTokenIssuedForOlderTokenVersion() {
+        AuthenticatedUser issuedFor = new AuthenticatedUser(42L, "alice", "alice@example.com", "hashed", 3, "ROLE_USER");
+        AuthenticatedUser current = new AuthenticatedUser(42L, "alice", "alice@example.com", "rehashed", 4, "ROLE_USER");
+
+        VerifiedToken token = jwtService.verify(jwtService.generateToken(issuedFor));
+
+        assertThat(jwtService.isTokenValid(token, current)).isFalse();
+    }
+}
@@ -0,0 +1,57 @@
+package com.ibrahim.jobtracker.security;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserChangeListenerTest {
+
+    private final CustomUserDetailsService delegate = mock(CustomUserDetailsService.class);
+    private final UserDetailsCache cache = new UserDetailsCache(delegate, true, 100, Duration.ofMinutes(5));
+
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<TokenRevocationRegistry> revocationRegistry = mock(ObjectProvider.class);
+
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<UserDetailsCache> cacheProvider = mock(ObjectProvider.class);
+
+    private final UserChangeListener listener = new UserChangeListener(revocationRegistry, cacheProvider);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldInvalidateCachedUserOnlyAfterCommit() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<UserDetailsCache>>getArgument(0).accept(cache);
+            return null;
+        }).when(cacheProvider).ifAvailable(any());
+        when(delegate.loadUserByUsername("alice")).thenReturn(
+                new AuthenticatedUser(1L, "alice", "alice@example.com", "hashed", 0, "ROLE_USER"));
+        cache.loadUserByUsername("alice");
+
+        TransactionSynchronizationManager.initSynchronization();
+        listener.onUpdate(User.builder().id(1L).username("alice").role(Role.ADMIN).tokenVersion(1).build());
+
+        assertThat(cache.size()).isEqualTo(2);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.size()).isZero();
+    }
+}
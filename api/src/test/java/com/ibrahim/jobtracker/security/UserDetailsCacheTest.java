@@ -0,0 +1,63 @@
+package com.ibrahim.jobtracker.security;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserDetailsCacheTest {
+
+    private final CustomUserDetailsService delegate = mock(CustomUserDetailsService.class);
+
+    private final AuthenticatedUser alice = new AuthenticatedUser(
+            1L,
+            "alice",
+            "alice@example.com",
+            "hashed",
+            0,
+            "ROLE_USER"
+    );
+
+    @Test
+    void shouldServeRepeatedLookupsByUsernameOrEmailFromCache() {
+        UserDetailsCache cache = new UserDetailsCache(delegate, true, 100, Duration.ofMinutes(5));
+        when(delegate.loadUserByUsername("alice")).thenReturn(alice);
+
+        assertThat(cache.loadUserByUsername("alice")).isSameAs(alice);
+        assertThat(cache.loadUserByUsername("alice")).isSameAs(alice);
+        assertThat(cache.loadUserByUsername("alice@example.com")).isSameAs(alice);
+
+        verify(delegate, times(1)).loadUserByUsername("alice");
+        assertThat(cache.stats().hitCount()).isEqualTo(2);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReloadAfterInvalidation() {
+        UserDetailsCache cache = new UserDetailsCache(delegate, true, 100, Duration.ofMinutes(5));
+        when(delegate.loadUserByUsername("alice")).thenReturn(alice);
+
+        cache.loadUserByUsername("alice");
+        cache.invalidate(1L);
+
+        assertThat(cache.size()).isZero();
+        cache.loadUserByUsername("alice");
+        verify(delegate, times(2)).loadUserByUsername("alice");
+    }
+
+    @Test
+    void shouldDelegateEveryLookupWhenDisabled() {
+        UserDetailsCache cache = new UserDetailsCache(delegate, false, 100, Duration.ofMinutes(5));
+        when(delegate.loadUserByUsername("alice")).thenReturn(alice);
+
+        cache.loadUserByUsername("alice");
+        cache.loadUserByUsername("alice");
+
+        verify(delegate, times(2)).loadUserByUsername("alice");
+    }
+}
@@ -0,0 +1,127 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.ibrahim.jobtracker.dto.JobApplicationStatsResponse;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository.UserStatusCount;
+import com.ibrahim.jobtracker.repository.JobApplicationStatsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryJobStatsEngineTest {
+
+    @Mock
+    private JobApplicationRepository repository;
+
+    @Mock
+    private JobApplicationStatsRepository statsRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private InMemoryJobStatsEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.countByUserAndStatus()).thenReturn(List.of(
+                userStatusCount(1L, ApplicationStatus.APPLIED, 3),
+                userStatusCount(1L, ApplicationStatus.OFFER, 1),
+                userStatusCount(2L, ApplicationStatus.INTERVIEW, 2)
+        ));
+        engine = new InMemoryJobStatsEngine(repository, statsRepository, transactionTemplate);
+        engine.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldServeWarmedCountsPerUserAndGlobally() {
+        JobApplicationStatsResponse user = engine.userStats(1L);
+        JobApplicationStatsResponse global = engine.globalStats();
+
+        assertThat(user.getTotalApplications()).isEqualTo(4);
+        assertThat(user.getOffers()).isEqualTo(1);
+        assertThat(engine.userStats(99L).getTotalApplications()).isZero();
+        assertThat(global.getTotalApplications()).isEqualTo(6);
+        assertThat(global.getInterviews()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldApplyChangesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        engine.record(2L, ApplicationStatus.INTERVIEW, -1);
+        engine.record(2L, ApplicationStatus.OFFER, 1);
+
+        assertThat(engine.userStats(2L).getOffers()).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(engine.userStats(2L).getInterviews()).isEqualTo(1);
+        assertThat(engine.userStats(2L).getOffers()).isEqualTo(1);
+        assertThat(engine.globalStats().getOffers()).isEqualTo(2);
+    }
+
+    @Test
+    void flushShouldWriteBackOnlyDirtyUsers() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        engine.flush();
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+
+        engine.record(1L, ApplicationStatus.REJECTED, 1);
+        engine.flush();
+
+        verify(statsRepository).overwrite(1L, ApplicationStatus.APPLIED, 3);
+        verify(statsRepository).overwrite(1L, ApplicationStatus.REJECTED, 1);
+        verify(statsRepository, never()).overwrite(eq(2L), any(), anyLong());
+    }
+
+    private UserStatusCount userStatusCount(Long userId, ApplicationStatus status, long count) {
+        return new UserStatusCount() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public ApplicationStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
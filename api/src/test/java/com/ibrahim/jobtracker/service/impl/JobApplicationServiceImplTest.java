@@ -0,0 +1,397 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.ibrahim.jobtracker.dto.BatchItemResult;
+import com.ibrahim.jobtracker.dto.JobApplicationBatchUpdateRequest;
+import com.ibrahim.jobtracker.dto.JobApplicationRequest;
+import com.ibrahim.jobtracker.dto.JobApplicationResponse;
+import com.ibrahim.jobtracker.dto.JobApplicationStatsResponse;
+import com.ibrahim.jobtracker.dto.JobChangeEvent;
+import com.ibrahim.jobtracker.dto.JobFilter;
+import com.ibrahim.jobtracker.dto.JobListFields;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.entity.JobApplication;
+import com.ibrahim.jobtracker.entity.Role;
+import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.exception.PreconditionFailedException;
+import com.ibrahim.jobtracker.exception.ResourceNotFoundException;
+import com.ibrahim.jobtracker.repository.JobApplicationListItem;
+import com.ibrahim.jobtracker.repository.JobApplicationRepository;
+import com.ibrahim.jobtracker.repository.JobsVersionRepository;
+import com.ibrahim.jobtracker.repository.StatusTransition;
+import com.ibrahim.jobtracker.repository.UserRepository;
+import com.ibrahim.jobtracker.service.JobFunnelService;
+import com.ibrahim.jobtracker.service.JobStatsEngine;
+import com.ibrahim.jobtracker.service.JobSyncService;
+import com.ibrahim.jobtracker.service.JobTimeseriesService;
+import com.ibrahim.jobtracker.util.JobApplicationMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.AccessDeniedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobApplicationServiceImplTest {
+
+    @Mock
+    private JobApplicationRepository repository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JobsVersionRepository jobsVersionRepository;
+
+    @Mock
+    private JobStatsEngine statsEngine;
+
+    @Mock
+    private JobApplicationMapper mapper;
+
+    @Mock
+    private JobSyncService syncService;
+
+    @Mock
+    private JobTimeseriesService timeseriesService;
+
+    @Mock
+    private JobFunnelService funnelService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private JobApplicationServiceImpl service;
+
+    @Test
+    void createShouldAssignCurrentUserAndSave() {
+        JobApplicationRequest request = sampleRequest();
+        User user = sampleUser(1L, "john");
+        JobApplication entity = new JobApplication();
+        JobApplication saved = JobApplication.builder()
+                .status(ApplicationStatus.APPLIED)
+                .appliedDate(LocalDate.now())
+                .build();
+        JobApplicationResponse response = JobApplicationResponse.builder().id(100L).build();
+
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+        when(mapper.toEntity(request)).thenReturn(entity);
+        when(repository.save(entity)).thenReturn(saved);
+        when(mapper.toResponse(saved)).thenReturn(response);
+
+        JobApplicationResponse result = service.create(request, 1L);
+
+        assertThat(result.getId()).isEqualTo(100L);
+        assertThat(entity.getUser()).isEqualTo(user);
+        verify(repository).save(entity);
+        verify(statsEngine).record(1L, ApplicationStatus.APPLIED, 1);
+        verify(timeseriesService).recordChanged(List.of(saved.getAppliedDate()));
+        verify(userRepository, never()).findByUsername(any());
+    }
+
+    @Test
+    void createAllShouldSaveInOneCallAndRecordStatsPerStatus() {
+        User user = sampleUser(1L, "john");
+        JobApplicationRequest first = sampleRequest();
+        JobApplicationRequest second = sampleRequest();
+        JobApplication firstEntity = JobApplication.builder().status(ApplicationStatus.APPLIED).build();
+        JobApplication secondEntity = JobApplication.builder().status(ApplicationStatus.APPLIED).build();
+
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+        when(mapper.toEntity(first)).thenReturn(firstEntity);
+        when(mapper.toEntity(second)).thenReturn(secondEntity);
+        when(repository.saveAll(List.of(firstEntity, secondEntity))).thenReturn(List.of(firstEntity, secondEntity));
+        when(mapper.toResponse(any(JobApplication.class))).thenReturn(JobApplicationResponse.builder().build());
+
+        List<JobApplicationResponse> result = service.createAll(List.of(first, second), 1L);
+
+        assertThat(result).hasSize(2);
+        assertThat(firstEntity.getUser()).isEqualTo(user);
+        assertThat(secondEntity.getUser()).isEqualTo(user);
+        verify(statsEngine).record(1L, ApplicationStatus.APPLIED, 2);
+    }
+
+    @Test
+    void getJobsShouldReturnOnlyCurrentUserJobsWhenNotAdmin() {
+        Pageable pageable = PageRequest.of(0, 10);
+        JobApplicationListItem.Full row = new JobApplicationListItem.Full(
+                10L, "OpenAI", "Backend Engineer", ApplicationStatus.APPLIED, LocalDate.now(), "note", 1L, null, null, 0L);
+        Page<JobApplicationListItem.Full> page = new PageImpl<>(List.of(row), pageable, 1);
+        JobApplicationResponse response = JobApplicationResponse.builder().id(10L).build();
+
+        when(repository.findAllByUserIdAndStatus(1L, ApplicationStatus.APPLIED, pageable, JobApplicationListItem.Full.class))
+                .thenReturn(page);
+        when(mapper.toResponse(row)).thenReturn(response);
+
+        Page<JobApplicationResponse> result = service.getJobs(
+                JobFilter.ofStatus(ApplicationStatus.APPLIED),
+                pageable,
+                JobListFields.ALL,
+                1L,
+                false
+        );
+
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(repository).findAllByUserIdAndStatus(1L, ApplicationStatus.APPLIED, pageable, JobApplicationListItem.Full.class);
+        verify(userRepository, never()).findByUsername(any());
+    }
+
+    @Test
+    void getJobsShouldReturnAllJobsForAdmin() {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(repository.findAllBy(pageable, JobApplicationListItem.Full.class)).thenReturn(Page.empty(pageable));
+
+        Page<JobApplicationResponse> result = service.getJobs(JobFilter.none(), pageable, JobListFields.ALL, null, true);
+
+        assertThat(result.getTotalElements()).isZero();
+        verify(repository).findAllBy(pageable, JobApplicationListItem.Full.class);
+        verify(userRepository, never()).findByUsername(any());
+    }
+
+    @Test
+    void getJobsShouldSelectSummaryRowsWhenNotesAreNotRequested() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(repository.findAllByUserId(1L, pageable, JobApplicationListItem.Summary.class)).thenReturn(Page.empty(pageable));
+
+        service.getJobs(JobFilter.none(), pageable, JobListFields.SUMMARY, 1L, false);
+
+        verify(repository).findAllByUserId(1L, pageable, JobApplicationListItem.Summary.class);
+    }
+
+    @Test
+    void updateShouldThrowAccessDeniedWhenUserTriesToUpdateOthersJob() {
+        User owner = sampleUser(2L, "owner");
+        JobApplication application = sampleApplication(11L, owner);
+        JobApplicationRequest request = sampleRequest();
+
+        when(repository.findById(11L)).thenReturn(Optional.of(application));
+
+        assertThatThrownBy(() -> service.update(11L, request, null, 1L, false))
+                .isInstanceOf(AccessDeniedException.class)
+                .hasMessageContaining("own job applications");
+    }
+
+    @Test
+    void updateShouldWorkForOwner() {
+        User currentUser = sampleUser(1L, "john");
+        JobApplication application = sampleApplication(11L, currentUser);
+        JobApplicationRequest request = sampleRequest();
+        JobApplicationResponse response = JobApplicationResponse.builder().id(11L).build();
+
+        when(repository.findById(11L)).thenReturn(Optional.of(application));
+        when(repository.saveAndFlush(application)).thenReturn(application);
+        when(mapper.toResponse(application)).thenReturn(response);
+
+        JobApplicationResponse result = service.update(11L, request, null, 1L, false);
+
+        assertThat(result.getId()).isEqualTo(11L);
+        verify(mapper).updateEntity(application, request);
+        verify(repository).saveAndFlush(application);
+        verify(statsEngine, never()).record(anyLong(), any(), anyLong());
+        verify(timeseriesService, never()).recordChanged(any());
+        verify(funnelService, never()).recordTransitions(any());
+    }
+
+    @Test
+    void updateShouldMoveStatsCounterToOwnerWhenStatusChanges() {
+        JobApplication application = sampleApplication(11L, sampleUser(2L, "owner"));
+        JobApplicationRequest request = sampleRequest();
+        request.setStatus(ApplicationStatus.OFFER);
+
+        when(repository.findById(11L)).thenReturn(Optional.of(application));
+        doAnswer(invocation -> {
+            application.setStatus(ApplicationStatus.OFFER);
+            return null;
+        }).when(mapper).updateEntity(application, request);
+        when(repository.saveAndFlush(application)).thenReturn(application);
+
+        service.update(11L, request, null, null, true);
+
+        InOrder order = inOrder(statsEngine, funnelService, userRepository, jobsVersionRepository);
+        order.verify(statsEngine).record(2L, ApplicationStatus.APPLIED, -1);
+        order.verify(statsEngine).record(2L, ApplicationStatus.OFFER, 1);
+        order.verify(funnelService).recordTransitions(
+                List.of(new StatusTransition(11L, 2L, ApplicationStatus.APPLIED, ApplicationStatus.OFFER)));
+        order.verify(userRepository).incrementJobsVersion(Set.of(2L));
+        order.verify(jobsVersionRepository).increment();
+        verify(timeseriesService).recordChanged(List.of(application.getAppliedDate(), application.getAppliedDate()));
+    }
+
+    @Test
+    void updateShouldFailPreconditionWhenVersionIsStale() {
+        JobApplication application = sampleApplication(11L, sampleUser(1L, "john"));
+        application.setVersion(4L);
+        JobApplicationRequest request = sampleRequest();
+
+        when(repository.findById(11L)).thenReturn(Optional.of(application));
+
+        assertThatThrownBy(() -> service.update(11L, request, 3L, 1L, false))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("since version 3");
+        verify(mapper, never()).updateEntity(any(), any());
+        verify(userRepository, never()).incrementJobsVersion(any());
+        verify(jobsVersionRepository, never()).increment();
+    }
+
+    @Test
+    void getStatsShouldReturnGlobalValuesForAdmin() {
+        JobApplicationStatsResponse stats = new JobApplicationStatsResponse(10, 3, 2, 4);
+        when(statsEngine.globalStats()).thenReturn(stats);
+
+        JobApplicationStatsResponse result = service.getStats(null, true);
+
+        assertThat(result.getTotalApplications()).isEqualTo(10);
+        assertThat(result.getInterviews()).isEqualTo(3);
+        verify(statsEngine).globalStats();
+        verify(userRepository, never()).findByUsername(any());
+    }
+
+    @Test
+    void getStatsShouldReturnUserValuesWhenNotAdmin() {
+        JobApplicationStatsResponse stats = new JobApplicationStatsResponse(4, 1, 1, 1);
+        when(statsEngine.userStats(1L)).thenReturn(stats);
+
+        JobApplicationStatsResponse result = service.getStats(1L, false);
+
+        assertThat(result.getTotalApplications()).isEqualTo(4);
+        assertThat(result.getOffers()).isEqualTo(1);
+        verify(statsEngine).userStats(1L);
+    }
+
+    @Test
+    void deleteShouldThrowNotFoundWhenIdDoesNotExist() {
+        when(repository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.delete(99L, null, true))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("99");
+    }
+
+    @Test
+    void deleteShouldWorkForAdmin() {
+        JobApplication application = sampleApplication(15L, sampleUser(2L, "owner"));
+        when(repository.findById(15L)).thenReturn(Optional.of(application));
+
+        service.delete(15L, null, true);
+
+        verify(repository).delete(application);
+        verify(statsEngine).record(2L, ApplicationStatus.APPLIED, -1);
+        ArgumentCaptor<JobChangeEvent> event = ArgumentCaptor.forClass(JobChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(JobChangeEvent.Type.DELETED);
+        assertThat(event.getValue().getUserId()).isEqualTo(2L);
+    }
+
+    @Test
+    void deleteShouldThrowAccessDeniedWhenUserDeletesOthersJob() {
+        User owner = sampleUser(2L, "owner");
+        JobApplication application = sampleApplication(15L, owner);
+
+        when(repository.findById(15L)).thenReturn(Optional.of(application));
+
+        assertThatThrownBy(() -> service.delete(15L, 1L, false))
+                .isInstanceOf(AccessDeniedException.class)
+                .hasMessageContaining("own job applications");
+    }
+
+    @Test
+    void updateAllShouldCheckOwnershipWithOneQueryAndReportMissingItems() {
+        JobApplication application = sampleApplication(11L, sampleUser(1L, "john"));
+        JobApplicationBatchUpdateRequest owned = sampleBatchUpdateRequest(11L, ApplicationStatus.OFFER);
+        JobApplicationBatchUpdateRequest foreign = sampleBatchUpdateRequest(12L, ApplicationStatus.OFFER);
+
+        when(repository.findAllByIdInAndUserId(Set.of(11L, 12L), 1L)).thenReturn(List.of(application));
+        doAnswer(invocation -> {
+            application.setStatus(ApplicationStatus.OFFER);
+            return null;
+        }).when(mapper).updateEntity(application, owned);
+
+        List<BatchItemResult> results = service.updateAll(List.of(owned, foreign), 1L, false);
+
+        assertThat(results).extracting(BatchItemResult::getOutcome)
+                .containsExactly(BatchItemResult.Outcome.UPDATED, BatchItemResult.Outcome.NOT_FOUND);
+        verify(repository, never()).findById(anyLong());
+        verify(statsEngine).record(1L, ApplicationStatus.APPLIED, -1);
+        verify(statsEngine).record(1L, ApplicationStatus.OFFER, 1);
+    }
+
+    @Test
+    void deleteAllShouldRemoveFoundJobsAndAggregateStatsPerOwner() {
+        JobApplication first = sampleApplication(15L, sampleUser(2L, "owner"));
+        JobApplication second = sampleApplication(16L, sampleUser(2L, "owner"));
+
+        when(repository.findAllById(Set.of(15L, 16L, 17L))).thenReturn(List.of(first, second));
+
+        List<BatchItemResult> results = service.deleteAll(List.of(15L, 16L, 17L), null, true);
+
+        assertThat(results).extracting(BatchItemResult::getOutcome).containsExactly(
+                BatchItemResult.Outcome.DELETED, BatchItemResult.Outcome.DELETED, BatchItemResult.Outcome.NOT_FOUND);
+        verify(repository).deleteAll(List.of(first, second));
+        verify(statsEngine).record(2L, ApplicationStatus.APPLIED, -2);
+    }
+
+    private JobApplicationBatchUpdateRequest sampleBatchUpdateRequest(Long id, ApplicationStatus status) {
+        JobApplicationBatchUpdateRequest request = new JobApplicationBatchUpdateRequest();
+        request.setId(id);
+        request.setCompanyName("OpenAI");
+        request.setPosition("Staff Engineer");
+        request.setStatus(status);
+        request.setAppliedDate(LocalDate.now());
+        return request;
+    }
+
+    private User sampleUser(Long id, String username) {
+        return User.builder()
+                .id(id)
+                .username(username)
+                .email(username + "@example.com")
+                .password("hashed")
+                .role(Role.USER)
+                .build();
+    }
+
+    private JobApplication sampleApplication(Long id, User user) {
+        return JobApplication.builder()
+                .id(id)
+                .companyName("OpenAI")
+                .position("Backend Engineer")
+                .status(ApplicationStatus.APPLIED)
+                .appliedDate(LocalDate.now())
+                .notes("note")
+                .user(user)
+                .build();
+    }
+
+    private JobApplicationRequest sampleRequest() {
+        JobApplicationRequest request = new JobApplicationRequest();
+        request.setCompanyName("OpenAI");
+        request.setPosition("Backend Engineer");
+        request.setStatus(ApplicationStatus.APPLIED);
+        request.setAppliedDate(LocalDate.now());
+        request.setNotes("Initial application");
+        return request;
+    }
+}
@@ -0,0 +1,102 @@
+package com.ibrahim.jobtracker.service.impl;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobEventServiceImplTest {
+
+    @Test
+    void subscriberShouldDropOldestMessagesAndReportOverflowFirst() {
+        JobEventServiceImpl.Subscriber subscriber = new JobEventServiceImpl.Subscriber(1L, new SseEmitter(), 2);
+
+        assertThat(subscriber.offer(event("first"))).isTrue();
+        assertThat(subscriber.offer(event("second"))).isFalse();
+        assertThat(subscriber.offer(event("third"))).isFalse();
+
+        assertThat(text(subscriber.poll())).contains("event:overflow").contains("{\"dropped\":1}");
+        assertThat(text(subscriber.poll())).contains("event:second");
+        assertThat(text(subscriber.poll())).contains("event:third");
+        assertThat(subscriber.poll()).isNull();
+        assertThat(subscriber.isIdle()).isTrue();
+        assertThat(subscriber.offer(event("fourth"))).isTrue();
+    }
+
+    @Test
+    void closedSubscriberShouldIgnoreNewMessages() {
+        JobEventServiceImpl.Subscriber subscriber = new JobEventServiceImpl.Subscriber(1L, new SseEmitter(), 2);
+        subscriber.offer(event("first"));
+
+        subscriber.close();
+
+        assertThat(subscriber.offer(event("second"))).isFalse();
+        assertThat(subscriber.isIdle()).isFalse();
+    }
+
+    @Test
+    void subscriberShouldBeAbandonedOnlyWhenASendRunsPastTheTimeout() {
+        JobEventServiceImpl.Subscriber subscriber = new JobEventServiceImpl.Subscriber(1L, new SseEmitter(), 2);
+        subscriber.offer(event("first"));
+        subscriber.poll();
+
+        AtomicInteger standIns = new AtomicInteger();
+        BooleanSupplier addStandIn = () -> standIns.incrementAndGet() == 1;
+
+        assertThat(subscriber.abandonIfStalled(5_000, 1_000, addStandIn)).isFalse();
+        subscriber.startSend(1_000);
+        assertThat(subscriber.abandonIfStalled(2_000, 1_000, addStandIn)).isFalse();
+        assertThat(subscriber.abandonIfStalled(2_001, 1_000, addStandIn)).isTrue();
+        assertThat(subscriber.abandonIfStalled(3_000, 1_000, addStandIn)).isFalse();
+
+        assertThat(standIns).hasValue(1);
+        assertThat(subscriber.offer(event("second"))).isFalse();
+        assertThat(subscriber.endSend()).isTrue();
+        assertThat(subscriber.hasStandIn()).isTrue();
+    }
+
+    @Test
+    void abandonedSubscriberShouldHaveNoStandInWhenNoneIsAvailable() {
+        JobEventServiceImpl.Subscriber subscriber = new JobEventServiceImpl.Subscriber(1L, new SseEmitter(), 2);
+        subscriber.offer(event("first"));
+        subscriber.poll();
+        subscriber.startSend(1_000);
+
+        assertThat(subscriber.abandonIfStalled(2_001, 1_000, () -> false)).isTrue();
+        assertThat(subscriber.endSend()).isTrue();
+        assertThat(subscriber.hasStandIn()).isFalse();
+    }
+
+    @Test
+    void shouldCloseOldestStreamWhenUserExceedsLimit() throws Exception {
+        JobEventServiceImpl service = new JobEventServiceImpl(new ObjectMapper(), 2, 60_000, 1, 1_000, 2, 1);
+        try {
+            SseEmitter first = service.subscribe(1L);
+            service.subscribe(1L);
+            service.subscribe(2L);
+            SseEmitter third = service.subscribe(1L);
+
+            assertThat(service.subscriberCount()).isEqualTo(3);
+            assertThatThrownBy(() -> first.send("late")).isInstanceOf(IllegalStateException.class);
+            third.send("still open");
+        } finally {
+            service.destroy();
+        }
+    }
+
+    private static Set<DataWithMediaType> event(String name) {
+        return SseEmitter.event().name(name).data("{}").build();
+    }
+
+    private static String text(Set<DataWithMediaType> message) {
+        return message.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining());
+    }
+}
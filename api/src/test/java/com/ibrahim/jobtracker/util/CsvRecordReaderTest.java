@@ -0,0 +1,75 @@
+package com.ibrahim.jobtracker.util;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void shouldReadQuotedFieldsAcrossLinesAndTrackRecordLines() throws Exception {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "a,b,c\r\n\"x, y\",\"say \"\"hi\"\"\",\"multi\nline\"\n\nlast,,\n"), 1024);
+
+        assertThat(reader.next()).containsExactly("a", "b", "c");
+        assertThat(reader.getRecordLine()).isEqualTo(1);
+        assertThat(reader.next()).containsExactly("x, y", "say \"hi\"", "multi\nline");
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("last", "", "");
+        assertThat(reader.getRecordLine()).isEqualTo(5);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void shouldReadLastRecordWithoutTrailingNewline() throws Exception {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b"), 1024);
+
+        assertThat(reader.next()).isEqualTo(List.of("a", "b"));
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void shouldRejectOversizedAndUnterminatedRecords() {
+        assertThatThrownBy(() -> new CsvRecordReader(new StringReader("abcdefghijk\n"), 10).next())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Line 1 exceeds 10 characters");
+        assertThatThrownBy(() -> new CsvRecordReader(new StringReader("\"open,field\n"), 1024).next())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unterminated");
+    }
+
+    @Test
+    void shouldSkipOversizedRecordAndContinueWithTheNextLine() throws Exception {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b\nabcdefghijk,lmn\nc,d\n"), 10);
+
+        assertThat(reader.next()).containsExactly("a", "b");
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class);
+        assertThat(reader.next()).containsExactly("c", "d");
+        assertThat(reader.getRecordLine()).isEqualTo(3);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void formatShouldRoundTripFormulaGuard() {
+        assertThat(CsvFormat.escape("=SUM(A1)")).isEqualTo("'=SUM(A1)");
+        assertThat(CsvFormat.unescape("'=SUM(A1)")).isEqualTo("=SUM(A1)");
+        assertThat(CsvFormat.unescape("'quoted")).isEqualTo("'quoted");
+        assertThat(CsvFormat.unescape("")).isNull();
+    }
+
+    @Test
+    void formatShouldRoundTripTextStartingWithAnApostrophe() throws Exception {
+        List<String> values = List.of("'+44 notes", "'quoted", "+44 notes", "''", "'");
+        String line = values.stream().map(CsvFormat::escape).collect(Collectors.joining(",")) + "\n";
+
+        assertThat(CsvFormat.escape("'+44 notes")).isEqualTo("''+44 notes");
+        assertThat(new CsvRecordReader(new StringReader(line), 1024).next())
+                .extracting(CsvFormat::unescape)
+                .containsExactlyElementsOf(values);
+    }
+}
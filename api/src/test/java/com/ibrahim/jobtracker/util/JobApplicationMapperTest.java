@@ -3,12 +3,14 @@ package com.ibrahim.jobtracker.util;
 import java.time.Instant;
 import java.time.LocalDate;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ibrahim.jobtracker.dto.JobApplicationRequest;
 import com.ibrahim.jobtracker.dto.JobApplicationResponse;
 import com.ibrahim.jobtracker.entity.ApplicationStatus;
 import com.ibrahim.jobtracker.entity.JobApplication;
 import com.ibrahim.jobtracker.entity.Role;
 import com.ibrahim.jobtracker.entity.User;
+import com.ibrahim.jobtracker.repository.JobApplicationListItem;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -76,4 +78,17 @@ class JobApplicationMapperTest {
         assertThat(response.getCreatedAt()).isEqualTo(Instant.parse("2026-02-19T10:00:00Z"));
         assertThat(response.getUpdatedAt()).isEqualTo(Instant.parse("2026-02-19T11:00:00Z"));
     }
+
+    @Test
+    void shouldOmitNotesOnlyFromSummaryListItems() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        Instant now = Instant.parse("2026-02-19T10:00:00Z");
+        JobApplicationListItem full = new JobApplicationListItem.Full(
+                11L, "Company", "Position", ApplicationStatus.APPLIED, LocalDate.of(2026, 2, 2), null, 5L, now, now, 0L);
+        JobApplicationListItem summary = new JobApplicationListItem.Summary(
+                11L, "Company", "Position", ApplicationStatus.APPLIED, LocalDate.of(2026, 2, 2), 5L, now, now, 0L);
+
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(mapper.toResponse(full))).has("notes")).isTrue();
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(mapper.toResponse(summary))).has("notes")).isFalse();
+    }
 }
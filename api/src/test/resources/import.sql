@@ -0,0 +1,2 @@
+-- The migrations seed this row; tests build the schema from the entities instead.
+INSERT INTO jobs_version (id, version) VALUES (1, 0);
@@ -0,0 +1,20 @@
+package com.ibrahim.jobtracker.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Optional WebFlux + R2DBC deployment of the read side of the jobs API ({@code GET /api/jobs} and
+ * {@code GET /api/jobs/stats}) against the same database, tokens and JSON contract as the MVC application.
+ */
+// Users authenticate with tokens issued by the MVC application only, so no default in-memory user is created.
+@SpringBootApplication(exclude = ReactiveUserDetailsServiceAutoConfiguration.class)
+@EnableScheduling
+public class ReactiveJobsApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveJobsApplication.class, args);
+    }
+}
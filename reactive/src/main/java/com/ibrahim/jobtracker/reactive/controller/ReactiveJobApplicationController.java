@@ -0,0 +1,121 @@
+package com.ibrahim.jobtracker.reactive.controller;
+
+import java.util.Set;
+
+import com.ibrahim.jobtracker.dto.JobApplicationResponse;
+import com.ibrahim.jobtracker.dto.JobApplicationStatsResponse;
+import com.ibrahim.jobtracker.dto.JobListFields;
+import com.ibrahim.jobtracker.dto.PageResponse;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.reactive.repository.UserRow;
+import com.ibrahim.jobtracker.reactive.service.ReactiveJobApplicationService;
+import com.ibrahim.jobtracker.util.JobApplicationETags;
+import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only mirror of the offset-paginated listing and stats endpoints of the MVC {@code JobApplicationController}:
+ * same parameters, same JSON and the same ETags, so clients can be pointed at either deployment.
+ */
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/api/jobs")
+public class ReactiveJobApplicationController {
+
+    private static final int MAX_SIZE = 100;
+    private static final Set<String> TOTAL_MODES = Set.of("true", "false", "approximate");
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final ReactiveJobApplicationService service;
+
+    @GetMapping
+    public Mono<ResponseEntity<PageResponse<JobApplicationResponse>>> getJobs(
+            @RequestParam(name = "status", required = false) ApplicationStatus status,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "sort", defaultValue = "desc") String sort,
+            @RequestParam(name = "withTotal", defaultValue = "true") String withTotal,
+            @RequestParam(name = "fields", defaultValue = "all") String fields,
+            Authentication authentication,
+            ServerWebExchange exchange
+    ) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must be greater than or equal to 0");
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SIZE);
+        }
+        String totalMode = withTotal.toLowerCase();
+        if (!TOTAL_MODES.contains(totalMode)) {
+            throw new IllegalArgumentException("withTotal must be one of: true, false, approximate");
+        }
+        JobListFields listFields = JobListFields.from(fields);
+
+        Sort.Direction direction = "asc".equalsIgnoreCase(sort) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(direction, "appliedDate"));
+        boolean isAdmin = hasRole(authentication, "ROLE_ADMIN");
+        Long userId = currentUserId(authentication, isAdmin);
+        log.debug("GET /api/jobs by user={} admin={} page={} size={} status={} sort={} withTotal={}",
+                currentUser(authentication).username(), isAdmin, page, size, status, sort, withTotal);
+
+        // As in MVC the version is read first, so the tag may be older than the body but never newer. There is no
+        // planner estimate here, so withTotal=approximate returns the exact count.
+        return service.getJobsVersion(userId, isAdmin).flatMap(version -> {
+            if (exchange.checkNotModified(JobApplicationETags.jobs(userId, version))) {
+                return Mono.empty();
+            }
+            if ("false".equals(totalMode)) {
+                return service.getJobSlice(status, pageRequest, listFields, userId, isAdmin)
+                        .map(slice -> revalidated(PageResponse.from(slice)));
+            }
+            return service.getJobs(status, pageRequest, listFields, userId, isAdmin)
+                    .map(jobPage -> revalidated(PageResponse.from(jobPage)));
+        });
+    }
+
+    @GetMapping("/stats")
+    public Mono<ResponseEntity<JobApplicationStatsResponse>> getStats(
+            Authentication authentication,
+            ServerWebExchange exchange
+    ) {
+        boolean isAdmin = hasRole(authentication, "ROLE_ADMIN");
+        Long userId = currentUserId(authentication, isAdmin);
+        log.debug("GET /api/jobs/stats by user={} admin={}", currentUser(authentication).username(), isAdmin);
+
+        return service.getJobsVersion(userId, isAdmin).flatMap(version -> {
+            if (exchange.checkNotModified(JobApplicationETags.stats(userId, version))) {
+                return Mono.empty();
+            }
+            return service.getStats(userId, isAdmin).map(this::revalidated);
+        });
+    }
+
+    private <T> ResponseEntity<T> revalidated(T body) {
+        // The ETag header itself was already set by checkNotModified.
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(body);
+    }
+
+    private Long currentUserId(Authentication authentication, boolean isAdmin) {
+        return isAdmin ? null : currentUser(authentication).id();
+    }
+
+    private static UserRow currentUser(Authentication authentication) {
+        return (UserRow) authentication.getPrincipal();
+    }
+
+    private boolean hasRole(Authentication authentication, String role) {
+        return authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals(role));
+    }
+}
@@ -0,0 +1,54 @@
+package com.ibrahim.jobtracker.reactive.exception;
+
+import java.time.Instant;
+
+import com.ibrahim.jobtracker.exception.ApiError;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * Same {@link ApiError} body and status mapping as the MVC {@code GlobalExceptionHandler}, for the subset of errors
+ * the read endpoints can raise.
+ */
+@Slf4j
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(DataAccessResourceFailureException.class)
+    public ResponseEntity<ApiError> handleNoConnection(RuntimeException ex, ServerWebExchange exchange) {
+        return buildError(HttpStatus.SERVICE_UNAVAILABLE, "The database is busy, retry shortly", exchange);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiError> handleBadRequest(IllegalArgumentException ex, ServerWebExchange exchange) {
+        return buildError(HttpStatus.BAD_REQUEST, ex.getMessage(), exchange);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiError> handleInvalidInput(ServerWebInputException ex, ServerWebExchange exchange) {
+        return buildError(HttpStatus.BAD_REQUEST, ex.getReason(), exchange);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiError> handleGeneric(Exception ex, ServerWebExchange exchange) {
+        log.error("Unhandled error on {}", exchange.getRequest().getPath(), ex);
+        return buildError(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected server error", exchange);
+    }
+
+    private ResponseEntity<ApiError> buildError(HttpStatus status, String message, ServerWebExchange exchange) {
+        ApiError body = ApiError.builder()
+                .timestamp(Instant.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(exchange.getRequest().getPath().value())
+                .build();
+        return ResponseEntity.status(status).body(body);
+    }
+}
@@ -0,0 +1,26 @@
+package com.ibrahim.jobtracker.reactive.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Read-only mapping of {@code job_applications}; listings select {@code JobApplicationListItem} projections from it.
+ */
+@Table("job_applications")
+public record JobApplicationRow(
+        @Id Long id,
+        String companyName,
+        String position,
+        ApplicationStatus status,
+        LocalDate appliedDate,
+        String notes,
+        Long userId,
+        Instant createdAt,
+        Instant updatedAt,
+        Long version
+) {
+}
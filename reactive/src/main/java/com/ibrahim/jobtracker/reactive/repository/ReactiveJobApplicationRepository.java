@@ -0,0 +1,44 @@
+package com.ibrahim.jobtracker.reactive.repository;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of the listing and stats queries in {@code JobApplicationRepository} and
+ * {@code JobApplicationStatsRepository}.
+ */
+public interface ReactiveJobApplicationRepository extends R2dbcRepository<JobApplicationRow, Long> {
+
+    <T> Flux<T> findAllBy(Pageable pageable, Class<T> type);
+
+    <T> Flux<T> findAllByUserId(Long userId, Pageable pageable, Class<T> type);
+
+    <T> Flux<T> findAllByStatus(ApplicationStatus status, Pageable pageable, Class<T> type);
+
+    <T> Flux<T> findAllByUserIdAndStatus(Long userId, ApplicationStatus status, Pageable pageable, Class<T> type);
+
+    Mono<Long> countByUserId(Long userId);
+
+    Mono<Long> countByStatus(ApplicationStatus status);
+
+    Mono<Long> countByUserIdAndStatus(Long userId, ApplicationStatus status);
+
+    @Query("""
+            SELECT status, application_count AS count
+            FROM job_application_stats
+            WHERE user_id = :userId
+            """)
+    Flux<StatusCountRow> countByStatusForUser(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT status, SUM(application_count)::bigint AS count
+            FROM job_application_stats
+            GROUP BY status
+            """)
+    Flux<StatusCountRow> countAllByStatus();
+}
@@ -0,0 +1,28 @@
+package com.ibrahim.jobtracker.reactive.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserRepository extends R2dbcRepository<UserRow, Long> {
+
+    Mono<UserRow> findByUsername(String username);
+
+    Mono<UserRow> findByEmail(String email);
+
+    @Query("SELECT jobs_version FROM users WHERE id = :id")
+    Mono<Long> findJobsVersionById(@Param("id") Long id);
+
+    /**
+     * The all-users version the MVC application bumps with every {@code users.jobs_version}.
+     */
+    @Query("SELECT version FROM jobs_version WHERE id = 1")
+    Mono<Long> findAllJobsVersion();
+
+    @Query("SELECT id FROM users WHERE updated_at >= :since")
+    Flux<Long> findIdsChangedSince(@Param("since") Instant since);
+}
@@ -0,0 +1,20 @@
+package com.ibrahim.jobtracker.reactive.repository;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.repository.StatusCount;
+
+/**
+ * DTO projection for the stats queries; R2DBC only fills interface projections from properties of the domain type.
+ */
+public record StatusCountRow(ApplicationStatus status, long count) implements StatusCount {
+
+    @Override
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ibrahim.jobtracker.reactive.repository;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * The {@code users} columns the JWT filter needs; password hashes are never read.
+ */
+@Table("users")
+public record UserRow(
+        @Id Long id,
+        String username,
+        String email,
+        String role,
+        int tokenVersion
+) {
+}
@@ -0,0 +1,74 @@
+package com.ibrahim.jobtracker.reactive.security;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.ibrahim.jobtracker.reactive.repository.UserRow;
+import com.ibrahim.jobtracker.security.VerifiedToken;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive equivalent of {@code JwtAuthenticationFilter}: a bearer token authenticates the request when it verifies,
+ * has not expired, and its {@code ver} claim matches the user's current token version. Anything else continues
+ * unauthenticated and is rejected by the authorization rules. Not a bean, so WebFlux does not also add it to the
+ * application-wide filter chain.
+ */
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final ReactiveJwtVerifier jwtVerifier;
+    private final ReactiveUserDetailsCache userDetailsCache;
+
+    public ReactiveJwtAuthenticationFilter(ReactiveJwtVerifier jwtVerifier, ReactiveUserDetailsCache userDetailsCache) {
+        this.jwtVerifier = jwtVerifier;
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return chain.filter(exchange);
+        }
+
+        VerifiedToken token;
+        try {
+            token = jwtVerifier.verify(authHeader.substring(BEARER_PREFIX.length()));
+        } catch (Exception ex) {
+            return chain.filter(exchange);
+        }
+        if (token.subject() == null || token.isExpired(Instant.now())) {
+            return chain.filter(exchange);
+        }
+
+        return userDetailsCache.findByUsernameOrEmail(token.subject())
+                .filter(user -> isTokenValid(token, user))
+                .map(ReactiveJwtAuthenticationFilter::authentication)
+                .flatMap(authentication -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication))
+                        .thenReturn(true))
+                .switchIfEmpty(Mono.defer(() -> chain.filter(exchange).thenReturn(false)))
+                .then();
+    }
+
+    private static boolean isTokenValid(VerifiedToken token, UserRow user) {
+        return token.subject().equals(user.username())
+                && (token.tokenVersion() == null || token.tokenVersion() == user.tokenVersion());
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(UserRow user) {
+        return new UsernamePasswordAuthenticationToken(
+                user,
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.role()))
+        );
+    }
+}
@@ -0,0 +1,76 @@
+package com.ibrahim.jobtracker.reactive.security;
+
+import java.time.Instant;
+import java.util.Date;
+
+import javax.crypto.SecretKey;
+
+import com.ibrahim.jobtracker.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.DecodingException;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Verifies tokens issued by the MVC application's {@code JwtService} (same key, same claims); this module never issues
+ * tokens itself.
+ */
+@Component
+public class ReactiveJwtVerifier {
+
+    // Claim names written by JwtService.
+    private static final String ROLE_CLAIM = "role";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+    // HS256 needs at least a 256-bit key.
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final JwtParser parser;
+
+    public ReactiveJwtVerifier(@Value("${app.jwt.secret}") String secret) {
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey(secret))
+                .build();
+    }
+
+    public VerifiedToken verify(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get(ROLE_CLAIM, String.class),
+                claims.get(USER_ID_CLAIM, Long.class),
+                claims.get(TOKEN_VERSION_CLAIM, Integer.class),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration())
+        );
+    }
+
+    /**
+     * Fails startup unless {@code JWT_SECRET} is set to a Base64 key of at least 256 bits, so the service never
+     * falls back to a key anyone could sign tokens with.
+     */
+    static SecretKey signingKey(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("app.jwt.secret (JWT_SECRET) must be set to the MVC application's key");
+        }
+        byte[] key;
+        try {
+            key = Decoders.BASE64.decode(secret.trim());
+        } catch (DecodingException ex) {
+            throw new IllegalStateException("app.jwt.secret (JWT_SECRET) must be Base64 encoded", ex);
+        }
+        if (key.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException(
+                    "app.jwt.secret (JWT_SECRET) must decode to at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        return Keys.hmacShaKeyFor(key);
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+}
@@ -0,0 +1,113 @@
+package com.ibrahim.jobtracker.reactive.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.ibrahim.jobtracker.reactive.repository.ReactiveUserRepository;
+import com.ibrahim.jobtracker.reactive.repository.UserRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same bounded, expire-after-write cache as the MVC {@code UserDetailsCache}. This module cannot see the MVC
+ * application's evictions, so every {@code app.security.user-cache.revalidate-interval-ms} it evicts users whose row
+ * changed since the last pass. Password and role changes bump {@code token_version} and touch {@code updated_at}, so
+ * revoked tokens stop working within one interval instead of one TTL.
+ */
+@Slf4j
+@Component
+public class ReactiveUserDetailsCache {
+
+    private final ReactiveUserRepository userRepository;
+    private final boolean enabled;
+    private final Duration revalidateOverlap;
+    private final Cache<String, UserRow> cache;
+    // Cache keys (username and email) per user id, so a changed user is evicted without scanning the cache.
+    private final Map<Long, Set<String>> keysByUserId = new ConcurrentHashMap<>();
+
+    private volatile Instant lastRevalidation = Instant.now();
+
+    public ReactiveUserDetailsCache(
+            ReactiveUserRepository userRepository,
+            @Value("${app.security.user-cache.enabled:true}") boolean enabled,
+            @Value("${app.security.user-cache.max-size:10000}") long maxSize,
+            @Value("${app.security.user-cache.ttl:5m}") Duration ttl,
+            @Value("${app.security.user-cache.revalidate-interval-ms:5000}") long revalidateIntervalMs
+    ) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        // Rows are stamped before they commit, so each pass looks back over the previous interval as well.
+        this.revalidateOverlap = Duration.ofMillis(revalidateIntervalMs);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .evictionListener((String key, UserRow user, RemovalCause cause) -> {
+                    if (key != null && user != null) {
+                        unindex(user.id(), key);
+                    }
+                })
+                .build();
+    }
+
+    public Mono<UserRow> findByUsernameOrEmail(String usernameOrEmail) {
+        UserRow cached = enabled ? cache.getIfPresent(usernameOrEmail) : null;
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        return userRepository.findByUsername(usernameOrEmail)
+                .switchIfEmpty(Mono.defer(() -> userRepository.findByEmail(usernameOrEmail)))
+                .doOnNext(user -> {
+                    if (enabled) {
+                        put(user.username(), user);
+                        put(user.email(), user);
+                    }
+                });
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.user-cache.revalidate-interval-ms:5000}")
+    public Mono<Void> revalidate() {
+        if (!enabled) {
+            return Mono.empty();
+        }
+
+        Instant startedAt = Instant.now();
+        Instant since = lastRevalidation.minus(revalidateOverlap);
+        return userRepository.findIdsChangedSince(since)
+                .doOnNext(this::invalidate)
+                .count()
+                .doOnNext(changed -> {
+                    lastRevalidation = startedAt;
+                    log.debug("Revalidated cached users since={} changed={}", since, changed);
+                })
+                .then();
+    }
+
+    public void invalidate(Long userId) {
+        Set<String> keys = keysByUserId.remove(userId);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    private void put(String key, UserRow user) {
+        keysByUserId.computeIfAbsent(user.id(), id -> ConcurrentHashMap.newKeySet()).add(key);
+        cache.put(key, user);
+    }
+
+    private void unindex(Long userId, String key) {
+        keysByUserId.computeIfPresent(userId, (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.ibrahim.jobtracker.reactive.service;
+
+import com.ibrahim.jobtracker.dto.JobApplicationResponse;
+import com.ibrahim.jobtracker.dto.JobApplicationStatsResponse;
+import com.ibrahim.jobtracker.dto.JobListFields;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveJobApplicationService {
+
+    Mono<Page<JobApplicationResponse>> getJobs(
+            ApplicationStatus status,
+            Pageable pageable,
+            JobListFields fields,
+            Long userId,
+            boolean isAdmin
+    );
+
+    Mono<Slice<JobApplicationResponse>> getJobSlice(
+            ApplicationStatus status,
+            Pageable pageable,
+            JobListFields fields,
+            Long userId,
+            boolean isAdmin
+    );
+
+    Mono<JobApplicationStatsResponse> getStats(Long userId, boolean isAdmin);
+
+    Mono<Long> getJobsVersion(Long userId, boolean isAdmin);
+}
@@ -0,0 +1,130 @@
+package com.ibrahim.jobtracker.reactive.service.impl;
+
+import com.ibrahim.jobtracker.dto.JobApplicationResponse;
+import com.ibrahim.jobtracker.dto.JobApplicationSummaryResponse;
+import com.ibrahim.jobtracker.dto.JobApplicationStatsResponse;
+import com.ibrahim.jobtracker.dto.JobListFields;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import com.ibrahim.jobtracker.reactive.repository.ReactiveJobApplicationRepository;
+import com.ibrahim.jobtracker.reactive.repository.ReactiveUserRepository;
+import com.ibrahim.jobtracker.reactive.repository.StatusCountRow;
+import com.ibrahim.jobtracker.reactive.service.ReactiveJobApplicationService;
+import com.ibrahim.jobtracker.repository.JobApplicationListItem;
+import com.ibrahim.jobtracker.repository.StatusCount;
+import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveJobApplicationServiceImpl implements ReactiveJobApplicationService {
+
+    private final ReactiveJobApplicationRepository repository;
+    private final ReactiveUserRepository userRepository;
+
+    @Override
+    public Mono<Page<JobApplicationResponse>> getJobs(
+            ApplicationStatus status,
+            Pageable pageable,
+            JobListFields fields,
+            Long userId,
+            boolean isAdmin
+    ) {
+        Mono<Long> total = isAdmin
+                ? (status == null ? repository.count() : repository.countByStatus(status))
+                : (status == null ? repository.countByUserId(userId) : repository.countByUserIdAndStatus(userId, status));
+        return Mono.zip(content(status, pageable, fields, userId, isAdmin).collectList(), total)
+                .map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+    }
+
+    @Override
+    public Mono<Slice<JobApplicationResponse>> getJobSlice(
+            ApplicationStatus status,
+            Pageable pageable,
+            JobListFields fields,
+            Long userId,
+            boolean isAdmin
+    ) {
+        // PageRequest.of(n, 1) starts at offset n, so this probes the single row after the requested page.
+        Pageable nextRow = PageRequest.of((pageable.getPageNumber() + 1) * pageable.getPageSize(), 1, pageable.getSort());
+        Mono<Boolean> hasNext = content(status, nextRow, JobListFields.SUMMARY, userId, isAdmin).hasElements();
+        return Mono.zip(content(status, pageable, fields, userId, isAdmin).collectList(), hasNext)
+                .map(slice -> new SliceImpl<>(slice.getT1(), pageable, slice.getT2()));
+    }
+
+    @Override
+    public Mono<JobApplicationStatsResponse> getStats(Long userId, boolean isAdmin) {
+        Flux<StatusCountRow> counts = isAdmin ? repository.countAllByStatus() : repository.countByStatusForUser(userId);
+        return counts.collectList()
+                .map(list -> JobApplicationStatsResponse.from(StatusCount.toMap(list)))
+                .doOnNext(stats -> log.debug("Computed job stats for userId={} admin={}", userId, isAdmin));
+    }
+
+    @Override
+    public Mono<Long> getJobsVersion(Long userId, boolean isAdmin) {
+        return (isAdmin ? userRepository.findAllJobsVersion() : userRepository.findJobsVersionById(userId))
+                .defaultIfEmpty(0L);
+    }
+
+    private Flux<JobApplicationResponse> content(
+            ApplicationStatus status,
+            Pageable pageable,
+            JobListFields fields,
+            Long userId,
+            boolean isAdmin
+    ) {
+        Class<? extends JobApplicationListItem> type = listItemType(fields);
+        Flux<? extends JobApplicationListItem> items;
+        if (isAdmin) {
+            items = status == null
+                    ? repository.findAllBy(pageable, type)
+                    : repository.findAllByStatus(status, pageable, type);
+        } else {
+            items = status == null
+                    ? repository.findAllByUserId(userId, pageable, type)
+                    : repository.findAllByUserIdAndStatus(userId, status, pageable, type);
+        }
+        return items.map(ReactiveJobApplicationServiceImpl::toResponse);
+    }
+
+    private static Class<? extends JobApplicationListItem> listItemType(JobListFields fields) {
+        return fields == JobListFields.SUMMARY ? JobApplicationListItem.Summary.class : JobApplicationListItem.Full.class;
+    }
+
+    private static JobApplicationResponse toResponse(JobApplicationListItem item) {
+        if (item instanceof JobApplicationListItem.Summary summary) {
+            return new JobApplicationSummaryResponse(
+                    summary.id(),
+                    summary.companyName(),
+                    summary.position(),
+                    summary.status(),
+                    summary.appliedDate(),
+                    summary.userId(),
+                    summary.createdAt(),
+                    summary.updatedAt(),
+                    summary.version()
+            );
+        }
+        return JobApplicationResponse.builder()
+                .id(item.id())
+                .companyName(item.companyName())
+                .position(item.position())
+                .status(item.status())
+                .appliedDate(item.appliedDate())
+                .notes(item.notes())
+                .userId(item.userId())
+                .createdAt(item.createdAt())
+                .updatedAt(item.updatedAt())
+                .version(item.version())
+                .build();
+    }
+}
@@ -0,0 +1,237 @@
+package com.ibrahim.jobtracker.reactive;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import com.ibrahim.jobtracker.reactive.security.ReactiveUserDetailsCache;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Runs the reactive read API against the MVC application's Flyway schema on an embedded PostgreSQL, with tokens
+ * shaped like the ones {@code JwtService} issues.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.jwt.secret=" + ReactiveJobApplicationControllerIntegrationTest.JWT_SECRET
+)
+@AutoConfigureWebTestClient
+class ReactiveJobApplicationControllerIntegrationTest {
+
+    static final String JWT_SECRET = "cmVhY3RpdmUtaW50ZWdyYXRpb24tdGVzdC1rZXktMzItYnl0ZXMhIQ==";
+
+    private static EmbeddedPostgres postgres;
+    private static long johnId;
+    private static long janeId;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveUserDetailsCache userDetailsCache;
+
+    @BeforeAll
+    static void startPostgres() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .locations("filesystem:../api/src/main/resources/db/migration")
+                .load()
+                .migrate();
+
+        JdbcTemplate jdbc = new JdbcTemplate(postgres.getPostgresDatabase());
+        johnId = saveUser(jdbc, "john", "USER", 3);
+        janeId = saveUser(jdbc, "jane", "USER", 1);
+        saveUser(jdbc, "admin", "ADMIN", 0);
+        jdbc.update("UPDATE jobs_version SET version = 4 WHERE id = 1");
+        saveJob(jdbc, johnId, "Acme", "APPLIED", 1, "Referral from a friend");
+        saveJob(jdbc, johnId, "Globex", "INTERVIEW", 2, null);
+        saveJob(jdbc, johnId, "Initech", "APPLIED", 3, null);
+        saveJob(jdbc, janeId, "Umbrella", "OFFER", 4, null);
+        // Maintained by the MVC application's counter-table stats engine.
+        jdbc.update("""
+                INSERT INTO job_application_stats (user_id, status, application_count)
+                SELECT user_id, status, COUNT(*) FROM job_applications GROUP BY user_id, status
+                """);
+    }
+
+    @AfterAll
+    static void stopPostgres() throws Exception {
+        postgres.close();
+    }
+
+    @DynamicPropertySource
+    static void r2dbcProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://localhost:" + postgres.getPort() + "/postgres");
+        registry.add("spring.r2dbc.username", () -> "postgres");
+        registry.add("spring.r2dbc.password", () -> "postgres");
+    }
+
+    @Test
+    void shouldListOnlyOwnJobsWithTotals() {
+        webTestClient.get().uri("/api/jobs?size=2&sort=asc")
+                .header(HttpHeaders.AUTHORIZATION, bearer("john", johnId, 0))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"jobs-u" + johnId + "-3\"")
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "no-cache, private")
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.content[0].companyName").isEqualTo("Initech")
+                .jsonPath("$.content[0].userId").isEqualTo(johnId)
+                .jsonPath("$.totalElements").isEqualTo(3)
+                .jsonPath("$.totalPages").isEqualTo(2)
+                .jsonPath("$.last").isEqualTo(false);
+    }
+
+    @Test
+    void shouldFilterByStatusAndOmitTotalsWhenNotRequested() {
+        webTestClient.get().uri("/api/jobs?status=APPLIED&size=1&page=1&withTotal=false")
+                .header(HttpHeaders.AUTHORIZATION, bearer("john", johnId, 0))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.content[0].companyName").isEqualTo("Initech")
+                .jsonPath("$.last").isEqualTo(true)
+                .jsonPath("$.totalElements").doesNotExist();
+    }
+
+    @Test
+    void shouldOmitNotesFromSummaryListing() {
+        webTestClient.get().uri("/api/jobs?fields=summary&status=APPLIED&sort=desc")
+                .header(HttpHeaders.AUTHORIZATION, bearer("john", johnId, 0))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].companyName").isEqualTo("Acme")
+                .jsonPath("$.content[0].notes").doesNotExist();
+    }
+
+    @Test
+    void shouldListAllJobsForAdmin() {
+        webTestClient.get().uri("/api/jobs")
+                .header(HttpHeaders.AUTHORIZATION, bearer("admin", null, 0))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"jobs-all-4\"")
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(4);
+    }
+
+    @Test
+    void shouldReturnStatsFromCounterTable() {
+        webTestClient.get().uri("/api/jobs/stats")
+                .header(HttpHeaders.AUTHORIZATION, bearer("john", johnId, 0))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"stats-u" + johnId + "-3\"")
+                .expectBody()
+                .jsonPath("$.totalApplications").isEqualTo(3)
+                .jsonPath("$.interviews").isEqualTo(1)
+                .jsonPath("$.offers").isEqualTo(0)
+                .jsonPath("$.rejected").isEqualTo(0);
+    }
+
+    @Test
+    void shouldReturnNotModifiedForCurrentETag() {
+        webTestClient.get().uri("/api/jobs")
+                .header(HttpHeaders.AUTHORIZATION, bearer("jane", janeId, 0))
+                .header(HttpHeaders.IF_NONE_MATCH, "\"jobs-u" + janeId + "-1\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void shouldRejectInvalidParameters() {
+        webTestClient.get().uri("/api/jobs?size=101")
+                .header(HttpHeaders.AUTHORIZATION, bearer("john", johnId, 0))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("size must be between 1 and 100")
+                .jsonPath("$.path").isEqualTo("/api/jobs");
+    }
+
+    @Test
+    void shouldRejectMissingOrRevokedToken() {
+        webTestClient.get().uri("/api/jobs")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.get().uri("/api/jobs")
+                .header(HttpHeaders.AUTHORIZATION, bearer("john", johnId, 1))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void shouldRejectTokensRevokedAfterTheUserWasCached() {
+        JdbcTemplate jdbc = new JdbcTemplate(postgres.getPostgresDatabase());
+        long kateId = saveUser(jdbc, "kate", "USER", 0);
+        String oldToken = bearer("kate", kateId, 0);
+        webTestClient.get().uri("/api/jobs")
+                .header(HttpHeaders.AUTHORIZATION, oldToken)
+                .exchange()
+                .expectStatus().isOk();
+
+        // What a logout-all or password change in the MVC application writes.
+        jdbc.update("UPDATE users SET token_version = 1, updated_at = CURRENT_TIMESTAMP WHERE id = ?", kateId);
+        userDetailsCache.revalidate().block();
+
+        webTestClient.get().uri("/api/jobs")
+                .header(HttpHeaders.AUTHORIZATION, oldToken)
+                .exchange()
+                .expectStatus().isUnauthorized();
+        webTestClient.get().uri("/api/jobs")
+                .header(HttpHeaders.AUTHORIZATION, bearer("kate", kateId, 1))
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    private String bearer(String username, Long userId, int tokenVersion) {
+        Instant now = Instant.now();
+        String token = Jwts.builder()
+                .subject(username)
+                .claim("role", username.equals("admin") ? "ADMIN" : "USER")
+                .claim("uid", userId)
+                .claim("ver", tokenVersion)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(1, ChronoUnit.HOURS)))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(JWT_SECRET)))
+                .compact();
+        return "Bearer " + token;
+    }
+
+    private static long saveUser(JdbcTemplate jdbc, String username, String role, long jobsVersion) {
+        return jdbc.queryForObject("""
+                INSERT INTO users (username, email, password, role, jobs_version)
+                VALUES (?, ?, 'hashed', ?, ?)
+                RETURNING id
+                """, Long.class, username, username + "@example.com", role, jobsVersion);
+    }
+
+    private static void saveJob(JdbcTemplate jdbc, long userId, String company, String status, int daysAgo, String notes) {
+        jdbc.update("""
+                INSERT INTO job_applications (company_name, position, status, applied_date, notes, user_id)
+                VALUES (?, 'Developer', ?, ?, ?, ?)
+                """, company, status, LocalDate.now().minusDays(daysAgo), notes, userId);
+    }
+}
@@ -0,0 +1,294 @@
+package com.ibrahim.jobtracker.reactive.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Closed-loop load test of {@code GET /api/jobs?size=20} from 100 concurrent clients against the MVC application
+ * ({@code impl=mvc}) and this module ({@code impl=reactive}), each started from its packaged jar in its own JVM
+ * ({@code -Xmx512m}, G1) on the same embedded PostgreSQL, with 20 database connections. Setup also opens
+ * {@code idleConnections} keep-alive connections that have each served one request and prints the heap and resident
+ * memory they retain per connection in the server process. Package both applications first and run from
+ * {@code reactive/}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(100)
+@Fork(value = 1, jvmArgs = {"-Xmx1g"})
+public class MvcVsReactiveBenchmark {
+
+    private static final Path MVC_JAR = Path.of("../api/target/job-application-tracker-api-0.0.1-SNAPSHOT.jar");
+    private static final Path REACTIVE_JAR = Path.of("target/job-application-tracker-api-reactive-0.0.1-SNAPSHOT.jar");
+    private static final String JWT_SECRET = "VGhpc0lzQVNlY3VyZVNlY3JldEtleUZvckpXVFRva2VuMTIzNDU2Nzg5MDEyMw==";
+    private static final Pattern HEAP_USED = Pattern.compile("used (\\d+)K");
+    private static final Pattern CONTENT_LENGTH = Pattern.compile("(?i)content-length: (\\d+)");
+    private static final Pattern VM_RSS = Pattern.compile("VmRSS:\\s+(\\d+) kB");
+    private static final int JOBS = 200;
+    private static final int POOL_SIZE = 20;
+
+    @Param({"mvc", "reactive"})
+    public String impl;
+
+    @Param("2000")
+    public int idleConnections;
+
+    private EmbeddedPostgres postgres;
+    private Process server;
+    private HttpClient client;
+    private HttpRequest listJobs;
+
+    @Setup(Level.Trial)
+    public void startServer() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .locations("filesystem:../api/src/main/resources/db/migration")
+                .load()
+                .migrate();
+        String token = seed(new JdbcTemplate(postgres.getPostgresDatabase()));
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = start(port);
+        try {
+            client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            listJobs = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/jobs?size=20"))
+                    .header("Authorization", "Bearer " + token)
+                    .build();
+            awaitReady();
+            for (int i = 0; i < 1000; i++) {
+                listJobs();
+            }
+            printConnectionFootprint(port, token);
+        } catch (Exception ex) {
+            // JMH skips the tear-down when set-up fails.
+            stopServer();
+            throw ex;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() throws Exception {
+        server.destroy();
+        server.waitFor(30, TimeUnit.SECONDS);
+        postgres.close();
+    }
+
+    @Benchmark
+    public int listJobs() throws Exception {
+        HttpResponse<byte[]> response = client.send(listJobs, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /api/jobs returned " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+    private String seed(JdbcTemplate jdbc) {
+        Long ownerId = jdbc.queryForObject("""
+                INSERT INTO users (username, email, password, role, jobs_version)
+                VALUES ('bench', 'bench@example.com', 'hashed', 'USER', ?)
+                RETURNING id
+                """, Long.class, JOBS);
+        List<Object[]> rows = new ArrayList<>(JOBS);
+        String[] statuses = {"APPLIED", "INTERVIEW", "REJECTED", "OFFER"};
+        for (int i = 0; i < JOBS; i++) {
+            rows.add(new Object[] {"Company " + i, statuses[i % statuses.length], LocalDate.now().minusDays(i), ownerId});
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO job_applications (company_name, position, status, applied_date, user_id)
+                VALUES (?, 'Developer', ?, ?, ?)
+                """, rows);
+        jdbc.update("""
+                INSERT INTO job_application_stats (user_id, status, application_count)
+                SELECT user_id, status, COUNT(*) FROM job_applications GROUP BY user_id, status
+                """);
+
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .subject("bench")
+                .claim("role", "USER")
+                .claim("uid", ownerId)
+                .claim("ver", 0)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(1, ChronoUnit.DAYS)))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(JWT_SECRET)))
+                .compact();
+    }
+
+    private Process start(int port) throws IOException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = new ArrayList<>(List.of(java, "-Xmx512m", "-XX:+UseG1GC", "-jar"));
+        if (impl.equals("mvc")) {
+            command.addAll(List.of(
+                    MVC_JAR.toString(),
+                    "--spring.datasource.url=jdbc:postgresql://localhost:" + postgres.getPort() + "/postgres",
+                    "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                    "--spring.datasource.hikari.minimum-idle=" + POOL_SIZE,
+                    // Outlives the footprint measurement; Tomcat otherwise closes idle connections after 20 seconds.
+                    "--server.tomcat.keep-alive-timeout=10m"));
+        } else {
+            command.addAll(List.of(
+                    REACTIVE_JAR.toString(),
+                    "--spring.r2dbc.url=r2dbc:postgresql://localhost:" + postgres.getPort() + "/postgres",
+                    "--spring.r2dbc.pool.initial-size=" + POOL_SIZE,
+                    "--spring.r2dbc.pool.max-size=" + POOL_SIZE));
+        }
+        command.addAll(List.of(
+                "--server.port=" + port,
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.r2dbc.username=postgres",
+                "--spring.r2dbc.password=postgres",
+                "--app.jwt.secret=" + JWT_SECRET,
+                "--logging.level.root=WARN"));
+        Path log = Files.createTempFile("benchmark-" + impl, ".log");
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+    }
+
+    private void awaitReady() throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+        while (System.nanoTime() < deadline) {
+            if (!server.isAlive()) {
+                throw new IllegalStateException(impl + " server exited with " + server.exitValue());
+            }
+            try {
+                listJobs();
+                return;
+            } catch (IOException | IllegalStateException ex) {
+                Thread.sleep(500);
+            }
+        }
+        throw new IllegalStateException(impl + " server did not start within 2 minutes");
+    }
+
+    private void printConnectionFootprint(int port, String token) throws Exception {
+        byte[] request = ("GET /api/jobs/stats HTTP/1.1\r\nHost: localhost\r\nAuthorization: Bearer " + token
+                + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        long heapBefore = usedHeapKb();
+        long rssBefore = residentKb();
+        List<Socket> sockets = new ArrayList<>(idleConnections);
+        try {
+            for (int i = 0; i < idleConnections; i++) {
+                Socket socket = new Socket("localhost", port);
+                sockets.add(socket);
+                socket.getOutputStream().write(request);
+                readResponse(socket.getInputStream());
+            }
+            long heapAfter = usedHeapKb();
+            long rssAfter = residentKb();
+            System.out.printf("%n%s: %d idle keep-alive connections retain about %.1f KB of heap and %.1f KB RSS each%n",
+                    impl, idleConnections, (heapAfter - heapBefore) / (double) idleConnections,
+                    (rssAfter - rssBefore) / (double) idleConnections);
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+
+    private static void readResponse(InputStream in) throws IOException {
+        String headers = readLine(in);
+        for (String line = readLine(in); !line.isEmpty(); line = readLine(in)) {
+            headers += "\n" + line;
+        }
+        Matcher length = CONTENT_LENGTH.matcher(headers);
+        if (length.find()) {
+            in.readNBytes(Integer.parseInt(length.group(1)));
+            return;
+        }
+        // Tomcat streams the JSON with chunked transfer encoding.
+        for (int size = Integer.parseInt(readLine(in), 16); size > 0; size = Integer.parseInt(readLine(in), 16)) {
+            in.readNBytes(size);
+            readLine(in);
+        }
+        readLine(in);
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int next;
+        while ((next = in.read()) != '\n') {
+            if (next < 0) {
+                throw new IOException("Connection closed mid-response");
+            }
+            if (next != '\r') {
+                line.append((char) next);
+            }
+        }
+        return line.toString();
+    }
+
+    private long usedHeapKb() throws Exception {
+        jcmd("GC.run");
+        Matcher used = HEAP_USED.matcher(jcmd("GC.heap_info"));
+        if (!used.find()) {
+            throw new IllegalStateException("Could not read heap usage of the " + impl + " server");
+        }
+        return Long.parseLong(used.group(1));
+    }
+
+    private long residentKb() throws IOException {
+        Matcher rss = VM_RSS.matcher(Files.readString(Path.of("/proc", String.valueOf(server.pid()), "status")));
+        if (!rss.find()) {
+            throw new IllegalStateException("Could not read resident memory of the " + impl + " server");
+        }
+        return Long.parseLong(rss.group(1));
+    }
+
+    private String jcmd(String command) throws Exception {
+        String jcmd = Path.of(System.getProperty("java.home"), "bin", "jcmd").toString();
+        Process process = new ProcessBuilder(jcmd, String.valueOf(server.pid()), command)
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        process.waitFor();
+        return output;
+    }
+}
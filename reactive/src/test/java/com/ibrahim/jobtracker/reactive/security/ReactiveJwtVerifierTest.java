@@ -0,0 +1,29 @@
+package com.ibrahim.jobtracker.reactive.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReactiveJwtVerifierTest {
+
+    @Test
+    void shouldRefuseMissingMalformedOrShortSecrets() {
+        assertThatThrownBy(() -> new ReactiveJwtVerifier(""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("must be set");
+        assertThatThrownBy(() -> new ReactiveJwtVerifier("not base64!"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Base64");
+        // "short-key" is 9 bytes.
+        assertThatThrownBy(() -> new ReactiveJwtVerifier("c2hvcnQta2V5"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("at least 32 bytes");
+    }
+
+    @Test
+    void shouldAcceptA256BitSecret() {
+        assertThat(ReactiveJwtVerifier.signingKey("cmVhY3RpdmUtaW50ZWdyYXRpb24tdGVzdC1rZXktMzItYnl0ZXMhIQ==")
+                .getEncoded()).hasSize(40);
+    }
+}
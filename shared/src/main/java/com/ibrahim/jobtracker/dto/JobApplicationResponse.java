@@ -19,4 +19,5 @@ public class JobApplicationResponse {
     private Long userId;
     private Instant createdAt;
     private Instant updatedAt;
+    private Long version;
 }
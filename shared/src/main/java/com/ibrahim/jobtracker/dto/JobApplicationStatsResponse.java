@@ -0,0 +1,28 @@
+package com.ibrahim.jobtracker.dto;
+
+import java.util.Map;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationStatsResponse {
+    private long totalApplications;
+    private long interviews;
+    private long offers;
+    private long rejected;
+
+    public static JobApplicationStatsResponse from(Map<ApplicationStatus, Long> countsByStatus) {
+        long total = countsByStatus.values().stream().mapToLong(Long::longValue).sum();
+        return new JobApplicationStatsResponse(
+                total,
+                countsByStatus.getOrDefault(ApplicationStatus.INTERVIEW, 0L),
+                countsByStatus.getOrDefault(ApplicationStatus.OFFER, 0L),
+                countsByStatus.getOrDefault(ApplicationStatus.REJECTED, 0L)
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.ibrahim.jobtracker.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+
+/**
+ * A listing row requested with {@code fields=summary}: a {@link JobApplicationResponse} whose {@code notes} were not
+ * selected and are therefore left out of the JSON rather than written as {@code null}.
+ */
+@JsonIgnoreProperties("notes")
+public class JobApplicationSummaryResponse extends JobApplicationResponse {
+
+    public JobApplicationSummaryResponse(
+            Long id,
+            String companyName,
+            String position,
+            ApplicationStatus status,
+            LocalDate appliedDate,
+            Long userId,
+            Instant createdAt,
+            Instant updatedAt,
+            Long version
+    ) {
+        super(id, companyName, position, status, appliedDate, null, userId, createdAt, updatedAt, version);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ibrahim.jobtracker.dto;
+
+import java.util.Locale;
+
+public enum JobListFields {
+    ALL,
+    SUMMARY;
+
+    public static JobListFields from(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("fields must be one of: all, summary");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.ibrahim.jobtracker.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PageResponse<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private Long totalElements;
+    private Integer totalPages;
+    private Boolean totalApproximate;
+    private boolean first;
+    private boolean last;
+    private int numberOfElements;
+
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return PageResponse.<T>builder()
+                .content(page.getContent())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .first(page.isFirst())
+                .last(page.isLast())
+                .numberOfElements(page.getNumberOfElements())
+                .build();
+    }
+
+    public static <T> PageResponse<T> from(Slice<T> slice) {
+        return PageResponse.<T>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .numberOfElements(slice.getNumberOfElements())
+                .build();
+    }
+
+    /**
+     * Uses {@code estimatedTotal}, raised to cover the rows seen so far, unless the slice is a non-empty (or the first)
+     * last page, whose offset plus content is the exact total.
+     */
+    public static <T> PageResponse<T> approximate(Slice<T> slice, long estimatedTotal) {
+        long seen = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+        boolean exact = !slice.hasNext() && (slice.hasContent() || slice.isFirst());
+        long total = exact ? seen : slice.hasNext() ? Math.max(estimatedTotal, seen + 1) : estimatedTotal;
+        return PageResponse.<T>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .totalElements(total)
+                .totalPages((int) Math.ceil((double) total / slice.getSize()))
+                .totalApproximate(exact ? null : true)
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .numberOfElements(slice.getNumberOfElements())
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+
+/**
+ * Read-only listing rows selected column by column, so listings skip entity hydration, dirty-checking snapshots and
+ * the lazy {@code user} proxy ({@code userId} is read straight from {@code job_applications.user_id}).
+ */
+public interface JobApplicationListItem {
+
+    Long id();
+
+    String companyName();
+
+    String position();
+
+    ApplicationStatus status();
+
+    LocalDate appliedDate();
+
+    String notes();
+
+    Long userId();
+
+    Instant createdAt();
+
+    Instant updatedAt();
+
+    Long version();
+
+    record Full(
+            Long id,
+            String companyName,
+            String position,
+            ApplicationStatus status,
+            LocalDate appliedDate,
+            String notes,
+            Long userId,
+            Instant createdAt,
+            Instant updatedAt,
+            Long version
+    ) implements JobApplicationListItem {
+    }
+
+    /**
+     * Leaves the up to 2000 character {@code notes} column out of the select list.
+     */
+    record Summary(
+            Long id,
+            String companyName,
+            String position,
+            ApplicationStatus status,
+            LocalDate appliedDate,
+            Long userId,
+            Instant createdAt,
+            Instant updatedAt,
+            Long version
+    ) implements JobApplicationListItem {
+
+        @Override
+        public String notes() {
+            return null;
+        }
+    }
+}
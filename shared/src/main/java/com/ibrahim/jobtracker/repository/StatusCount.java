@@ -0,0 +1,22 @@
+package com.ibrahim.jobtracker.repository;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ibrahim.jobtracker.entity.ApplicationStatus;
+
+public interface StatusCount {
+
+    ApplicationStatus getStatus();
+
+    long getCount();
+
+    static Map<ApplicationStatus, Long> toMap(List<? extends StatusCount> counts) {
+        Map<ApplicationStatus, Long> byStatus = new EnumMap<>(ApplicationStatus.class);
+        for (StatusCount count : counts) {
+            byStatus.merge(count.getStatus(), count.getCount(), Long::sum);
+        }
+        return byStatus;
+    }
+}
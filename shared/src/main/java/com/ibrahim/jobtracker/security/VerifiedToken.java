@@ -0,0 +1,21 @@
+package com.ibrahim.jobtracker.security;
+
+import java.time.Instant;
+
+public record VerifiedToken(
+        String subject,
+        String role,
+        Long userId,
+        Integer tokenVersion,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    public boolean hasPrincipalClaims() {
+        return userId != null && tokenVersion != null && role != null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ibrahim.jobtracker.util;
+
+import com.ibrahim.jobtracker.exception.PreconditionFailedException;
+
+/**
+ * Strong ETags for job resources. Listings and stats are tagged with the owner's jobs version (the sum of all versions
+ * for admins), single jobs with their {@code @Version}.
+ */
+public final class JobApplicationETags {
+
+    private static final String ANY = "*";
+
+    private JobApplicationETags() {
+    }
+
+    public static String jobs(Long userId, long jobsVersion) {
+        return collection("jobs", userId, jobsVersion);
+    }
+
+    public static String stats(Long userId, long jobsVersion) {
+        return collection("stats", userId, jobsVersion);
+    }
+
+    public static String job(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Returns the job version named by an {@code If-Match} header, or {@code null} when the header is absent or
+     * {@code *}. Anything other than a single strong job ETag can never match and fails the precondition.
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.valueOf(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // Falls through to the precondition failure below.
+            }
+        }
+        throw new PreconditionFailedException("If-Match must be the ETag of the current job application");
+    }
+
+    private static String collection(String kind, Long userId, long jobsVersion) {
+        String scope = userId == null ? "all" : "u" + userId;
+        return "\"" + kind + "-" + scope + "-" + jobsVersion + "\"";
+    }
+}
@@ -1,101 +0,0 @@
-package com.ibrahim.jobtracker.controller;
-
-import com.ibrahim.jobtracker.dto.JobApplicationRequest;
-import com.ibrahim.jobtracker.dto.JobApplicationResponse;
-import com.ibrahim.jobtracker.dto.JobApplicationStatsResponse;
-import com.ibrahim.jobtracker.dto.PageResponse;
-import com.ibrahim.jobtracker.entity.ApplicationStatus;
-import com.ibrahim.jobtracker.service.JobApplicationService;
-import jakarta.validation.Valid;
-import jakarta.validation.constraints.Max;
-import jakarta.validation.constraints.Min;
-import lombok.extern.slf4j.Slf4j;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.PutMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.RestController;
-
-@RestController
-@Slf4j
-@Validated
-@RequiredArgsConstructor
-@PreAuthorize("hasAnyRole('USER','ADMIN')")
-@RequestMapping("/api/jobs")
-public class JobApplicationController {
-
-    private static final int MAX_SIZE = 100;
-
-    private final JobApplicationService service;
-
-    @GetMapping
-    public ResponseEntity<PageResponse<JobApplicationResponse>> getJobs(
-            @RequestParam(name = "status", required = false) ApplicationStatus status,
-            @RequestParam(name = "page", defaultValue = "0") @Min(0) int page,
-            @RequestParam(name = "size", defaultValue = "10") @Min(1) @Max(MAX_SIZE) int size,
-            @RequestParam(name = "sort", defaultValue = "desc") String sort,
-            Authentication authentication
-    ) {
-        Sort.Direction direction = "asc".equalsIgnoreCase(sort) ? Sort.Direction.ASC : Sort.Direction.DESC;
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(direction, "appliedDate"));
-        boolean isAdmin = hasRole(authentication, "ROLE_ADMIN");
-        log.debug("GET /api/jobs by user={} admin={} page={} size={} status={} sort={}",
-                authentication.getName(), isAdmin, page, size, status, sort);
-
-        Page<JobApplicationResponse> jobPage = service.getJobs(status, pageRequest, authentication.getName(), isAdmin);
-        return ResponseEntity.ok(PageResponse.from(jobPage));
-    }
-
-    @GetMapping("/stats")
-    public ResponseEntity<JobApplicationStatsResponse> getStats(Authentication authentication) {
-        boolean isAdmin = hasRole(authentication, "ROLE_ADMIN");
-        log.debug("GET /api/jobs/stats by user={} admin={}", authentication.getName(), isAdmin);
-        return ResponseEntity.ok(service.getStats(authentication.getName(), isAdmin));
-    }
-
-    @PostMapping
-    public ResponseEntity<JobApplicationResponse> create(
-            @Valid @RequestBody JobApplicationRequest request,
-            Authentication authentication
-    ) {
-        log.debug("POST /api/jobs by user={}", authentication.getName());
-        return ResponseEntity.status(HttpStatus.CREATED).body(service.create(request, authentication.getName()));
-    }
-
-    @PutMapping("/{id}")
-    public ResponseEntity<JobApplicationResponse> update(
-            @PathVariable Long id,
-            @Valid @RequestBody JobApplicationRequest request,
-            Authentication authentication
-    ) {
-        boolean isAdmin = hasRole(authentication, "ROLE_ADMIN");
-        log.debug("PUT /api/jobs/{} by user={} admin={}", id, authentication.getName(), isAdmin);
-        return ResponseEntity.ok(service.update(id, request, authentication.getName(), isAdmin));
-    }
-
-    @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id, Authentication authentication) {
-        boolean isAdmin = hasRole(authentication, "ROLE_ADMIN");
-        log.debug("DELETE /api/jobs/{} by user={} admin={}", id, authentication.getName(), isAdmin);
-        service.delete(id, authentication.getName(), isAdmin);
-        return ResponseEntity.noContent().build();
-    }
-
-    private boolean hasRole(Authentication authentication, String role) {
-        return authentication.getAuthorities().stream()
-                .anyMatch(authority -> role.equals(authority.getAuthority()));
-    }
-}
@@ -1,34 +0,0 @@
-package com.ibrahim.jobtracker.dto;
-
-import java.util.List;
-
-import lombok.Builder;
-import lombok.Getter;
-import org.springframework.data.domain.Page;
-
-@Getter
-@Builder
-public class PageResponse<T> {
-    private List<T> content;
-    private int page;
-    private int size;
-    private long totalElements;
-    private int totalPages;
-    private boolean first;
-    private boolean last;
-    private int numberOfElements;
-
-    public static <T> PageResponse<T> from(Page<T> page) {
-        return PageResponse.<T>builder()
-                .content(page.getContent())
-                .page(page.getNumber())
-                .size(page.getSize())
-                .totalElements(page.getTotalElements())
-                .totalPages(page.getTotalPages())
-                .first(page.isFirst())
-                .last(page.isLast())
-                .numberOfElements(page.getNumberOfElements())
-                .build();
-    }
-}
-
@@ -1,16 +0,0 @@
-package com.ibrahim.jobtracker.repository;
-
-import java.util.Optional;
-
-import com.ibrahim.jobtracker.entity.User;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByUsername(String username);
-
-    Optional<User> findByEmail(String email);
-
-    boolean existsByUsername(String username);
-
-    boolean existsByEmail(String email);
-}
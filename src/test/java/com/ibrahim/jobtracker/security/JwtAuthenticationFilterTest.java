@@ -1,89 +0,0 @@
-package com.ibrahim.jobtracker.security;
-
-import java.io.IOException;
-import java.util.List;
-
-import jakarta.servlet.ServletException;
-import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.Test;
-import org.springframework.mock.web.MockFilterChain;
-import org.springframework.mock.web.MockHttpServletRequest;
-import org.springframework.mock.web.MockHttpServletResponse;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
-
-import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
-
-class JwtAuthenticationFilterTest {
-
-    @AfterEach
-    void tearDown() {
-        SecurityContextHolder.clearContext();
-    }
-
-    @Test
-    void shouldSkipWhenAuthorizationHeaderMissing() throws ServletException, IOException {
-        JwtService jwtService = mock(JwtService.class);
-        CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, userDetailsService);
-
-        MockHttpServletRequest request = new MockHttpServletRequest();
-        MockHttpServletResponse response = new MockHttpServletResponse();
-        MockFilterChain chain = new MockFilterChain();
-
-        filter.doFilter(request, response, chain);
-
-        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
-    }
-
-    @Test
-    void shouldAuthenticateWhenTokenIsValid() throws ServletException, IOException {
-        JwtService jwtService = mock(JwtService.class);
-        CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, userDetailsService);
-
-        UserDetails userDetails = new User(
-                "alice",
-                "hashed",
-                List.of(new SimpleGrantedAuthority("ROLE_USER"))
-        );
-
-        when(jwtService.extractUsername("valid-token")).thenReturn("alice");
-        when(userDetailsService.loadUserByUsername("alice")).thenReturn(userDetails);
-        when(jwtService.isTokenValid("valid-token", userDetails)).thenReturn(true);
-
-        MockHttpServletRequest request = new MockHttpServletRequest();
-        request.addHeader("Authorization", "Bearer valid-token");
-        MockHttpServletResponse response = new MockHttpServletResponse();
-        MockFilterChain chain = new MockFilterChain();
-
-        filter.doFilter(request, response, chain);
-
-        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
-        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("alice");
-        verify(userDetailsService).loadUserByUsername("alice");
-    }
-
-    @Test
-    void shouldIgnoreMalformedTokenAndContinueFilterChain() throws ServletException, IOException {
-        JwtService jwtService = mock(JwtService.class);
-        CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, userDetailsService);
-
-        when(jwtService.extractUsername("bad-token")).thenThrow(new RuntimeException("bad token"));
-
-        MockHttpServletRequest request = new MockHttpServletRequest();
-        request.addHeader("Authorization", "Bearer bad-token");
-        MockHttpServletResponse response = new MockHttpServletResponse();
-        MockFilterChain chain = new MockFilterChain();
-
-        filter.doFilter(request, response, chain);
-
-        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
-    }
-}